@@ -2,6 +2,7 @@ package org.rsultan.core;
 
 import java.io.Serializable;
 import org.rsultan.dataframe.Dataframe;
+import org.rsultan.dataframe.LazyDataframe;
 
 public interface Trainable<T> extends Serializable {
 
@@ -9,4 +10,12 @@ public interface Trainable<T> extends Serializable {
 
   Dataframe predict(Dataframe dataframe);
 
+  default T train(LazyDataframe dataframe) {
+    return train(dataframe.collect());
+  }
+
+  default Dataframe predict(LazyDataframe dataframe) {
+    return predict(dataframe.collect());
+  }
+
 }
@@ -1,11 +1,16 @@
 package org.rsultan.core.clustering.centroid;
 
+import static java.util.stream.IntStream.range;
 import static org.nd4j.linalg.ops.transforms.Transforms.allManhattanDistances;
 
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.nd4j.linalg.factory.Nd4j;
+import org.rsultan.dataframe.QuantileSketch;
 
 public class MedianFactory implements MedoidFactory {
 
+  private static final int SKETCH_THRESHOLD = 1 << 16;
+
   @Override
   public INDArray computeDistance(INDArray centroids, INDArray vector) {
     return allManhattanDistances(centroids, vector, 1);
@@ -13,7 +18,15 @@ public class MedianFactory implements MedoidFactory {
 
   @Override
   public INDArray computeMedoids(INDArray assignedCentroids) {
-    return assignedCentroids.median(0);
+    if (assignedCentroids.rows() <= SKETCH_THRESHOLD) {
+      return assignedCentroids.median(0);
+    }
+    var medians = range(0, assignedCentroids.columns()).parallel()
+        .mapToDouble(col -> QuantileSketch.of(assignedCentroids.getColumn(col).toDoubleVector())
+            .quantile(0.5))
+        .toArray();
+    return Nd4j.create(medians, new long[]{assignedCentroids.columns()},
+        assignedCentroids.dataType());
   }
 
   @Override
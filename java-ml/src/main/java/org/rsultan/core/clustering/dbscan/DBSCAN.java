@@ -5,7 +5,6 @@ import static java.util.Map.entry;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
 import static org.nd4j.linalg.ops.transforms.Transforms.allEuclideanDistances;
-import static org.nd4j.linalg.ops.transforms.Transforms.normalizeZeroMeanAndUnitVariance;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -37,7 +36,7 @@ public class DBSCAN implements Clustering {
 
   @Override
   public Dataframe predict(Dataframe dataframe) {
-    var X = normalizeZeroMeanAndUnitVariance(dataframe.toMatrix());
+    var X = dataframe.toStandardizedMatrix();
     var visited = new boolean[X.rows()];
     var clusters = new ArrayList<Set<Integer>>();
 
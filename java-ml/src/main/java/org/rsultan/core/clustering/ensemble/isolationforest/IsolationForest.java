@@ -2,6 +2,7 @@ package org.rsultan.core.clustering.ensemble.isolationforest;
 
 import static java.util.stream.IntStream.range;
 import static org.rsultan.core.clustering.ensemble.isolationforest.utils.ScoreUtils.averagePathLength;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -50,7 +51,7 @@ public class IsolationForest implements Trainable<IsolationForest> {
 
   @Override
   public IsolationForest train(Dataframe dataframe) {
-    var matrix = dataframe.toMatrix();
+    var matrix = sharedMatrix(dataframe);
     int realSample = sampleSize >= matrix.rows() ? sampleSize / 10 : sampleSize;
     int treeDepth = (int) Math.ceil(Math.log(realSample) / Math.log(2));
     isolationTrees = range(0, nbTrees).parallel()
@@ -71,7 +72,7 @@ public class IsolationForest implements Trainable<IsolationForest> {
 
   @Override
   public Dataframe predict(Dataframe dataframe) {
-    var matrix = dataframe.toMatrix();
+    var matrix = sharedMatrix(dataframe);
     var anomalyScores = computeAnomalyScore(matrix);
     final DoubleStream doubleStream = DoubleStream.of(
             anomalyScores.toDoubleVector()
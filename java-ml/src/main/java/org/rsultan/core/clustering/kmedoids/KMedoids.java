@@ -4,6 +4,7 @@ import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.LongStream.range;
 import static java.util.stream.LongStream.rangeClosed;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 
 import java.util.Arrays;
 import java.util.stream.LongStream;
@@ -52,7 +53,7 @@ public abstract class KMedoids implements Clustering {
 
   @Override
   public KMedoids train(Dataframe dataframe) {
-    X = dataframe.toMatrix();
+    X = sharedMatrix(dataframe);
     Xt = X.transpose();
     var medoidFactory = medoidType.getMedoidFactory();
 
@@ -90,7 +91,7 @@ public abstract class KMedoids implements Clustering {
   @Override
   public Dataframe predict(Dataframe dataframe) {
     var medoidFactory = medoidType.getMedoidFactory();
-    var Xpredict = dataframe.toMatrix();
+    var Xpredict = sharedMatrix(dataframe);
     var distances = medoidFactory.computeDistance(centroids, Xpredict).transpose();
     var centers = LongStream.of(Nd4j.argMin(distances, 1).toLongVector()).boxed().collect(toList());
     return dataframe.addColumn(new Column<>("K", centers))
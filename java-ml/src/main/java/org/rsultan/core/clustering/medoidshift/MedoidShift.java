@@ -3,6 +3,7 @@ package org.rsultan.core.clustering.medoidshift;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.LongStream.range;
 import static java.util.stream.LongStream.rangeClosed;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -37,7 +38,7 @@ public abstract class MedoidShift implements Clustering {
   public MedoidShift train(Dataframe dataframe) {
     var medoidFactory = medoidType.getMedoidFactory();
     var isTerminated = new AtomicBoolean(false);
-    Xt = dataframe.toMatrix().transpose();
+    Xt = sharedMatrix(dataframe).transpose();
     centroids = Xt.dup();
     range(0, epoch)
         .filter(epoch -> !isTerminated.get())
@@ -70,7 +71,7 @@ public abstract class MedoidShift implements Clustering {
   @Override
   public Dataframe predict(Dataframe dataframe) {
     var medoidFactory = medoidType.getMedoidFactory();
-    var Xpredict = dataframe.toMatrix();
+    var Xpredict = sharedMatrix(dataframe);
     var distances = medoidFactory.computeDistance(Xpredict, centroids.transpose());
     var indices = Nd4j.argMin(distances, 1);
     var predictions = centroids.transpose().get(indices);
@@ -4,6 +4,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
 import static org.nd4j.common.util.ArrayUtil.argsort;
 import static org.nd4j.linalg.eigen.Eigen.symmetricGeneralizedEigenvalues;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 
 import java.util.List;
 import org.nd4j.linalg.api.ndarray.INDArray;
@@ -34,14 +35,14 @@ public class PrincipalComponentAnalysis implements
 
   @Override
   public PrincipalComponentAnalysis train(Dataframe dataframe) {
-    var X = dataframe.mapWithout(responseVariable).toMatrix();
+    var X = sharedMatrix(dataframe.mapWithout(responseVariable));
     this.responseVariableData = dataframe.get(responseVariable);
     return this.train(X);
   }
 
   @Override
   public Dataframe predict(Dataframe dataframe) {
-    var Xpredict = dataframe.mapWithout(responseVariable).toMatrix();
+    var Xpredict = sharedMatrix(dataframe.mapWithout(responseVariable));
     LOG.info("computing predictions");
     this.predict(Xpredict);
     List<Column<?>> columns = range(0, predictions.columns())
@@ -3,18 +3,14 @@ package org.rsultan.core.ensemble.rf;
 import static java.lang.Math.sqrt;
 import static java.util.Objects.isNull;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.IntStream.range;
 import static org.nd4j.common.util.MathUtils.round;
-import static org.nd4j.linalg.factory.Nd4j.create;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 
 import java.util.List;
 import java.util.UUID;
 import org.nd4j.linalg.api.ndarray.INDArray;
-import org.nd4j.linalg.factory.Nd4j;
-import org.nd4j.linalg.indexing.conditions.Conditions;
 import org.rsultan.core.tree.DecisionTreeClassifier;
 import org.rsultan.core.tree.DecisionTreeLearning;
-import org.rsultan.core.tree.domain.Node;
 import org.rsultan.core.tree.impurity.ImpurityStrategy;
 import org.rsultan.dataframe.Dataframe;
 
@@ -69,6 +65,18 @@ public class RandomForestClassifier extends RandomForestLearning {
     return this;
   }
 
+  @Override
+  public RandomForestClassifier setMaxBins(int maxBins) {
+    super.setMaxBins(maxBins);
+    return this;
+  }
+
+  @Override
+  public RandomForestClassifier compile() {
+    super.compile();
+    return this;
+  }
+
   @Override
   protected List<?> getResponseValues(Dataframe dataframe) {
     return dataframe.get(responseVariableName).stream().sorted().distinct().collect(toList());
@@ -80,8 +88,8 @@ public class RandomForestClassifier extends RandomForestLearning {
       responses = getResponseValues(dataframe);
     }
     var columnTemp = UUID.randomUUID().toString();
-    return dataframe.map(columnTemp, responses::indexOf, responseVariableName)
-        .toMatrix(columnTemp);
+    return sharedMatrix(dataframe.map(columnTemp, responses::indexOf, responseVariableName),
+        columnTemp);
   }
 
   @Override
@@ -89,7 +97,8 @@ public class RandomForestClassifier extends RandomForestLearning {
     return new RandomForestClassifierTree(treeDepth, impurityStrategy, this.features,
         this.responses)
         .setResponseVariableName(responseVariableName)
-        .setPredictionColumnName(predictionColumnName);
+        .setPredictionColumnName(predictionColumnName)
+        .setMaxBins(maxBins);
   }
 
   @Override
@@ -98,16 +107,18 @@ public class RandomForestClassifier extends RandomForestLearning {
   }
 
   @Override
-  protected List<?> getFinalPredictions(INDArray predictionMatrix) {
-    return range(0, predictionMatrix.columns()).parallel()
-        .mapToObj(predictionMatrix::getColumn)
-        .map(label -> range(0, responses.size()).parallel()
-            .mapToObj(i -> label.getWhere((double) i, Conditions.equals()))
-            .mapToDouble(vector -> vector == null ? 0.0D : vector.columns())
-            .toArray())
-        .map(doubleArray -> create(doubleArray, doubleArray.length, 1))
-        .map(v -> Nd4j.argMax(v).getInt(0, 0))
-        .map(responses::get).collect(toList());
+  protected Object getFinalPrediction(double[] treePredictions) {
+    var votes = new int[responses.size()];
+    for (double prediction : treePredictions) {
+      votes[(int) prediction]++;
+    }
+    int best = 0;
+    for (int label = 1; label < votes.length; label++) {
+      if (votes[label] > votes[best]) {
+        best = label;
+      }
+    }
+    return responses.get(best);
   }
 
   private static class RandomForestClassifierTree extends DecisionTreeClassifier {
@@ -127,13 +138,13 @@ public class RandomForestClassifier extends RandomForestLearning {
     }
 
     @Override
-    protected Object getPredictionNodeFeatureName(Node node) {
-      return parentFeatureNames.get((int) features.get(node.feature()));
+    protected String getPredictionFeatureName(int feature) {
+      return parentFeatureNames.get((int) features.get(feature)).toString();
     }
 
     @Override
-    protected Object getNodePrediction(Node node) {
-      return node.predictedResponse().intValue();
+    protected Object getPrediction(double value) {
+      return (int) value;
     }
   }
 }
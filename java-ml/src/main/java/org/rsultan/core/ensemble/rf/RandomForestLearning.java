@@ -4,17 +4,22 @@ import static java.lang.Math.min;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 import org.nd4j.linalg.api.ndarray.INDArray;
-import org.nd4j.linalg.factory.Nd4j;
 import org.rsultan.core.ModelParameters;
 import org.rsultan.core.Trainable;
 import org.rsultan.core.tree.DecisionTreeLearning;
+import org.rsultan.core.tree.FeatureBins;
+import org.rsultan.core.tree.codegen.CompiledTrees;
+import org.rsultan.core.tree.codegen.TreeCompiler;
+import org.rsultan.core.tree.domain.FlatTree;
 import org.rsultan.dataframe.Column;
 import org.rsultan.dataframe.Dataframe;
 import org.slf4j.Logger;
@@ -30,11 +35,13 @@ public abstract class RandomForestLearning extends ModelParameters<RandomForestL
   protected double sampleSizeRatio = 0.25;
   protected int treeDepth = 1;
   protected int sampleFeatures = 0;
+  protected int maxBins = 0;
 
   protected List<?> responses;
   protected List<?> features;
 
-  private List<? extends DecisionTreeLearning> trees;
+  private List<FlatTree> trees;
+  private transient CompiledTrees compiledTrees;
 
   public RandomForestLearning(int numberOfEstimators) {
     this.numberOfEstimators = numberOfEstimators < 1 ? 10 : numberOfEstimators;
@@ -49,7 +56,7 @@ public abstract class RandomForestLearning extends ModelParameters<RandomForestL
 
   protected abstract int getFeatureSampleSize(int numberOfFeatures);
 
-  protected abstract List<?> getFinalPredictions(INDArray predictionMatrix);
+  protected abstract Object getFinalPrediction(double[] treePredictions);
 
   @Override
   public RandomForestLearning train(Dataframe dataframe) {
@@ -61,12 +68,14 @@ public abstract class RandomForestLearning extends ModelParameters<RandomForestL
     features = columns.stream().map(Column::columnName).collect(toList());
     responses = getResponseValues(dataframe);
 
-    var X = dfFeatures.toMatrix();
+    var X = sharedMatrix(dfFeatures);
     var Y = buildY(dataframe);
 
     int rowSampleSize = (int) (X.rows() * sampleSizeRatio);
     int featureSampleSize = getFeatureSampleSize(X.columns());
+    var bins = maxBins > 0 ? FeatureBins.of(X, maxBins) : null;
 
+    compiledTrees = null;
     trees = range(0, numberOfEstimators)
         .peek(idx -> LOG.debug("Tree number: " + (idx + 1)))
         .mapToObj(idx -> buildDecisionTreeLearning())
@@ -74,20 +83,23 @@ public abstract class RandomForestLearning extends ModelParameters<RandomForestL
           var subRowIndices = getSampleIndices(X.rows(), min(rowSampleSize, X.rows()));
           var subFeatureIndices = getSampleIndices(X.columns(),
               min(featureSampleSize, X.columns()));
-          var localFeatures = stream(subFeatureIndices).mapToObj(features::get)
-              .map(features::indexOf).collect(toList());
-          var Xsampled = X.getRows(subRowIndices).getColumns(subFeatureIndices);
+          var localFeatures = stream(subFeatureIndices).boxed().collect(toList());
+          var Xsampled = bins != null ? null
+              : X.getRows(subRowIndices).getColumns(subFeatureIndices);
           var Ysampled = Y.getRows(subRowIndices);
-          return executor.submit(
-              () -> decisionTreeLearning.setFeatures(localFeatures)
-                  .train(Xsampled, Ysampled)
-          );
+          return executor.submit(() -> {
+            var learning = decisionTreeLearning.setFeatures(localFeatures);
+            var trained = bins != null
+                ? learning.train(bins.select(subRowIndices, subFeatureIndices), Ysampled)
+                : learning.train(Xsampled, Ysampled);
+            return trained.getFlatTree().mapFeatures(subFeatureIndices);
+          });
         }).map(this::getFuture).collect(toList());
     executor.shutdown();
     return this;
   }
 
-  private DecisionTreeLearning getFuture(Future<DecisionTreeLearning> future) {
+  private FlatTree getFuture(Future<FlatTree> future) {
     try {
       return future.get();
     } catch (Exception e) {
@@ -96,24 +108,50 @@ public abstract class RandomForestLearning extends ModelParameters<RandomForestL
   }
 
   private int[] getSampleIndices(int m, int rowSampleSize) {
-    List<Integer> collect = range(0, m).boxed().collect(toList());
-    Collections.shuffle(collect);
-    return collect.subList(0, rowSampleSize).stream().mapToInt(i -> i).toArray();
+    var indices = range(0, m).toArray();
+    var random = ThreadLocalRandom.current();
+    for (int i = 0; i < rowSampleSize; i++) {
+      int swap = i + random.nextInt(m - i);
+      int index = indices[swap];
+      indices[swap] = indices[i];
+      indices[i] = index;
+    }
+    return Arrays.copyOf(indices, rowSampleSize);
   }
 
   @Override
   public Dataframe predict(Dataframe dataframe) {
-    var allPredictions = this.trees.parallelStream()
-        .map(tree -> tree.<Double>predict(dataframe.getRowSize(), dataframe))
-        .map(Nd4j::create)
+    int rows = dataframe.getRowSize();
+    var columns = FlatTree.featureColumns(dataframe, features.size(),
+        feature -> features.get(feature).toString(), trees);
+    var treePredictions = trees.parallelStream()
+        .map(tree -> tree.predictColumns(columns, rows))
+        .toArray(double[][]::new);
+    List<?> predictions = range(0, rows).parallel()
+        .mapToObj(row -> getFinalPrediction(stream(treePredictions)
+            .mapToDouble(prediction -> prediction[row])
+            .toArray()))
         .collect(toList());
-    long rows = allPredictions.size();
-    long cols = allPredictions.get(0).columns();
-    var predictionMatrix = Nd4j.create(allPredictions, rows, cols);
-    List<?> predictions = getFinalPredictions(predictionMatrix);
     return dataframe.addColumn(new Column<>(predictionColumnName, predictions));
   }
 
+  public Object predict(double[] features) {
+    var treePredictions = new double[trees.size()];
+    if (compiledTrees == null) {
+      for (int tree = 0; tree < treePredictions.length; tree++) {
+        treePredictions[tree] = trees.get(tree).predict(features);
+      }
+    } else {
+      compiledTrees.predict(features, treePredictions);
+    }
+    return getFinalPrediction(treePredictions);
+  }
+
+  public RandomForestLearning compile() {
+    this.compiledTrees = TreeCompiler.compileOrInterpret(trees);
+    return this;
+  }
+
   public RandomForestLearning setSampleSizeRatio(double sampleSizeRatio) {
     this.sampleSizeRatio = sampleSizeRatio;
     return this;
@@ -128,4 +166,9 @@ public abstract class RandomForestLearning extends ModelParameters<RandomForestL
     this.sampleFeatures = sampleFeatures;
     return this;
   }
+
+  public RandomForestLearning setMaxBins(int maxBins) {
+    this.maxBins = maxBins;
+    return this;
+  }
 }
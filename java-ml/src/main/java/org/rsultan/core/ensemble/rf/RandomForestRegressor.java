@@ -1,15 +1,13 @@
 package org.rsultan.core.ensemble.rf;
 
 import static java.lang.Math.max;
-import static java.util.Arrays.stream;
-import static java.util.stream.Collectors.toList;
 import static org.nd4j.common.util.MathUtils.round;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 
 import java.util.List;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.rsultan.core.tree.DecisionTreeLearning;
 import org.rsultan.core.tree.DecisionTreeRegressor;
-import org.rsultan.core.tree.domain.Node;
 import org.rsultan.dataframe.Dataframe;
 
 public class RandomForestRegressor extends RandomForestLearning {
@@ -49,14 +47,15 @@ public class RandomForestRegressor extends RandomForestLearning {
 
   @Override
   protected INDArray buildY(Dataframe dataframe) {
-    return dataframe.toMatrix(responseVariableName);
+    return sharedMatrix(dataframe, responseVariableName);
   }
 
   @Override
   protected DecisionTreeLearning buildDecisionTreeLearning() {
     return new RandomForestRegressorTree(treeDepth, features, responses)
         .setResponseVariableName(responseVariableName)
-        .setPredictionColumnName(predictionColumnName);
+        .setPredictionColumnName(predictionColumnName)
+        .setMaxBins(maxBins);
   }
 
   @Override
@@ -65,9 +64,12 @@ public class RandomForestRegressor extends RandomForestLearning {
   }
 
   @Override
-  protected List<?> getFinalPredictions(INDArray predictionMatrix) {
-    double[] bestResponses = predictionMatrix.mean(true, 0).toDoubleVector();
-    return stream(bestResponses).boxed().collect(toList());
+  protected Object getFinalPrediction(double[] treePredictions) {
+    double sum = 0;
+    for (double prediction : treePredictions) {
+      sum += prediction;
+    }
+    return sum / treePredictions.length;
   }
 
   @Override
@@ -88,6 +90,18 @@ public class RandomForestRegressor extends RandomForestLearning {
     return this;
   }
 
+  @Override
+  public RandomForestRegressor setMaxBins(int maxBins) {
+    super.setMaxBins(maxBins);
+    return this;
+  }
+
+  @Override
+  public RandomForestRegressor compile() {
+    super.compile();
+    return this;
+  }
+
   private static class RandomForestRegressorTree extends DecisionTreeRegressor {
 
     private final List<?> parentFeatureNames;
@@ -104,13 +118,13 @@ public class RandomForestRegressor extends RandomForestLearning {
     }
 
     @Override
-    protected Object getPredictionNodeFeatureName(Node node) {
-      return parentFeatureNames.get((int) features.get(node.feature()));
+    protected String getPredictionFeatureName(int feature) {
+      return parentFeatureNames.get((int) features.get(feature)).toString();
     }
 
     @Override
-    protected Object getNodePrediction(Node node) {
-      return node.predictedResponse();
+    protected Object getPrediction(double value) {
+      return value;
     }
   }
 
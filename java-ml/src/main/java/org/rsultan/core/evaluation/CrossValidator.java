@@ -0,0 +1,177 @@
+package org.rsultan.core.evaluation;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import org.rsultan.core.Evaluator;
+import org.rsultan.core.Trainable;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Dataframe;
+import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.DoubleColumn;
+import org.rsultan.dataframe.LongColumn;
+import org.rsultan.dataframe.transform.split.SplitDataframe.TrainTestSplit;
+
+public class CrossValidator<T extends Trainable<T>> {
+
+  public static final String FOLD = "fold";
+  public static final String METRIC = "metric";
+  public static final String MEAN = "mean";
+  public static final String STANDARD_DEVIATION = "std";
+
+  private final Supplier<T> modelSupplier;
+  private final Map<String, Metric<T>> metrics = new LinkedHashMap<>();
+  private final Map<String, Supplier<? extends Evaluator<Double, T>>> evaluators =
+      new LinkedHashMap<>();
+  private int parallelism = Runtime.getRuntime().availableProcessors();
+
+  public CrossValidator(Supplier<T> modelSupplier) {
+    this.modelSupplier = modelSupplier;
+  }
+
+  public CrossValidator<T> addMetric(String name, Metric<T> metric) {
+    checkName(name);
+    metrics.put(name, metric);
+    return this;
+  }
+
+  // Evaluators may keep state while scoring, so each fold gets its own instance
+  public CrossValidator<T> addEvaluator(String name,
+      Supplier<? extends Evaluator<Double, T>> evaluatorSupplier) {
+    checkName(name);
+    evaluators.put(name, evaluatorSupplier);
+    return this;
+  }
+
+  public CrossValidator<T> setParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive");
+    }
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  public CrossValidation evaluate(List<TrainTestSplit> folds) {
+    if (metrics.isEmpty() && evaluators.isEmpty()) {
+      throw new IllegalArgumentException("At least one metric or evaluator is required");
+    }
+    if (folds.isEmpty()) {
+      throw new IllegalArgumentException("At least one fold is required");
+    }
+    var executor = Executors.newFixedThreadPool(Math.min(parallelism, folds.size()));
+    try {
+      var futures = folds.stream()
+          .map(fold -> executor.submit(() -> score(fold)))
+          .collect(toList());
+      var scores = new double[metrics.size() + evaluators.size()][folds.size()];
+      for (int foldIdx = 0; foldIdx < futures.size(); foldIdx++) {
+        var foldScores = getFuture(futures.get(foldIdx));
+        for (int metricIdx = 0; metricIdx < foldScores.length; metricIdx++) {
+          scores[metricIdx][foldIdx] = foldScores[metricIdx];
+        }
+      }
+      var names = new ArrayList<>(metrics.keySet());
+      names.addAll(evaluators.keySet());
+      return new CrossValidation(names, scores);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private double[] score(TrainTestSplit fold) {
+    var model = metrics.isEmpty() ? null : modelSupplier.get().train(fold.train());
+    var trainTest = evaluators.isEmpty() ? null : fold.toTrainTestDataframe().withFixedSplit();
+    return DoubleStream.concat(
+        metrics.values().stream().mapToDouble(metric -> metric.score(model, fold.test())),
+        evaluators.values().stream().mapToDouble(
+            evaluatorSupplier -> evaluatorSupplier.get().evaluate(modelSupplier.get(), trainTest))
+    ).toArray();
+  }
+
+  private void checkName(String name) {
+    if (metrics.containsKey(name) || evaluators.containsKey(name)) {
+      throw new IllegalArgumentException("Duplicate metric " + name);
+    }
+  }
+
+  private static double[] getFuture(Future<double[]> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new RuntimeException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  @FunctionalInterface
+  public interface Metric<T> extends Serializable {
+
+    double score(T model, Dataframe test);
+  }
+
+  public static record CrossValidation(List<String> metricNames, double[][] scores) {
+
+    public double mean(String metricName) {
+      var values = scoresOf(metricName);
+      double sum = 0;
+      for (double value : values) {
+        sum += value;
+      }
+      return sum / values.length;
+    }
+
+    public double standardDeviation(String metricName) {
+      var values = scoresOf(metricName);
+      double mean = mean(metricName);
+      double sumOfSquares = 0;
+      for (double value : values) {
+        sumOfSquares += (value - mean) * (value - mean);
+      }
+      return Math.sqrt(sumOfSquares / values.length);
+    }
+
+    public Dataframe getScores() {
+      var folds = new long[scores.length == 0 ? 0 : scores[0].length];
+      for (int fold = 0; fold < folds.length; fold++) {
+        folds[fold] = fold;
+      }
+      var columns = new ArrayList<Column<?>>();
+      columns.add(new LongColumn(FOLD, folds));
+      for (int metricIdx = 0; metricIdx < metricNames.size(); metricIdx++) {
+        columns.add(new DoubleColumn(metricNames.get(metricIdx), scores[metricIdx]));
+      }
+      return Dataframes.create(columns.toArray(Column[]::new));
+    }
+
+    public Dataframe getSummary() {
+      return Dataframes.create(
+          new Column<>(METRIC, new ArrayList<>(metricNames)),
+          new DoubleColumn(MEAN, metricNames.stream().mapToDouble(this::mean).toArray()),
+          new DoubleColumn(STANDARD_DEVIATION,
+              metricNames.stream().mapToDouble(this::standardDeviation).toArray())
+      );
+    }
+
+    private double[] scoresOf(String metricName) {
+      int metricIdx = metricNames.indexOf(metricName);
+      if (metricIdx < 0) {
+        throw new IllegalArgumentException("Unknown metric " + metricName);
+      }
+      return scores[metricIdx];
+    }
+  }
+}
@@ -16,12 +16,13 @@ import java.util.stream.DoubleStream;
 
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 
 public class LinearRegression extends AbstractRegression {
 
     private Double R2;
     private INDArray SSR;
-    private INDArray SStot;
+    private double SStot;
     private double MSE;
     private double RMSE;
     private INDArray XtXi;
@@ -46,13 +47,13 @@ public class LinearRegression extends AbstractRegression {
     @Override
     public LinearRegression train(Dataframe dataframe) {
         var dataframeIntercept = dataframe.map(INTERCEPT, () -> 1);
-        X = dataframeIntercept.toMatrix(predictorNames);
+        X = sharedMatrix(dataframeIntercept, predictorNames);
         Xt = X.transpose();
-        Y = dataframeIntercept.toVector(responseVariableName);
+        Y = sharedMatrix(dataframeIntercept, responseVariableName);
 
         this.W = computeBeta(X, Y);
         this.RMSE = computeLoss(computeNullHypothesis(X, W));
-        this.SStot = computeSStotal(Y);
+        this.SStot = computeSStotal(dataframe.getColumn(responseVariableName), Y);
         this.R2 = computeRSquare();
 
         double degreesOfFreedom = (double) Y.rows() - (double) W.rows();
@@ -84,7 +85,7 @@ public class LinearRegression extends AbstractRegression {
     @Override
     public Dataframe predict(Dataframe dataframe) {
         var dataframeIntercept = dataframe.map(INTERCEPT, () -> 1);
-        var X = dataframeIntercept.toMatrix(this.predictorNames);
+        var X = sharedMatrix(dataframeIntercept, this.predictorNames);
         var prediction = computeNullHypothesis(X, W);
         var predictions = stream(prediction.toDoubleVector()).boxed().collect(toList());
         var predictionColumn = new Column<>(this.predictionColumnName, predictions);
@@ -123,14 +124,15 @@ public class LinearRegression extends AbstractRegression {
     }
 
     private Double computeRSquare() {
-        var rSquare = SSR.div(this.SStot);
-        return 1 - rSquare.getDouble(0, 0);
+        return 1 - SSR.getDouble(0, 0) / this.SStot;
     }
 
-    private INDArray computeSStotal(INDArray Y) {
-        var YMean = Matrices.vectorAverage(Y);
-        var yDemeaned = Y.sub(YMean);
-        return yDemeaned.transpose().mmul(yDemeaned);
+    private double computeSStotal(Column<?> response, INDArray Y) {
+        if (response.isPrimitive()) {
+            return response.stats().sumOfSquaredDeviations();
+        }
+        var yDemeaned = Y.sub(Y.meanNumber());
+        return yDemeaned.transpose().mmul(yDemeaned).getDouble(0, 0);
     }
 
     private INDArray computeBeta(INDArray X, INDArray Y) {
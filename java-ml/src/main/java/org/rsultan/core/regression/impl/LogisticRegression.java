@@ -3,6 +3,7 @@ package org.rsultan.core.regression.impl;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.LongStream.range;
 import static org.nd4j.linalg.ops.transforms.Transforms.sigmoid;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 
 import java.util.List;
 import java.util.function.Function;
@@ -93,7 +94,7 @@ public class LogisticRegression extends GradientDescentRegression {
   @Override
   public Dataframe predict(Dataframe dataframe) {
     var dataframeIntercept = dataframe.map(INTERCEPT, () -> 1);
-    var X = dataframeIntercept.toMatrix(predictorNames);
+    var X = sharedMatrix(dataframeIntercept, predictorNames);
     var predictions = computeNullHypothesis(X, W);
     var predictionList = range(0, predictions.rows()).boxed()
         .map(predictions::getRow)
@@ -115,14 +116,14 @@ public class LogisticRegression extends GradientDescentRegression {
         .map(INTERCEPT, () -> 1)
         .map(this.chosenLabel, obj -> obj.toString().equals(this.chosenLabel) ? YES : NO, responseVariableName);
 
-    X = df.toMatrix(predictorNames);
+    X = sharedMatrix(df, predictorNames);
     XMean = X.mean(true, 1);
     X = X.div(XMean);
     Xt = X.transpose();
 
     labels = df.get(this.chosenLabel).stream().sorted().distinct().map(Object::toString).collect(toList());
 
-    YoneHot = df.oneHotEncode(this.chosenLabel).select(NO, YES).toMatrix();
+    YoneHot = sharedMatrix(df.oneHotEncode(this.chosenLabel).select(NO, YES));
     Y = YoneHot.argMax(1).castTo(DataType.DOUBLE);
     W = Nd4j.ones(X.columns(), YoneHot.columns());
 
@@ -11,6 +11,7 @@ import java.util.function.Function;
 import static java.util.stream.Collectors.toList;
 import static org.nd4j.linalg.ops.transforms.Transforms.exp;
 import static org.nd4j.linalg.ops.transforms.Transforms.log;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 
 
 public class SoftmaxRegression extends LogisticRegression {
@@ -58,7 +59,7 @@ public class SoftmaxRegression extends LogisticRegression {
     @Override
     public SoftmaxRegression train(Dataframe dataframe) {
         var dataframeIntercept = dataframe.map(INTERCEPT, () -> 1);
-        X = dataframeIntercept.toMatrix(predictorNames);
+        X = sharedMatrix(dataframeIntercept, predictorNames);
         XMean = X.mean(true ,1);
         X = X.div(XMean);
         Xt = X.transpose();
@@ -66,7 +67,7 @@ public class SoftmaxRegression extends LogisticRegression {
                 .distinct().sorted()
                 .map(Object::toString)
                 .collect(toList());
-        YoneHot = dataframe.oneHotEncode(responseVariableName).select(labels.toArray(String[]::new)).toMatrix();
+        YoneHot = sharedMatrix(dataframe.oneHotEncode(responseVariableName).select(labels.toArray(String[]::new)));
         Y = YoneHot.argMax(1).castTo(DataType.DOUBLE);
         W = Nd4j.ones(X.columns(), YoneHot.columns());
         this.run();
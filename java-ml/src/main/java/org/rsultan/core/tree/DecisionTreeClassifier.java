@@ -1,14 +1,12 @@
 package org.rsultan.core.tree;
 
 import static java.util.Arrays.stream;
-import static java.util.Map.Entry.comparingByValue;
 import static java.util.stream.Collectors.toList;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 
-import java.util.Map;
 import java.util.UUID;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.rsultan.core.Trainable;
-import org.rsultan.core.tree.domain.Node;
 import org.rsultan.core.tree.impurity.ImpurityStrategy;
 import org.rsultan.dataframe.Column;
 import org.rsultan.dataframe.Dataframe;
@@ -28,7 +26,7 @@ public class DecisionTreeClassifier extends DecisionTreeLearning implements
     features = stream(dfFeatures.getColumns()).map(Column::columnName).collect(toList());
     responses = dataframe.get(responseVariableName).stream().sorted().distinct()
         .collect(toList());
-    train(dfFeatures.toMatrix(), buildY(dataframe));
+    train(sharedMatrix(dfFeatures), buildY(dataframe));
     return this;
   }
 
@@ -40,20 +38,13 @@ public class DecisionTreeClassifier extends DecisionTreeLearning implements
   }
 
   @Override
-  protected Object getNodePrediction(Node node) {
-    return responses.get(node.predictedResponse().intValue());
+  protected Object getPrediction(double value) {
+    return responses.get((int) value);
   }
 
   protected INDArray buildY(Dataframe dataframe) {
     var columnTemp = UUID.randomUUID().toString();
-    return dataframe.map(columnTemp, responses::indexOf, responseVariableName).toMatrix(columnTemp);
-  }
-
-  @Override
-  protected Double computePredictedResponse(INDArray array) {
-    return impurityService.getClassCount(array).entrySet().stream()
-        .max(comparingByValue()).orElse(Map.entry(0D, 0L))
-        .getKey();
+    return sharedMatrix(dataframe.map(columnTemp, responses::indexOf, responseVariableName), columnTemp);
   }
 
   @Override
@@ -75,7 +66,19 @@ public class DecisionTreeClassifier extends DecisionTreeLearning implements
   }
 
   @Override
-  protected Object getPredictionNodeFeatureName(Node node) {
-    return features.get(node.feature());
+  public DecisionTreeClassifier setMaxBins(int maxBins) {
+    super.setMaxBins(maxBins);
+    return this;
+  }
+
+  @Override
+  public DecisionTreeClassifier compile() {
+    super.compile();
+    return this;
+  }
+
+  @Override
+  protected String getPredictionFeatureName(int feature) {
+    return features.get(feature).toString();
   }
 }
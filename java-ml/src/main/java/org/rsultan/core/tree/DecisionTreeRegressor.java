@@ -3,10 +3,9 @@ package org.rsultan.core.tree;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
 import static org.rsultan.core.tree.impurity.ImpurityStrategy.RMSE;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 
-import org.nd4j.linalg.api.ndarray.INDArray;
 import org.rsultan.core.Trainable;
-import org.rsultan.core.tree.domain.Node;
 import org.rsultan.dataframe.Column;
 import org.rsultan.dataframe.Dataframe;
 
@@ -23,7 +22,7 @@ public class DecisionTreeRegressor extends DecisionTreeLearning implements
     var dfFeatures = dfNoResponse.select(predictorNames);
     features = stream(dfFeatures.getColumns()).map(Column::columnName).collect(toList());
     responses = dataframe.get(responseVariableName);
-    train(dfFeatures.toMatrix(), dataframe.toMatrix(responseVariableName));
+    train(sharedMatrix(dfFeatures), sharedMatrix(dataframe, responseVariableName));
     return this;
   }
 
@@ -53,17 +52,24 @@ public class DecisionTreeRegressor extends DecisionTreeLearning implements
   }
 
   @Override
-  protected Double computePredictedResponse(INDArray array) {
-    return array.mean().getDouble(0, 0);
+  public DecisionTreeRegressor setMaxBins(int maxBins) {
+    super.setMaxBins(maxBins);
+    return this;
+  }
+
+  @Override
+  public DecisionTreeRegressor compile() {
+    super.compile();
+    return this;
   }
 
   @Override
-  protected Object getNodePrediction(Node node) {
-    return node.predictedResponse().doubleValue();
+  protected Object getPrediction(double value) {
+    return value;
   }
 
   @Override
-  protected Object getPredictionNodeFeatureName(Node node) {
-    return features.get(node.feature());
+  protected String getPredictionFeatureName(int feature) {
+    return features.get(feature).toString();
   }
 }
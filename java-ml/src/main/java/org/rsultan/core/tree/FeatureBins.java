@@ -0,0 +1,94 @@
+package org.rsultan.core.tree;
+
+import static java.util.stream.IntStream.range;
+
+import java.util.Arrays;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.rsultan.dataframe.QuantileSketch;
+
+public record FeatureBins(byte[][] codes, double[][] cuts) {
+
+  static final int MAX_BINS = 255;
+
+  public static FeatureBins of(INDArray features, int maxBins) {
+    if (maxBins < 2 || maxBins > MAX_BINS) {
+      throw new IllegalArgumentException("Number of bins must be between 2 and " + MAX_BINS);
+    }
+    int columns = features.columns();
+    var codes = new byte[columns][];
+    var cuts = new double[columns][];
+    range(0, columns).parallel().forEach(col -> {
+      var values = features.getColumn(col, false).toDoubleVector();
+      cuts[col] = cutsOf(values, maxBins);
+      codes[col] = encode(values, cuts[col]);
+    });
+    return new FeatureBins(codes, cuts);
+  }
+
+  // Bins of a row and feature sample, cut at the same thresholds as the full features
+  public FeatureBins select(int[] rows, int[] features) {
+    var selectedCodes = new byte[features.length][];
+    var selectedCuts = new double[features.length][];
+    for (int idx = 0; idx < features.length; idx++) {
+      var source = codes[features[idx]];
+      var selected = new byte[rows.length];
+      for (int row = 0; row < rows.length; row++) {
+        selected[row] = source[rows[row]];
+      }
+      selectedCodes[idx] = selected;
+      selectedCuts[idx] = cuts[features[idx]];
+    }
+    return new FeatureBins(selectedCodes, selectedCuts);
+  }
+
+  int bins(int feature) {
+    return cuts[feature].length + 1;
+  }
+
+  int code(int feature, int row) {
+    return codes[feature][row] & 0xFF;
+  }
+
+  double threshold(int feature, int bin) {
+    return cuts[feature][bin];
+  }
+
+  private static double[] cutsOf(double[] values, int maxBins) {
+    var distinct = distinctValues(values, maxBins);
+    if (distinct != null) {
+      return distinct.length == 0 ? distinct : Arrays.copyOfRange(distinct, 1, distinct.length);
+    }
+    var edges = QuantileSketch.of(values).binEdges(maxBins);
+    return Arrays.stream(edges, 1, edges.length - 1)
+        .filter(edge -> edge > edges[0])
+        .distinct()
+        .toArray();
+  }
+
+  private static double[] distinctValues(double[] values, int maxBins) {
+    var distinct = new double[maxBins];
+    int size = 0;
+    for (double value : values) {
+      int position = Arrays.binarySearch(distinct, 0, size, value);
+      if (position < 0) {
+        if (size == maxBins) {
+          return null;
+        }
+        position = -position - 1;
+        System.arraycopy(distinct, position, distinct, position + 1, size - position);
+        distinct[position] = value;
+        size++;
+      }
+    }
+    return Arrays.copyOf(distinct, size);
+  }
+
+  private static byte[] encode(double[] values, double[] cuts) {
+    var codes = new byte[values.length];
+    for (int row = 0; row < values.length; row++) {
+      int position = Arrays.binarySearch(cuts, values[row]);
+      codes[row] = (byte) (position >= 0 ? position + 1 : -position - 1);
+    }
+    return codes;
+  }
+}
@@ -0,0 +1,190 @@
+package org.rsultan.core.tree;
+
+import static java.util.stream.IntStream.range;
+import static org.rsultan.core.tree.impurity.ImpurityStrategy.RMSE;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import org.rsultan.core.tree.domain.Node;
+import org.rsultan.core.tree.impurity.EntropyService;
+import org.rsultan.core.tree.impurity.GiniService;
+import org.rsultan.core.tree.impurity.ImpurityStrategy;
+import org.rsultan.core.tree.impurity.RmseService;
+
+final class HistogramTreeBuilder {
+
+  private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+  private final FeatureBins bins;
+  private final double[] labels;
+  private final ImpurityStrategy strategy;
+  private final int width;
+
+  HistogramTreeBuilder(FeatureBins bins, double[] labels, ImpurityStrategy strategy) {
+    this.bins = bins;
+    this.labels = labels;
+    this.strategy = strategy;
+    this.width = strategy == RMSE ? 3 : (int) Arrays.stream(labels).max().orElse(0) + 1;
+  }
+
+  Node build(int depth) {
+    var rows = range(0, labels.length).toArray();
+    return buildNode(rows, histogram(rows), depth);
+  }
+
+  private Node buildNode(int[] rows, double[][] histogram, int depth) {
+    var totals = totals(histogram);
+    double impurity = impurity(totals);
+    var split = depth > 0 && rows.length > 1 && impurity > 0
+        ? getBestSplit(histogram, totals, impurity, rows.length)
+        : null;
+    if (split == null) {
+      return new Node(0, 0, prediction(totals), null, null);
+    }
+    var codes = bins.codes()[split.feature()];
+    int leftSize = 0;
+    for (int row : rows) {
+      if ((codes[row] & 0xFF) <= split.bin()) {
+        leftSize++;
+      }
+    }
+    var leftRows = new int[leftSize];
+    var rightRows = new int[rows.length - leftSize];
+    for (int i = 0, l = 0, r = 0; i < rows.length; i++) {
+      if ((codes[rows[i]] & 0xFF) <= split.bin()) {
+        leftRows[l++] = rows[i];
+      } else {
+        rightRows[r++] = rows[i];
+      }
+    }
+    boolean leftIsSmaller = leftRows.length <= rightRows.length;
+    var smaller = histogram(leftIsSmaller ? leftRows : rightRows);
+    var larger = subtract(histogram, smaller);
+    return new Node(
+        split.feature(),
+        bins.threshold(split.feature(), split.bin()),
+        prediction(totals),
+        buildNode(leftRows, leftIsSmaller ? smaller : larger, depth - 1),
+        buildNode(rightRows, leftIsSmaller ? larger : smaller, depth - 1));
+  }
+
+  private double[][] histogram(int[] rows) {
+    var histogram = new double[bins.codes().length][];
+    features(rows.length).forEach(feature -> {
+      var codes = bins.codes()[feature];
+      var counts = new double[bins.bins(feature) * width];
+      if (strategy == RMSE) {
+        for (int row : rows) {
+          int offset = (codes[row] & 0xFF) * width;
+          double label = labels[row];
+          counts[offset]++;
+          counts[offset + 1] += label;
+          counts[offset + 2] += label * label;
+        }
+      } else {
+        for (int row : rows) {
+          counts[(codes[row] & 0xFF) * width + (int) labels[row]]++;
+        }
+      }
+      histogram[feature] = counts;
+    });
+    return histogram;
+  }
+
+  private double[][] subtract(double[][] parent, double[][] sibling) {
+    features(Integer.MAX_VALUE).forEach(feature -> {
+      var counts = parent[feature];
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] -= sibling[feature][i];
+      }
+    });
+    return parent;
+  }
+
+  private BinSplit getBestSplit(double[][] histogram, double[] totals, double impurity,
+      int rows) {
+    var splits = new BinSplit[histogram.length];
+    features(rows).forEach(feature -> {
+      var counts = histogram[feature];
+      var left = new double[width];
+      var right = new double[width];
+      BinSplit best = null;
+      for (int bin = 0; bin < bins.bins(feature) - 1; bin++) {
+        for (int i = 0; i < width; i++) {
+          left[i] += counts[bin * width + i];
+          right[i] = totals[i] - left[i];
+        }
+        double leftCount = count(left);
+        double rightCount = count(right);
+        if (leftCount == 0) {
+          continue;
+        } else if (rightCount == 0) {
+          break;
+        }
+        double splitImpurity =
+            (leftCount * impurity(left) + rightCount * impurity(right)) / (leftCount + rightCount);
+        if (splitImpurity < (best == null ? impurity : best.impurity())) {
+          best = new BinSplit(feature, bin, splitImpurity);
+        }
+      }
+      splits[feature] = best;
+    });
+    BinSplit best = null;
+    for (var split : splits) {
+      if (split != null && (best == null || split.impurity() < best.impurity())) {
+        best = split;
+      }
+    }
+    return best;
+  }
+
+  private IntStream features(int rows) {
+    var features = range(0, bins.codes().length);
+    return rows >= PARALLEL_THRESHOLD ? features.parallel() : features;
+  }
+
+  private double[] totals(double[][] histogram) {
+    var totals = new double[width];
+    var counts = histogram[0];
+    for (int i = 0; i < counts.length; i++) {
+      totals[i % width] += counts[i];
+    }
+    return totals;
+  }
+
+  private double count(double[] stats) {
+    if (strategy == RMSE) {
+      return stats[0];
+    }
+    double count = 0;
+    for (double stat : stats) {
+      count += stat;
+    }
+    return count;
+  }
+
+  private double impurity(double[] stats) {
+    return switch (strategy) {
+      case RMSE -> RmseService.compute(stats[0], stats[1], stats[2]);
+      case GINI -> GiniService.compute(stats, count(stats));
+      case ENTROPY -> EntropyService.compute(stats, count(stats));
+    };
+  }
+
+  private Double prediction(double[] totals) {
+    if (strategy == RMSE) {
+      return totals[0] == 0 ? 0 : totals[1] / totals[0];
+    }
+    int best = 0;
+    for (int i = 1; i < totals.length; i++) {
+      if (totals[i] > totals[best]) {
+        best = i;
+      }
+    }
+    return (double) best;
+  }
+
+  private static record BinSplit(int feature, int bin, double impurity) {
+
+  }
+}
@@ -0,0 +1,154 @@
+package org.rsultan.core.tree;
+
+import static java.util.stream.IntStream.range;
+import static org.rsultan.core.tree.impurity.ImpurityStrategy.RMSE;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.rsultan.core.tree.domain.BestSplit;
+import org.rsultan.core.tree.domain.Node;
+import org.rsultan.core.tree.impurity.ImpurityService;
+import org.rsultan.core.tree.impurity.ImpurityStrategy;
+import org.rsultan.dataframe.ArgSort;
+
+final class PresortedTreeBuilder {
+
+  private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+  private final double[][] values;
+  private final int[][] orders;
+  private final double[] labels;
+  private final double[] classValues;
+  private final int[] classes;
+  private final boolean[] goesLeft;
+  private final ImpurityStrategy strategy;
+  private final ImpurityService impurityService;
+
+  PresortedTreeBuilder(INDArray features, double[] labels, ImpurityStrategy strategy,
+      ImpurityService impurityService) {
+    int columns = features.columns();
+    this.values = new double[columns][];
+    this.orders = new int[columns][];
+    range(0, columns).parallel().forEach(col -> {
+      values[col] = features.getColumn(col, false).toDoubleVector();
+      orders[col] = ArgSort.argsort(values[col], true);
+    });
+    this.labels = labels;
+    if (strategy == RMSE) {
+      this.classValues = new double[]{0};
+      this.classes = new int[labels.length];
+    } else {
+      this.classValues = Arrays.stream(labels).sorted().distinct().toArray();
+      this.classes = Arrays.stream(labels)
+          .mapToInt(label -> Arrays.binarySearch(classValues, label))
+          .toArray();
+    }
+    this.goesLeft = new boolean[labels.length];
+    this.strategy = strategy;
+    this.impurityService = impurityService;
+  }
+
+  Node build(int depth) {
+    return buildNode(0, labels.length, depth);
+  }
+
+  private Node buildNode(int from, int to, int depth) {
+    var prediction = prediction(from, to);
+    var split = depth > 0 && to - from > 1 ? getBestSplit(from, to) : null;
+    if (split == null) {
+      return new Node(0, 0, prediction, null, null);
+    }
+    var featureValues = values[split.feature()];
+    int leftSize = 0;
+    for (int i = from; i < to; i++) {
+      int row = orders[0][i];
+      goesLeft[row] = featureValues[row] < split.threshold();
+      leftSize += goesLeft[row] ? 1 : 0;
+    }
+    int middle = from + leftSize;
+    features(to - from).forEach(feature -> partition(orders[feature], from, to, middle));
+    return new Node(
+        split.feature(),
+        split.threshold(),
+        prediction,
+        buildNode(from, middle, depth - 1),
+        buildNode(middle, to, depth - 1));
+  }
+
+  private void partition(int[] order, int from, int to, int middle) {
+    var right = new int[to - middle];
+    for (int i = from, l = from, r = 0; i < to; i++) {
+      if (goesLeft[order[i]]) {
+        order[l++] = order[i];
+      } else {
+        right[r++] = order[i];
+      }
+    }
+    System.arraycopy(right, 0, order, middle, right.length);
+  }
+
+  private BestSplit getBestSplit(int from, int to) {
+    var nodeSplit = impurityService.newSplit(classValues.length);
+    for (int i = from; i < to; i++) {
+      int row = orders[0][i];
+      nodeSplit.addRight(classes[row], labels[row]);
+    }
+    double impurity = nodeSplit.rightImpurity();
+    if (impurity <= 0) {
+      return null;
+    }
+    var splits = new BestSplit[values.length];
+    features(to - from).forEach(feature -> {
+      var order = orders[feature];
+      var featureValues = values[feature];
+      var split = nodeSplit.copy();
+      BestSplit best = null;
+      for (int i = from + 1; i < to; i++) {
+        int row = order[i - 1];
+        split.moveLeft(classes[row], labels[row]);
+        double threshold = featureValues[order[i]];
+        if (threshold != featureValues[row]) {
+          double splitImpurity = split.weightedImpurity();
+          if (splitImpurity < (best == null ? impurity : best.impurity())) {
+            best = new BestSplit(feature, threshold, splitImpurity);
+          }
+        }
+      }
+      splits[feature] = best;
+    });
+    BestSplit best = null;
+    for (var split : splits) {
+      if (split != null && (best == null || split.impurity() < best.impurity())) {
+        best = split;
+      }
+    }
+    return best;
+  }
+
+  private Double prediction(int from, int to) {
+    if (strategy == RMSE) {
+      double sum = 0;
+      for (int i = from; i < to; i++) {
+        sum += labels[orders[0][i]];
+      }
+      return sum / (to - from);
+    }
+    var counts = new int[classValues.length];
+    for (int i = from; i < to; i++) {
+      counts[classes[orders[0][i]]]++;
+    }
+    int best = 0;
+    for (int c = 1; c < counts.length; c++) {
+      if (counts[c] > counts[best]) {
+        best = c;
+      }
+    }
+    return classValues[best];
+  }
+
+  private IntStream features(int rows) {
+    var features = range(0, values.length);
+    return rows >= PARALLEL_THRESHOLD ? features.parallel() : features;
+  }
+}
@@ -0,0 +1,275 @@
+package org.rsultan.core.tree.codegen;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+final class ClassFileWriter {
+
+  static final int ACC_PUBLIC = 0x0001;
+  static final int ACC_STATIC = 0x0008;
+  static final int ACC_FINAL = 0x0010;
+  static final int ACC_SUPER = 0x0020;
+
+  static final int ICONST_0 = 0x03;
+  static final int BIPUSH = 0x10;
+  static final int SIPUSH = 0x11;
+  static final int LDC_W = 0x13;
+  static final int LDC2_W = 0x14;
+  static final int ALOAD_0 = 0x2a;
+  static final int ALOAD_1 = 0x2b;
+  static final int ALOAD_2 = 0x2c;
+  static final int DALOAD = 0x31;
+  static final int DASTORE = 0x52;
+  static final int DCMPG = 0x98;
+  static final int IFGE = 0x9c;
+  static final int IRETURN = 0xac;
+  static final int DRETURN = 0xaf;
+  static final int RETURN = 0xb1;
+  static final int INVOKESPECIAL = 0xb7;
+  static final int INVOKESTATIC = 0xb8;
+
+  private static final int MAGIC = 0xCAFEBABE;
+  private static final int MAJOR_VERSION = 49;
+  private static final int MAX_ENTRIES = 0xFFFF;
+
+  private final ByteArrayOutputStream constants = new ByteArrayOutputStream();
+  private final DataOutputStream constantPool = new DataOutputStream(constants);
+  private final Map<Object, Integer> constantIndices = new HashMap<>();
+  private final List<byte[]> methods = new ArrayList<>();
+  private final String className;
+  private final int thisClass;
+  private final int superClass;
+  private final int interfaceClass;
+  private final int codeAttribute;
+  private int constantCount = 1;
+
+  ClassFileWriter(String className, String interfaceName) {
+    this.className = className;
+    this.thisClass = classRef(className);
+    this.superClass = classRef("java/lang/Object");
+    this.interfaceClass = classRef(interfaceName);
+    this.codeAttribute = utf8("Code");
+  }
+
+  String className() {
+    return className;
+  }
+
+  Code code() {
+    return new Code();
+  }
+
+  int doubleConstant(double value) {
+    long bits = Double.doubleToRawLongBits(value);
+    return constant(new DoubleKey(bits), out -> {
+      out.writeByte(6);
+      out.writeLong(bits);
+    }, 2);
+  }
+
+  int intConstant(int value) {
+    return constant(new IntKey(value), out -> {
+      out.writeByte(3);
+      out.writeInt(value);
+    }, 1);
+  }
+
+  int methodRef(String owner, String name, String descriptor) {
+    int ownerIdx = classRef(owner);
+    int nameIdx = utf8(name);
+    int descriptorIdx = utf8(descriptor);
+    int nameAndType = constant(new NameAndTypeKey(nameIdx, descriptorIdx), out -> {
+      out.writeByte(12);
+      out.writeShort(nameIdx);
+      out.writeShort(descriptorIdx);
+    }, 1);
+    return constant(new MethodKey(ownerIdx, nameAndType), out -> {
+      out.writeByte(10);
+      out.writeShort(ownerIdx);
+      out.writeShort(nameAndType);
+    }, 1);
+  }
+
+  void addMethod(int access, String name, String descriptor, int maxStack, int maxLocals,
+      Code body) {
+    if (body.size() > MAX_ENTRIES || methods.size() == MAX_ENTRIES) {
+      throw new IllegalStateException("Method " + name + " does not fit in a class file");
+    }
+    int nameIdx = utf8(name);
+    int descriptorIdx = utf8(descriptor);
+    write(methods::add, out -> {
+      out.writeShort(access);
+      out.writeShort(nameIdx);
+      out.writeShort(descriptorIdx);
+      out.writeShort(1);
+      out.writeShort(codeAttribute);
+      out.writeInt(12 + body.size());
+      out.writeShort(maxStack);
+      out.writeShort(maxLocals);
+      out.writeInt(body.size());
+      out.write(body.code, 0, body.size);
+      out.writeShort(0);
+      out.writeShort(0);
+    });
+  }
+
+  byte[] toByteArray() {
+    var bytes = new ArrayList<byte[]>(1);
+    write(bytes::add, out -> {
+      out.writeInt(MAGIC);
+      out.writeShort(0);
+      out.writeShort(MAJOR_VERSION);
+      out.writeShort(constantCount);
+      constants.writeTo(out);
+      out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+      out.writeShort(thisClass);
+      out.writeShort(superClass);
+      out.writeShort(1);
+      out.writeShort(interfaceClass);
+      out.writeShort(0);
+      out.writeShort(methods.size());
+      for (var method : methods) {
+        out.write(method);
+      }
+      out.writeShort(0);
+    });
+    return bytes.get(0);
+  }
+
+  private int utf8(String value) {
+    return constant(value, out -> {
+      out.writeByte(1);
+      out.writeUTF(value);
+    }, 1);
+  }
+
+  private int classRef(String internalName) {
+    int nameIdx = utf8(internalName);
+    return constant(new ClassKey(nameIdx), out -> {
+      out.writeByte(7);
+      out.writeShort(nameIdx);
+    }, 1);
+  }
+
+  private int constant(Object key, Output entry, int slots) {
+    var index = constantIndices.get(key);
+    if (index != null) {
+      return index;
+    }
+    if (constantCount + slots > MAX_ENTRIES) {
+      throw new IllegalStateException("Constant pool of " + className + " is full");
+    }
+    try {
+      entry.write(constantPool);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    constantIndices.put(key, constantCount);
+    constantCount += slots;
+    return constantCount - slots;
+  }
+
+  private static void write(Consumer<byte[]> sink, Output output) {
+    var bytes = new ByteArrayOutputStream();
+    try (var out = new DataOutputStream(bytes)) {
+      output.write(out);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    sink.accept(bytes.toByteArray());
+  }
+
+  @FunctionalInterface
+  private interface Output {
+
+    void write(DataOutputStream out) throws IOException;
+  }
+
+  private static record DoubleKey(long bits) {
+
+  }
+
+  private static record IntKey(int value) {
+
+  }
+
+  private static record ClassKey(int nameIdx) {
+
+  }
+
+  private static record NameAndTypeKey(int nameIdx, int descriptorIdx) {
+
+  }
+
+  private static record MethodKey(int ownerIdx, int nameAndTypeIdx) {
+
+  }
+
+  final class Code {
+
+    private byte[] code = new byte[64];
+    private int size;
+
+    int size() {
+      return size;
+    }
+
+    Code op(int opcode) {
+      if (size == code.length) {
+        code = Arrays.copyOf(code, size * 2);
+      }
+      code[size++] = (byte) opcode;
+      return this;
+    }
+
+    Code pushInt(int value) {
+      if (value >= -1 && value <= 5) {
+        return op(ICONST_0 + value);
+      } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+        return op(BIPUSH).op(value);
+      } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+        return op(SIPUSH).u2(value);
+      }
+      return op(LDC_W).u2(intConstant(value));
+    }
+
+    Code pushDouble(double value) {
+      return op(LDC2_W).u2(doubleConstant(value));
+    }
+
+    Code invokeStatic(String name, String descriptor) {
+      return op(INVOKESTATIC).u2(methodRef(className, name, descriptor));
+    }
+
+    Code invokeSpecial(String owner, String name, String descriptor) {
+      return op(INVOKESPECIAL).u2(methodRef(owner, name, descriptor));
+    }
+
+    int branch(int opcode) {
+      int position = size;
+      op(opcode).u2(0);
+      return position;
+    }
+
+    void patch(int position) {
+      int offset = size - position;
+      if (offset > Short.MAX_VALUE) {
+        throw new IllegalStateException("Branch offset out of range in " + className);
+      }
+      code[position + 1] = (byte) (offset >> 8);
+      code[position + 2] = (byte) offset;
+    }
+
+    private Code u2(int value) {
+      return op(value >> 8).op(value);
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package org.rsultan.core.tree.codegen;
+
+public interface CompiledTrees {
+
+  int size();
+
+  void predict(double[] features, double[] predictions);
+}
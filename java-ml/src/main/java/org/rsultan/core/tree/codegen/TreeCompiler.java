@@ -0,0 +1,185 @@
+package org.rsultan.core.tree.codegen;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.rsultan.core.tree.codegen.ClassFileWriter.ACC_PUBLIC;
+import static org.rsultan.core.tree.codegen.ClassFileWriter.ACC_STATIC;
+import static org.rsultan.core.tree.codegen.ClassFileWriter.ALOAD_0;
+import static org.rsultan.core.tree.codegen.ClassFileWriter.ALOAD_1;
+import static org.rsultan.core.tree.codegen.ClassFileWriter.ALOAD_2;
+import static org.rsultan.core.tree.codegen.ClassFileWriter.DALOAD;
+import static org.rsultan.core.tree.codegen.ClassFileWriter.DASTORE;
+import static org.rsultan.core.tree.codegen.ClassFileWriter.DCMPG;
+import static org.rsultan.core.tree.codegen.ClassFileWriter.DRETURN;
+import static org.rsultan.core.tree.codegen.ClassFileWriter.IFGE;
+import static org.rsultan.core.tree.codegen.ClassFileWriter.IRETURN;
+import static org.rsultan.core.tree.codegen.ClassFileWriter.RETURN;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import org.rsultan.core.tree.domain.FlatTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class TreeCompiler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TreeCompiler.class);
+
+  static final int INLINE_BUDGET = 160;
+  static final int TREES_PER_METHOD = 24;
+  static final long CLASS_BUDGET = 60_000;
+
+  private static final String CLASS_NAME = "org/rsultan/core/tree/codegen/GeneratedTrees";
+  private static final String INTERFACE_NAME = "org/rsultan/core/tree/codegen/CompiledTrees";
+  private static final String TREE_DESCRIPTOR = "([D)D";
+  private static final String CHUNK_DESCRIPTOR = "([D[D)V";
+  private static final int BRANCH_SIZE = 12;
+  private static final int LEAF_SIZE = 4;
+
+  private TreeCompiler() {
+  }
+
+  public static CompiledTrees compileOrInterpret(List<FlatTree> trees) {
+    try {
+      return compile(trees);
+    } catch (RuntimeException | LinkageError e) {
+      LOG.warn("Falling back to interpreted trees: " + e.getMessage());
+      return interpret(trees);
+    }
+  }
+
+  public static CompiledTrees interpret(List<FlatTree> trees) {
+    var treeArray = trees.toArray(FlatTree[]::new);
+    return new CompiledTrees() {
+      @Override
+      public int size() {
+        return treeArray.length;
+      }
+
+      @Override
+      public void predict(double[] features, double[] predictions) {
+        for (int tree = 0; tree < treeArray.length; tree++) {
+          predictions[tree] = treeArray[tree].predict(features);
+        }
+      }
+    };
+  }
+
+  public static CompiledTrees compile(List<FlatTree> trees) {
+    var parts = new ArrayList<CompiledTrees>();
+    for (int from = 0, to = 0; from < trees.size(); from = to) {
+      long cost = cost(trees.get(to++));
+      while (to < trees.size() && cost + cost(trees.get(to)) <= CLASS_BUDGET) {
+        cost += cost(trees.get(to++));
+      }
+      parts.add(load(generate(trees, from, to)));
+    }
+    if (parts.size() == 1) {
+      return parts.get(0);
+    }
+    var partArray = parts.toArray(CompiledTrees[]::new);
+    return new CompiledTrees() {
+      @Override
+      public int size() {
+        return trees.size();
+      }
+
+      @Override
+      public void predict(double[] features, double[] predictions) {
+        for (var part : partArray) {
+          part.predict(features, predictions);
+        }
+      }
+    };
+  }
+
+  private static long cost(FlatTree tree) {
+    return 5L * tree.size();
+  }
+
+  private static CompiledTrees load(byte[] bytes) {
+    try {
+      var lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+      return (CompiledTrees) lookup.findConstructor(lookup.lookupClass(), methodType(void.class))
+          .invoke();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Cannot load generated trees", e);
+    }
+  }
+
+  static byte[] generate(List<FlatTree> trees, int from, int to) {
+    var writer = new ClassFileWriter(CLASS_NAME, INTERFACE_NAME);
+    for (int tree = from; tree < to; tree++) {
+      generateTree(writer, tree, trees.get(tree));
+    }
+
+    int chunks = (to - from + TREES_PER_METHOD - 1) / TREES_PER_METHOD;
+    var predict = writer.code();
+    for (int chunk = 0; chunk < chunks; chunk++) {
+      var body = writer.code();
+      int chunkEnd = Math.min(to, from + (chunk + 1) * TREES_PER_METHOD);
+      for (int tree = from + chunk * TREES_PER_METHOD; tree < chunkEnd; tree++) {
+        body.op(ALOAD_1).pushInt(tree).op(ALOAD_0)
+            .invokeStatic(methodName(tree, 0), TREE_DESCRIPTOR)
+            .op(DASTORE);
+      }
+      writer.addMethod(ACC_STATIC, "chunk" + chunk, CHUNK_DESCRIPTOR, 4, 2, body.op(RETURN));
+      predict.op(ALOAD_1).op(ALOAD_2).invokeStatic("chunk" + chunk, CHUNK_DESCRIPTOR);
+    }
+    writer.addMethod(ACC_PUBLIC, "predict", CHUNK_DESCRIPTOR, 2, 3, predict.op(RETURN));
+    writer.addMethod(ACC_PUBLIC, "size", "()I", 1, 1,
+        writer.code().pushInt(to - from).op(IRETURN));
+    writer.addMethod(ACC_PUBLIC, "<init>", "()V", 1, 1, writer.code()
+        .op(ALOAD_0)
+        .invokeSpecial("java/lang/Object", "<init>", "()V")
+        .op(RETURN));
+    return writer.toByteArray();
+  }
+
+  private static void generateTree(ClassFileWriter writer, int tree, FlatTree flatTree) {
+    var sizes = inlineSizes(flatTree);
+    var methods = new ArrayDeque<Integer>();
+    methods.add(0);
+    while (!methods.isEmpty()) {
+      int root = methods.poll();
+      var body = writer.code();
+      generateNode(body, tree, flatTree, sizes, root, root, methods);
+      writer.addMethod(ACC_STATIC, methodName(tree, root), TREE_DESCRIPTOR, 4, 1, body);
+    }
+  }
+
+  private static void generateNode(ClassFileWriter.Code body, int tree, FlatTree flatTree,
+      int[] sizes, int root, int node, ArrayDeque<Integer> methods) {
+    if (node != root && sizes[node] > INLINE_BUDGET) {
+      methods.add(node);
+      body.op(ALOAD_0).invokeStatic(methodName(tree, node), TREE_DESCRIPTOR).op(DRETURN);
+    } else if (flatTree.left()[node] == FlatTree.LEAF) {
+      body.pushDouble(flatTree.value()[node]).op(DRETURN);
+    } else {
+      body.op(ALOAD_0).pushInt(flatTree.feature()[node]).op(DALOAD)
+          .pushDouble(flatTree.threshold()[node])
+          .op(DCMPG);
+      int right = body.branch(IFGE);
+      generateNode(body, tree, flatTree, sizes, root, flatTree.left()[node], methods);
+      body.patch(right);
+      generateNode(body, tree, flatTree, sizes, root, flatTree.right()[node], methods);
+    }
+  }
+
+  private static int[] inlineSizes(FlatTree flatTree) {
+    var sizes = new int[flatTree.size()];
+    for (int node = flatTree.size() - 1; node >= 0; node--) {
+      sizes[node] = flatTree.left()[node] == FlatTree.LEAF ? LEAF_SIZE
+          : (int) Math.min(Integer.MAX_VALUE, (long) BRANCH_SIZE
+              + sizes[flatTree.left()[node]] + sizes[flatTree.right()[node]]);
+    }
+    return sizes;
+  }
+
+  private static String methodName(int tree, int node) {
+    return "tree" + tree + "_" + node;
+  }
+}
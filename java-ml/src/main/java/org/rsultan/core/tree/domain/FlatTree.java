@@ -0,0 +1,136 @@
+package org.rsultan.core.tree.domain;
+
+import static java.util.Arrays.stream;
+import static java.util.Objects.isNull;
+import static java.util.stream.IntStream.range;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.rsultan.dataframe.Dataframe;
+
+public record FlatTree(
+    int[] feature,
+    double[] threshold,
+    int[] left,
+    int[] right,
+    double[] value
+) implements Serializable {
+
+  public static final int LEAF = -1;
+  private static final int BLOCK_SIZE = 1 << 12;
+
+  public static FlatTree of(Node root) {
+    var nodes = new ArrayList<Node>();
+    var queue = new ArrayDeque<Node>();
+    queue.add(root);
+    while (!queue.isEmpty()) {
+      var node = queue.poll();
+      nodes.add(node);
+      if (!isLeaf(node)) {
+        queue.add(node.left());
+        queue.add(node.right());
+      }
+    }
+    int size = nodes.size();
+    var tree = new FlatTree(new int[size], new double[size], new int[size], new int[size],
+        new double[size]);
+    for (int idx = 0, child = 1; idx < size; idx++) {
+      var node = nodes.get(idx);
+      tree.value[idx] = node.predictedResponse().doubleValue();
+      tree.threshold[idx] = node.featureThreshold();
+      if (isLeaf(node)) {
+        tree.feature[idx] = LEAF;
+        tree.left[idx] = LEAF;
+        tree.right[idx] = LEAF;
+      } else {
+        tree.feature[idx] = node.feature();
+        tree.left[idx] = child++;
+        tree.right[idx] = child++;
+      }
+    }
+    return tree;
+  }
+
+  private static boolean isLeaf(Node node) {
+    return isNull(node.left()) || isNull(node.right());
+  }
+
+  public FlatTree mapFeatures(int[] features) {
+    var mapped = new int[feature.length];
+    for (int idx = 0; idx < feature.length; idx++) {
+      mapped[idx] = feature[idx] == LEAF ? LEAF : features[feature[idx]];
+    }
+    return new FlatTree(mapped, threshold, left, right, value);
+  }
+
+  public static double[][] featureColumns(Dataframe dataframe, int featureCount,
+      IntFunction<String> featureName, List<FlatTree> trees) {
+    int rows = dataframe.getRowSize();
+    var columns = new double[featureCount][];
+    trees.stream().flatMapToInt(tree -> stream(tree.feature()))
+        .filter(feature -> feature != LEAF)
+        .distinct()
+        .forEach(feature -> {
+          columns[feature] = new double[rows];
+          dataframe.getColumn(featureName.apply(feature))
+              .copyDoubles(0, rows, columns[feature], 0, 1);
+        });
+    return columns;
+  }
+
+  public int size() {
+    return feature.length;
+  }
+
+  public double predict(double[] row) {
+    int idx = 0;
+    while (left[idx] != LEAF) {
+      idx = row[feature[idx]] < threshold[idx] ? left[idx] : right[idx];
+    }
+    return value[idx];
+  }
+
+  public double[] predict(double[][] rows) {
+    var predictions = new double[rows.length];
+    forEachBlock(rows.length, (from, to) -> {
+      for (int row = from; row < to; row++) {
+        predictions[row] = predict(rows[row]);
+      }
+    });
+    return predictions;
+  }
+
+  public double[] predict(INDArray X) {
+    return predict(X.toDoubleMatrix());
+  }
+
+  public double[] predictColumns(double[][] columns, int rows) {
+    var predictions = new double[rows];
+    forEachBlock(rows, (from, to) -> {
+      for (int row = from; row < to; row++) {
+        int idx = 0;
+        while (left[idx] != LEAF) {
+          idx = columns[feature[idx]][row] < threshold[idx] ? left[idx] : right[idx];
+        }
+        predictions[row] = value[idx];
+      }
+    });
+    return predictions;
+  }
+
+  private static void forEachBlock(int rows, BlockPrediction prediction) {
+    int blocks = (rows + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    range(0, blocks).parallel().forEach(block ->
+        prediction.predict(block * BLOCK_SIZE, Math.min(rows, (block + 1) * BLOCK_SIZE)));
+  }
+
+  @FunctionalInterface
+  private interface BlockPrediction {
+
+    void predict(int from, int to);
+  }
+}
@@ -1,19 +1,24 @@
 package org.rsultan.core.tree.impurity;
 
-import static java.util.Arrays.stream;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.counting;
-import static java.util.stream.Collectors.groupingBy;
-
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.nd4j.linalg.api.ndarray.INDArray;
-import org.nd4j.linalg.factory.Nd4j;
 
 public abstract class AbstractImpurityService implements ImpurityService {
 
   @Override
   public Map<Double, Long> getClassCount(INDArray labels) {
-    return stream(labels.toDoubleVector()).boxed().collect(groupingBy(identity(), counting()));
+    var values = labels.toDoubleVector();
+    Arrays.sort(values);
+    var classCount = new LinkedHashMap<Double, Long>();
+    for (int start = 0, end = 0; start < values.length; start = end) {
+      while (end < values.length && Double.compare(values[end], values[start]) == 0) {
+        end++;
+      }
+      classCount.put(values[start], (long) (end - start));
+    }
+    return classCount;
   }
 
 
@@ -22,4 +27,33 @@ public abstract class AbstractImpurityService implements ImpurityService {
     return classCount.div(sumPerColumn);
   }
 
+  protected abstract static class ClassCountSplit implements SplitImpurity {
+
+    protected final long[] left;
+    protected final long[] right;
+    protected long leftCount;
+    protected long rightCount;
+
+    protected ClassCountSplit(int classCount) {
+      this.left = new long[classCount];
+      this.right = new long[classCount];
+    }
+
+    protected ClassCountSplit(ClassCountSplit split) {
+      this.left = split.left.clone();
+      this.right = split.right.clone();
+      this.leftCount = split.leftCount;
+      this.rightCount = split.rightCount;
+    }
+
+    @Override
+    public long leftCount() {
+      return leftCount;
+    }
+
+    @Override
+    public long rightCount() {
+      return rightCount;
+    }
+  }
 }
@@ -8,6 +8,9 @@ import org.nd4j.linalg.api.ndarray.INDArray;
 
 public class EntropyService extends AbstractImpurityService {
 
+  private static final double LOG_2 = Math.log(2);
+  private static final double EPSILON = 1e-12;
+
   @Override
   public INDArray compute(INDArray classCount) {
     var probabilities = computeProbabilities(classCount.reshape(1, classCount.length()));
@@ -16,4 +19,86 @@ public class EntropyService extends AbstractImpurityService {
     return probabilities.mul(logProb).sum(true, 1);
   }
 
+  public static double compute(double[] classCount, double total) {
+    if (total == 0) {
+      return 0;
+    }
+    double entropy = 0;
+    for (double count : classCount) {
+      if (count > 0) {
+        entropy -= (count / total) * Math.log(count / total) / LOG_2;
+      }
+    }
+    return entropy;
+  }
+
+  public static double compute(long[] classCount, long total) {
+    double sum = 0;
+    for (long count : classCount) {
+      sum += countLogCount(count);
+    }
+    return entropy(sum, total);
+  }
+
+  @Override
+  public SplitImpurity newSplit(int classCount) {
+    return new EntropySplit(classCount);
+  }
+
+  private static double countLogCount(long count) {
+    return count == 0 ? 0 : count * Math.log(count);
+  }
+
+  private static double entropy(double sumOfCountLogCount, long total) {
+    double entropy = total == 0 ? 0 : (Math.log(total) - sumOfCountLogCount / total) / LOG_2;
+    return entropy < EPSILON ? 0 : entropy;
+  }
+
+  private static class EntropySplit extends ClassCountSplit {
+
+    private double leftSum;
+    private double rightSum;
+
+    private EntropySplit(int classCount) {
+      super(classCount);
+    }
+
+    private EntropySplit(EntropySplit split) {
+      super(split);
+      this.leftSum = split.leftSum;
+      this.rightSum = split.rightSum;
+    }
+
+    @Override
+    public void addRight(int classIdx, double label) {
+      rightSum += countLogCount(right[classIdx] + 1) - countLogCount(right[classIdx]);
+      right[classIdx]++;
+      rightCount++;
+    }
+
+    @Override
+    public void moveLeft(int classIdx, double label) {
+      rightSum += countLogCount(right[classIdx] - 1) - countLogCount(right[classIdx]);
+      right[classIdx]--;
+      rightCount--;
+      leftSum += countLogCount(left[classIdx] + 1) - countLogCount(left[classIdx]);
+      left[classIdx]++;
+      leftCount++;
+    }
+
+    @Override
+    public double leftImpurity() {
+      return entropy(leftSum, leftCount);
+    }
+
+    @Override
+    public double rightImpurity() {
+      return entropy(rightSum, rightCount);
+    }
+
+    @Override
+    public SplitImpurity copy() {
+      return new EntropySplit(this);
+    }
+  }
 }
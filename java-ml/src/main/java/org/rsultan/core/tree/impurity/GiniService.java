@@ -11,4 +11,83 @@ public class GiniService extends AbstractImpurityService {
     var probabilities = computeProbabilities(classCount.reshape(1, classCount.length()));
     return pow(probabilities, 2).sum(true, 1).neg().add(1);
   }
+
+  public static double compute(double[] classCount, double total) {
+    if (total == 0) {
+      return 0;
+    }
+    double sumOfSquares = 0;
+    for (double count : classCount) {
+      sumOfSquares += count * count;
+    }
+    return 1 - sumOfSquares / (total * total);
+  }
+
+  public static double compute(long[] classCount, long total) {
+    if (total == 0) {
+      return 0;
+    }
+    long sumOfSquares = 0;
+    for (long count : classCount) {
+      sumOfSquares += count * count;
+    }
+    return 1 - (double) sumOfSquares / ((double) total * total);
+  }
+
+  @Override
+  public SplitImpurity newSplit(int classCount) {
+    return new GiniSplit(classCount);
+  }
+
+  private static class GiniSplit extends ClassCountSplit {
+
+    private long leftSumOfSquares;
+    private long rightSumOfSquares;
+
+    private GiniSplit(int classCount) {
+      super(classCount);
+    }
+
+    private GiniSplit(GiniSplit split) {
+      super(split);
+      this.leftSumOfSquares = split.leftSumOfSquares;
+      this.rightSumOfSquares = split.rightSumOfSquares;
+    }
+
+    @Override
+    public void addRight(int classIdx, double label) {
+      rightSumOfSquares += 2 * right[classIdx] + 1;
+      right[classIdx]++;
+      rightCount++;
+    }
+
+    @Override
+    public void moveLeft(int classIdx, double label) {
+      rightSumOfSquares -= 2 * right[classIdx] - 1;
+      right[classIdx]--;
+      rightCount--;
+      leftSumOfSquares += 2 * left[classIdx] + 1;
+      left[classIdx]++;
+      leftCount++;
+    }
+
+    @Override
+    public double leftImpurity() {
+      return gini(leftSumOfSquares, leftCount);
+    }
+
+    @Override
+    public double rightImpurity() {
+      return gini(rightSumOfSquares, rightCount);
+    }
+
+    @Override
+    public SplitImpurity copy() {
+      return new GiniSplit(this);
+    }
+
+    private static double gini(long sumOfSquares, long total) {
+      return total == 0 ? 0 : 1 - (double) sumOfSquares / ((double) total * total);
+    }
+  }
 }
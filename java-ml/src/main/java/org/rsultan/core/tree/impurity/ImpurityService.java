@@ -10,4 +10,6 @@ public interface ImpurityService extends Serializable {
 
   Map<Double, Long> getClassCount(INDArray labels);
 
+  SplitImpurity newSplit(int classCount);
+
 }
@@ -12,4 +12,76 @@ public class RmseService extends AbstractImpurityService {
     var mse = pow(Y.sub(Y.mean()), 2).reshape(1, Y.length()).sum(true, 1).div(Y.columns());
     return sqrt(mse);
   }
+
+  public static double compute(double count, double sum, double sumOfSquares) {
+    if (count == 0) {
+      return 0;
+    }
+    double mean = sum / count;
+    return Math.sqrt(Math.max(0, sumOfSquares / count - mean * mean));
+  }
+
+  @Override
+  public SplitImpurity newSplit(int classCount) {
+    return new RmseSplit();
+  }
+
+  private static class RmseSplit implements SplitImpurity {
+
+    private long leftCount;
+    private double leftSum;
+    private double leftSumOfSquares;
+    private long rightCount;
+    private double rightSum;
+    private double rightSumOfSquares;
+
+    @Override
+    public void addRight(int classIdx, double label) {
+      rightCount++;
+      rightSum += label;
+      rightSumOfSquares += label * label;
+    }
+
+    @Override
+    public void moveLeft(int classIdx, double label) {
+      rightCount--;
+      rightSum -= label;
+      rightSumOfSquares -= label * label;
+      leftCount++;
+      leftSum += label;
+      leftSumOfSquares += label * label;
+    }
+
+    @Override
+    public long leftCount() {
+      return leftCount;
+    }
+
+    @Override
+    public long rightCount() {
+      return rightCount;
+    }
+
+    @Override
+    public double leftImpurity() {
+      return compute(leftCount, leftSum, leftSumOfSquares);
+    }
+
+    @Override
+    public double rightImpurity() {
+      return compute(rightCount, rightSum, rightSumOfSquares);
+    }
+
+    @Override
+    public SplitImpurity copy() {
+      var split = new RmseSplit();
+      split.leftCount = leftCount;
+      split.leftSum = leftSum;
+      split.leftSumOfSquares = leftSumOfSquares;
+      split.rightCount = rightCount;
+      split.rightSum = rightSum;
+      split.rightSumOfSquares = rightSumOfSquares;
+      return split;
+    }
+  }
 }
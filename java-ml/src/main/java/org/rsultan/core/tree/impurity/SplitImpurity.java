@@ -0,0 +1,23 @@
+package org.rsultan.core.tree.impurity;
+
+public interface SplitImpurity {
+
+  void addRight(int classIdx, double label);
+
+  void moveLeft(int classIdx, double label);
+
+  long leftCount();
+
+  long rightCount();
+
+  double leftImpurity();
+
+  double rightImpurity();
+
+  SplitImpurity copy();
+
+  default double weightedImpurity() {
+    double rows = leftCount() + rightCount();
+    return leftImpurity() * (leftCount() / rows) + rightImpurity() * (rightCount() / rows);
+  }
+}
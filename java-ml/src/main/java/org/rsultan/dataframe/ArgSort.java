@@ -0,0 +1,175 @@
+package org.rsultan.dataframe;
+
+import static java.util.Comparator.nullsLast;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+
+import java.util.Comparator;
+
+public class ArgSort {
+
+  private static final int RADIX_BITS = 8;
+  private static final int RADIX = 1 << RADIX_BITS;
+  private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+  private ArgSort() {
+  }
+
+  public static int[] argsort(double[] values, boolean ascending) {
+    var keys = new long[values.length];
+    range(0, values.length).forEach(row -> keys[row] = doubleKey(values[row]));
+    return sort(keys, range(0, values.length).toArray(), ascending);
+  }
+
+  public static int[] argsort(long[] values, boolean ascending) {
+    var keys = new long[values.length];
+    range(0, values.length).forEach(row -> keys[row] = values[row] ^ Long.MIN_VALUE);
+    return sort(keys, range(0, values.length).toArray(), ascending);
+  }
+
+  public static int[] argsort(Column<?> column, boolean ascending) {
+    return argsort(new Column<?>[]{column}, new boolean[]{ascending});
+  }
+
+  public static int[] argsort(Column<?>[] columns, boolean[] ascending) {
+    if (columns.length != ascending.length) {
+      throw new IllegalArgumentException("Each sort column needs a sort direction");
+    }
+    int size = columns.length == 0 ? 0 : columns[0].size();
+    var order = range(0, size).toArray();
+    for (int colIdx = columns.length - 1; colIdx >= 0; colIdx--) {
+      var keys = keys(columns[colIdx], ascending[colIdx]);
+      var orderedKeys = new long[size];
+      var currentOrder = order;
+      range(0, size).parallel().forEach(i -> orderedKeys[i] = keys[currentOrder[i]]);
+      order = sort(orderedKeys, order, ascending[colIdx]);
+    }
+    return order;
+  }
+
+  private static long[] keys(Column<?> column, boolean ascending) {
+    var keys = new long[column.size()];
+    var longs = Columns.longReader(column);
+    if (longs != null) {
+      range(0, keys.length).parallel()
+          .forEach(row -> keys[row] = longs.applyAsLong(row) ^ Long.MIN_VALUE);
+    } else if (column.isPrimitive()) {
+      range(0, keys.length).parallel()
+          .forEach(row -> keys[row] = doubleKey(column.getDouble(row)));
+    } else {
+      var categorical = CategoricalColumn.of(column);
+      var ranks = ranks(categorical, ascending);
+      range(0, keys.length).parallel().forEach(row -> {
+        int code = categorical.getCode(row);
+        keys[row] = code >= 0 ? ranks[code] : ascending ? -1L : 0L;
+      });
+    }
+    return keys;
+  }
+
+  private static long[] ranks(CategoricalColumn<?> categorical, boolean ascending) {
+    var dictionary = categorical.getDictionary();
+    var codes = range(0, dictionary.size()).boxed().collect(toList());
+    try {
+      Comparator<Object> comparator = nullsLast(ArgSort::compareNaturally);
+      codes.sort((code1, code2) -> comparator.compare(dictionary.get(code1), dictionary.get(code2)));
+    } catch (ClassCastException e) {
+      throw new IllegalArgumentException(
+          "Cannot sort column " + categorical.columnName() + " with incomparable values", e);
+    }
+    var ranks = new long[dictionary.size()];
+    for (int rank = 0; rank < codes.size(); rank++) {
+      ranks[codes.get(rank)] = ascending ? rank : rank + 1L;
+    }
+    return ranks;
+  }
+
+  // Values of an object column are only known to be comparable at runtime: a mismatch surfaces
+  // as the ClassCastException turned into an IllegalArgumentException by ranks
+  @SuppressWarnings("unchecked")
+  private static int compareNaturally(Object value1, Object value2) {
+    return ((Comparable<Object>) value1).compareTo(value2);
+  }
+
+  private static long doubleKey(double value) {
+    long bits = Double.doubleToLongBits(value);
+    return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+  }
+
+  private static int[] sort(long[] keys, int[] order, boolean ascending) {
+    int size = keys.length;
+    if (!ascending) {
+      for (int i = 0; i < size; i++) {
+        keys[i] = ~keys[i];
+      }
+    }
+    int chunks = size < PARALLEL_THRESHOLD ? 1
+        : Math.min(Runtime.getRuntime().availableProcessors(), size / (PARALLEL_THRESHOLD / 4));
+    var keyBuffer = new long[size];
+    var orderBuffer = new int[size];
+    for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+      var histograms = histograms(keys, shift, chunks);
+      if (isTrivial(histograms, size)) {
+        continue;
+      }
+      var offsets = offsets(histograms);
+      int finalShift = shift;
+      long[] sourceKeys = keys;
+      int[] sourceOrder = order;
+      long[] targetKeys = keyBuffer;
+      int[] targetOrder = orderBuffer;
+      range(0, chunks).parallel().forEach(chunk -> {
+        var chunkOffsets = offsets[chunk];
+        int to = (int) ((long) size * (chunk + 1) / chunks);
+        for (int i = (int) ((long) size * chunk / chunks); i < to; i++) {
+          int digit = (int) (sourceKeys[i] >>> finalShift) & (RADIX - 1);
+          int target = chunkOffsets[digit]++;
+          targetKeys[target] = sourceKeys[i];
+          targetOrder[target] = sourceOrder[i];
+        }
+      });
+      keyBuffer = keys;
+      orderBuffer = order;
+      keys = targetKeys;
+      order = targetOrder;
+    }
+    return order;
+  }
+
+  private static int[][] histograms(long[] keys, int shift, int chunks) {
+    var histograms = new int[chunks][RADIX];
+    range(0, chunks).parallel().forEach(chunk -> {
+      var histogram = histograms[chunk];
+      int to = (int) ((long) keys.length * (chunk + 1) / chunks);
+      for (int i = (int) ((long) keys.length * chunk / chunks); i < to; i++) {
+        histogram[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+      }
+    });
+    return histograms;
+  }
+
+  private static boolean isTrivial(int[][] histograms, int size) {
+    for (int digit = 0; digit < RADIX; digit++) {
+      int count = 0;
+      for (var histogram : histograms) {
+        count += histogram[digit];
+      }
+      if (count == size) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int[][] offsets(int[][] histograms) {
+    var offsets = new int[histograms.length][RADIX];
+    int offset = 0;
+    for (int digit = 0; digit < RADIX; digit++) {
+      for (int chunk = 0; chunk < histograms.length; chunk++) {
+        offsets[chunk][digit] = offset;
+        offset += histograms[chunk][digit];
+      }
+    }
+    return offsets;
+  }
+}
@@ -0,0 +1,75 @@
+package org.rsultan.dataframe;
+
+import static java.util.Objects.checkIndex;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.RandomAccess;
+
+public class BooleanColumn extends Column<Boolean> {
+
+  private final BitSet values;
+  private final int size;
+
+  public BooleanColumn(String columnName, BitSet values, int size) {
+    super(columnName, new BooleanValues(values, size));
+    this.values = values;
+    this.size = size;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Boolean get(int index) {
+    return getBoolean(index);
+  }
+
+  @Override
+  public boolean isPrimitive() {
+    return true;
+  }
+
+  @Override
+  public double getDouble(int index) {
+    return getBoolean(index) ? 1.0D : 0.0D;
+  }
+
+  public boolean getBoolean(int index) {
+    return values.get(checkIndex(index, size));
+  }
+
+  @Override
+  public BooleanColumn select(int[] indices) {
+    var selected = new BitSet(indices.length);
+    for (int i = 0; i < indices.length; i++) {
+      selected.set(i, values.get(indices[i]));
+    }
+    return new BooleanColumn(columnName(), selected, indices.length);
+  }
+
+  private static class BooleanValues extends AbstractList<Boolean> implements RandomAccess,
+      Serializable {
+
+    private final BitSet values;
+    private final int size;
+
+    private BooleanValues(BitSet values, int size) {
+      this.values = values;
+      this.size = size;
+    }
+
+    @Override
+    public Boolean get(int index) {
+      return values.get(checkIndex(index, size));
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
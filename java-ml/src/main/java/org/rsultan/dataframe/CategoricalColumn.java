@@ -0,0 +1,117 @@
+package org.rsultan.dataframe;
+
+import static java.util.Objects.checkIndex;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.RandomAccess;
+
+public class CategoricalColumn<T> extends Column<T> {
+
+  private final int[] codes;
+  private final List<T> dictionary;
+
+  public CategoricalColumn(String columnName, int[] codes, List<T> dictionary) {
+    super(columnName, new CategoricalValues<>(codes, dictionary));
+    this.codes = codes;
+    this.dictionary = dictionary;
+  }
+
+  public static <T> CategoricalColumn<T> of(Column<T> column) {
+    if (column instanceof CategoricalColumn<T> categorical) {
+      return categorical;
+    } else if (column instanceof SelectionColumn<T> view
+        && view.getParent() instanceof CategoricalColumn<T> parent) {
+      return parent.select(view.getSelection().positions());
+    }
+    var dictionary = new ArrayList<T>();
+    var codesByValue = new HashMap<T, Integer>();
+    var codes = new int[column.size()];
+    for (int row = 0; row < codes.length; row++) {
+      var value = column.get(row);
+      codes[row] = value == null ? -1 : codesByValue.computeIfAbsent(value, key -> {
+        dictionary.add(key);
+        return dictionary.size() - 1;
+      });
+    }
+    return new CategoricalColumn<>(column.columnName(), codes, dictionary);
+  }
+
+  public static <T> CategoricalColumn<T> concat(String columnName,
+      List<? extends CategoricalColumn<? extends T>> columns) {
+    var dictionary = new ArrayList<T>();
+    var codesByValue = new HashMap<T, Integer>();
+    var codes = new int[columns.stream().mapToInt(Column::size).sum()];
+    int offset = 0;
+    for (CategoricalColumn<? extends T> column : columns) {
+      var remapped = column.dictionary.stream()
+          .mapToInt(value -> codesByValue.computeIfAbsent(value, key -> {
+            dictionary.add(key);
+            return dictionary.size() - 1;
+          }))
+          .toArray();
+      for (int code : column.codes) {
+        codes[offset++] = code < 0 ? -1 : remapped[code];
+      }
+    }
+    return new CategoricalColumn<>(columnName, codes, dictionary);
+  }
+
+  @Override
+  public int size() {
+    return codes.length;
+  }
+
+  @Override
+  public T get(int index) {
+    int code = codes[index];
+    return code < 0 ? null : dictionary.get(code);
+  }
+
+  public int getCode(int index) {
+    return codes[checkIndex(index, codes.length)];
+  }
+
+  public List<T> getDictionary() {
+    return dictionary;
+  }
+
+  public int cardinality() {
+    return dictionary.size();
+  }
+
+  @Override
+  public CategoricalColumn<T> select(int[] indices) {
+    var selected = new int[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      selected[i] = codes[indices[i]];
+    }
+    return new CategoricalColumn<>(columnName(), selected, dictionary);
+  }
+
+  private static class CategoricalValues<T> extends AbstractList<T> implements RandomAccess,
+      Serializable {
+
+    private final int[] codes;
+    private final List<T> dictionary;
+
+    private CategoricalValues(int[] codes, List<T> dictionary) {
+      this.codes = codes;
+      this.dictionary = dictionary;
+    }
+
+    @Override
+    public T get(int index) {
+      int code = codes[index];
+      return code < 0 ? null : dictionary.get(code);
+    }
+
+    @Override
+    public int size() {
+      return codes.length;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package org.rsultan.dataframe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CategoricalColumnBuilder<T> implements ColumnBuilder<T> {
+
+  private final List<T> dictionary = new ArrayList<>();
+  private final Map<T, Integer> codesByValue = new HashMap<>();
+  private int[] codes = new int[16];
+  private int size;
+
+  @Override
+  public void append(T value) {
+    if (size == codes.length) {
+      codes = Arrays.copyOf(codes, codes.length * 2);
+    }
+    codes[size++] = value == null ? -1 : codesByValue.computeIfAbsent(value, key -> {
+      dictionary.add(key);
+      return dictionary.size() - 1;
+    });
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public CategoricalColumn<T> build(String columnName) {
+    return new CategoricalColumn<>(columnName, Arrays.copyOf(codes, size), dictionary);
+  }
+}
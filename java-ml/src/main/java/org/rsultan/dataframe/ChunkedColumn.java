@@ -0,0 +1,157 @@
+package org.rsultan.dataframe;
+
+import static java.util.Arrays.binarySearch;
+import static java.util.Objects.checkIndex;
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+public class ChunkedColumn<T> extends Column<T> {
+
+  private final ChunkedValues<T> values;
+
+  public ChunkedColumn(String columnName, List<? extends Column<? extends T>> chunks) {
+    this(columnName, new ChunkedValues<T>(chunks.stream()
+        .filter(chunk -> chunk.size() > 0)
+        .collect(toUnmodifiableList())));
+  }
+
+  private ChunkedColumn(String columnName, ChunkedValues<T> values) {
+    super(columnName, values);
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.size();
+  }
+
+  @Override
+  public T get(int index) {
+    return values.get(index);
+  }
+
+  @Override
+  public double getDouble(int index) {
+    int chunkIdx = values.chunkIndex(index);
+    return values.chunks.get(chunkIdx).getDouble(index - values.offsets[chunkIdx]);
+  }
+
+  @Override
+  public boolean isPrimitive() {
+    return values.chunks.stream().allMatch(Column::isPrimitive);
+  }
+
+  @Override
+  public void copyDoubles(int from, int to, double[] target, int offset, int stride) {
+    if (from >= to) {
+      return;
+    }
+    for (int chunkIdx = values.chunkIndex(from); from < to; chunkIdx++) {
+      int chunkStart = values.offsets[chunkIdx];
+      int chunkEnd = Math.min(to, values.offsets[chunkIdx + 1]);
+      values.chunks.get(chunkIdx).copyDoubles(from - chunkStart, chunkEnd - chunkStart, target,
+          offset, stride);
+      offset += (chunkEnd - from) * stride;
+      from = chunkEnd;
+    }
+  }
+
+  @Override
+  public Column<T> select(int[] indices) {
+    if (allChunksAre(DoubleColumn.class)) {
+      var selected = new double[indices.length];
+      for (int i = 0; i < indices.length; i++) {
+        selected[i] = getDouble(indices[i]);
+      }
+      return sameValueType(new DoubleColumn(columnName(), selected));
+    } else if (allChunksAre(LongColumn.class)) {
+      var selected = new long[indices.length];
+      for (int i = 0; i < indices.length; i++) {
+        int chunkIdx = values.chunkIndex(indices[i]);
+        var chunk = (LongColumn) values.chunks.get(chunkIdx);
+        selected[i] = chunk.getLong(indices[i] - values.offsets[chunkIdx]);
+      }
+      return sameValueType(new LongColumn(columnName(), selected));
+    }
+    return super.select(indices);
+  }
+
+  public List<Column<? extends T>> getChunks() {
+    return values.chunks;
+  }
+
+  int chunkIndex(int index) {
+    return values.chunkIndex(index);
+  }
+
+  int chunkOffset(int chunkIdx) {
+    return values.offsets[chunkIdx];
+  }
+
+  private boolean allChunksAre(Class<?> type) {
+    return !values.chunks.isEmpty() && values.chunks.stream().allMatch(type::isInstance);
+  }
+
+  // Only called once every chunk was checked to be of the returned column type, so T is its
+  // value type
+  @SuppressWarnings("unchecked")
+  private static <T> Column<T> sameValueType(Column<?> column) {
+    return (Column<T>) column;
+  }
+
+  private static class ChunkedValues<T> extends AbstractList<T> implements RandomAccess,
+      Serializable {
+
+    private final List<Column<? extends T>> chunks;
+    private final int[] offsets;
+    private final int chunkShift;
+
+    private ChunkedValues(List<Column<? extends T>> chunks) {
+      this.chunks = chunks;
+      this.offsets = new int[chunks.size() + 1];
+      for (int i = 0; i < chunks.size(); i++) {
+        offsets[i + 1] = offsets[i] + chunks.get(i).size();
+      }
+      this.chunkShift = computeChunkShift(chunks);
+    }
+
+    private static int computeChunkShift(List<? extends Column<?>> chunks) {
+      if (chunks.isEmpty() || Integer.bitCount(chunks.get(0).size()) != 1) {
+        return -1;
+      }
+      int chunkSize = chunks.get(0).size();
+      for (int i = 1; i < chunks.size(); i++) {
+        boolean isLast = i == chunks.size() - 1;
+        int size = chunks.get(i).size();
+        if (isLast ? size > chunkSize : size != chunkSize) {
+          return -1;
+        }
+      }
+      return Integer.numberOfTrailingZeros(chunkSize);
+    }
+
+    private int chunkIndex(int index) {
+      checkIndex(index, size());
+      if (chunkShift >= 0) {
+        return index >>> chunkShift;
+      }
+      int position = binarySearch(offsets, 0, chunks.size(), index);
+      return position >= 0 ? position : -position - 2;
+    }
+
+    @Override
+    public T get(int index) {
+      int chunkIdx = chunkIndex(index);
+      return chunks.get(chunkIdx).get(index - offsets[chunkIdx]);
+    }
+
+    @Override
+    public int size() {
+      return offsets[chunks.size()];
+    }
+  }
+}
@@ -5,10 +5,109 @@ import static java.util.stream.Collectors.toList;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.Objects;
 
-public record Column<T>(String columnName, List<T> values) implements Serializable {
+public class Column<T> implements Serializable {
+
+  private final String columnName;
+  private final List<T> values;
+  private transient volatile ColumnStatistics statistics;
+  private transient volatile QuantileSketch sketch;
+
+  public Column(String columnName, List<T> values) {
+    this.columnName = columnName;
+    this.values = values;
+  }
 
   public Column(String columnName, T... values) {
     this(columnName, stream(values).collect(toList()));
   }
+
+  public String columnName() {
+    return columnName;
+  }
+
+  public List<T> values() {
+    return values;
+  }
+
+  public int size() {
+    return values.size();
+  }
+
+  public T get(int index) {
+    return values.get(index);
+  }
+
+  public double getDouble(int index) {
+    var value = get(index);
+    if (value instanceof Number number) {
+      return number.doubleValue();
+    } else if (value instanceof Boolean b) {
+      return b ? 1.0D : 0.0D;
+    }
+    throw new IllegalArgumentException("Cannot cast " + value + " to number");
+  }
+
+  public boolean isPrimitive() {
+    return false;
+  }
+
+  public void copyDoubles(int from, int to, double[] target, int offset, int stride) {
+    for (int row = from; row < to; row++, offset += stride) {
+      target[offset] = getDouble(row);
+    }
+  }
+
+  public ColumnStatistics stats() {
+    var stats = statistics;
+    if (stats == null) {
+      stats = ColumnStatistics.of(this);
+      statistics = stats;
+    }
+    return stats;
+  }
+
+  public QuantileSketch sketch() {
+    return cachedSketch().copy();
+  }
+
+  public double quantile(double rank) {
+    return cachedSketch().quantile(rank);
+  }
+
+  private QuantileSketch cachedSketch() {
+    var cached = sketch;
+    if (cached == null) {
+      cached = QuantileSketch.of(this);
+      sketch = cached;
+    }
+    return cached;
+  }
+
+  public Column<T> select(int[] indices) {
+    return Columns.create(columnName, stream(indices).mapToObj(this::get).collect(toList()));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof Column<?> column)) {
+      return false;
+    }
+    return Objects.equals(columnName, column.columnName())
+        && Objects.equals(values(), column.values());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(columnName, values());
+  }
+
+  @Override
+  public String toString() {
+    return "Column[columnName=" + columnName + ", values=" + values() + "]";
+  }
 }
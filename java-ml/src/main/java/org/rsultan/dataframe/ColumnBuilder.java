@@ -0,0 +1,13 @@
+package org.rsultan.dataframe;
+
+public interface ColumnBuilder<T> {
+
+  int CHUNK_SIZE = 1 << 16;
+
+  void append(T value);
+
+  int size();
+
+  Column<T> build(String columnName);
+
+}
@@ -0,0 +1,72 @@
+package org.rsultan.dataframe;
+
+import static java.util.stream.IntStream.range;
+
+import java.io.Serializable;
+
+public record ColumnStatistics(long count, double mean, double sumOfSquaredDeviations,
+                               double min, double max) implements Serializable {
+
+  private static final int BLOCK_SIZE = 1 << 14;
+
+  public static ColumnStatistics of(Column<?> column) {
+    int size = column.size();
+    int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    return range(0, blocks).parallel()
+        .mapToObj(block -> of(column, block * BLOCK_SIZE, Math.min(size, (block + 1) * BLOCK_SIZE)))
+        .reduce(ColumnStatistics::merge)
+        .orElse(empty());
+  }
+
+  private static ColumnStatistics of(Column<?> column, int from, int to) {
+    long count = 0;
+    double mean = 0;
+    double m2 = 0;
+    double min = Double.POSITIVE_INFINITY;
+    double max = Double.NEGATIVE_INFINITY;
+    boolean primitive = column.isPrimitive();
+    for (int row = from; row < to; row++) {
+      if (!primitive && column.get(row) == null) {
+        continue;
+      }
+      double value = column.getDouble(row);
+      count++;
+      double delta = value - mean;
+      mean += delta / count;
+      m2 += delta * (value - mean);
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+    }
+    return count == 0 ? empty() : new ColumnStatistics(count, mean, m2, min, max);
+  }
+
+  private static ColumnStatistics empty() {
+    return new ColumnStatistics(0, Double.NaN, 0, Double.NaN, Double.NaN);
+  }
+
+  public ColumnStatistics merge(ColumnStatistics other) {
+    if (other.count == 0) {
+      return this;
+    } else if (count == 0) {
+      return other;
+    }
+    long mergedCount = count + other.count;
+    double delta = other.mean - mean;
+    return new ColumnStatistics(
+        mergedCount,
+        mean + delta * other.count / mergedCount,
+        sumOfSquaredDeviations + other.sumOfSquaredDeviations
+            + delta * delta * count * other.count / mergedCount,
+        Math.min(min, other.min),
+        Math.max(max, other.max)
+    );
+  }
+
+  public double variance() {
+    return count < 2 ? Double.NaN : sumOfSquaredDeviations / (count - 1);
+  }
+
+  public double standardDeviation() {
+    return Math.sqrt(variance());
+  }
+}
@@ -0,0 +1,101 @@
+package org.rsultan.dataframe;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+import org.rsultan.dataframe.columnar.MappedLongColumn;
+import org.rsultan.dataframe.offheap.OffHeapLongColumn;
+
+public class Columns {
+
+  public static <T> Column<T> create(String columnName, List<T> values) {
+    if (values == null || values.isEmpty()) {
+      return new Column<>(columnName, values);
+    }
+    var first = values.get(0);
+    if (first instanceof Double && allInstancesOf(values, Double.class)) {
+      return sameValueType(toDoubleColumn(columnName, values));
+    } else if (first instanceof Long && allInstancesOf(values, Long.class)) {
+      return sameValueType(toLongColumn(columnName, values));
+    } else if (first instanceof Boolean && allInstancesOf(values, Boolean.class)) {
+      return sameValueType(toBooleanColumn(columnName, values));
+    }
+    return new Column<>(columnName, values);
+  }
+
+  // Reads every row of a column holding only longs without boxing, whatever its layout
+  // (in-heap, off-heap, mapped, chunked or a view over one of those); null for any other column
+  public static IntToLongFunction longReader(Column<?> column) {
+    if (column instanceof LongColumn longColumn) {
+      return longColumn::getLong;
+    } else if (column instanceof OffHeapLongColumn longColumn) {
+      return longColumn::getLong;
+    } else if (column instanceof MappedLongColumn longColumn) {
+      return longColumn::getLong;
+    } else if (column instanceof SelectionColumn<?> view) {
+      var parent = longReader(view.getParent());
+      var positions = view.getSelection().positions();
+      return parent == null ? null : row -> parent.applyAsLong(positions[row]);
+    } else if (column instanceof IndexedColumn<?> view) {
+      var parent = longReader(view.getParent());
+      return parent == null ? null : row -> parent.applyAsLong(view.parentRow(row));
+    } else if (column instanceof ChunkedColumn<?> chunked) {
+      var chunks = chunked.getChunks();
+      var readers = new IntToLongFunction[chunks.size()];
+      for (int chunkIdx = 0; chunkIdx < readers.length; chunkIdx++) {
+        readers[chunkIdx] = longReader(chunks.get(chunkIdx));
+        if (readers[chunkIdx] == null) {
+          return null;
+        }
+      }
+      return row -> {
+        int chunkIdx = chunked.chunkIndex(row);
+        return readers[chunkIdx].applyAsLong(row - chunked.chunkOffset(chunkIdx));
+      };
+    }
+    return null;
+  }
+
+  // Only called once every value was checked to be an instance of the column value type, so T
+  // is that type
+  @SuppressWarnings("unchecked")
+  private static <T> Column<T> sameValueType(Column<?> column) {
+    return (Column<T>) column;
+  }
+
+  private static boolean allInstancesOf(List<?> values, Class<?> type) {
+    for (Object value : values) {
+      if (!type.isInstance(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static DoubleColumn toDoubleColumn(String columnName, List<?> values) {
+    var doubles = new double[values.size()];
+    int i = 0;
+    for (Object value : values) {
+      doubles[i++] = (Double) value;
+    }
+    return new DoubleColumn(columnName, doubles);
+  }
+
+  private static LongColumn toLongColumn(String columnName, List<?> values) {
+    var longs = new long[values.size()];
+    int i = 0;
+    for (Object value : values) {
+      longs[i++] = (Long) value;
+    }
+    return new LongColumn(columnName, longs);
+  }
+
+  private static BooleanColumn toBooleanColumn(String columnName, List<?> values) {
+    var booleans = new BitSet(values.size());
+    int i = 0;
+    for (Object value : values) {
+      booleans.set(i++, (Boolean) value);
+    }
+    return new BooleanColumn(columnName, booleans, values.size());
+  }
+}
@@ -3,45 +3,66 @@ package org.rsultan.dataframe;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.util.Arrays.stream;
+import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.IntStream.range;
 import static java.util.stream.Stream.of;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.nd4j.linalg.api.ndarray.INDArray;
+import org.rsultan.dataframe.columnar.ColumnarWriter;
 import org.rsultan.dataframe.printer.DataframePrinter;
 import org.rsultan.dataframe.printer.DataframeWriter;
 import org.rsultan.dataframe.transform.filter.FilterDataframe;
 import org.rsultan.dataframe.transform.filter.FilterTransform;
+import org.rsultan.dataframe.transform.group.GroupDataframe;
+import org.rsultan.dataframe.transform.group.GroupTransform;
+import org.rsultan.dataframe.transform.group.GroupedDataframe;
+import org.rsultan.dataframe.transform.join.JoinDataframe;
+import org.rsultan.dataframe.transform.join.JoinTransform;
+import org.rsultan.dataframe.transform.join.JoinType;
 import org.rsultan.dataframe.transform.map.MapDataframe;
 import org.rsultan.dataframe.transform.map.MapTransform;
 import org.rsultan.dataframe.transform.matrix.MatrixDataframe;
 import org.rsultan.dataframe.transform.matrix.MatrixTransform;
+import org.rsultan.dataframe.transform.sort.SortDataframe;
+import org.rsultan.dataframe.transform.sort.SortTransform;
 
-public class Dataframe implements MapTransform, FilterTransform, MatrixTransform {
+public class Dataframe implements MapTransform, FilterTransform, MatrixTransform,
+    GroupTransform, JoinTransform, SortTransform {
 
   private final Map<?, List<?>> data;
+  private final Map<String, Column<?>> columnsByName;
   private final Column<?>[] columns;
   private final int rowSize;
 
   private final MapTransform mapTransform;
   private final FilterTransform filterTransform;
   private final MatrixTransform matrixTransform;
+  private final GroupTransform groupTransform;
+  private final JoinTransform joinTransform;
+  private final SortTransform sortTransform;
 
   Dataframe(Column<?>[] columns) {
     this.columns = columns;
     this.data = stream(columns)
         .collect(toMap(Column::columnName, Column::values, (e1, e2) -> e1, LinkedHashMap::new));
+    this.columnsByName = stream(columns)
+        .collect(toMap(Column::columnName, column -> column, (e1, e2) -> e1, HashMap::new));
     var sizes = this.data.values().stream().map(List::size).distinct().collect(toList());
     if (sizes.size() > 1) {
       throw new IllegalArgumentException("Dataframe column values should have the same size");
@@ -51,6 +72,9 @@ public class Dataframe implements MapTransform, FilterTransform, MatrixTransform
     this.mapTransform = new MapDataframe(this);
     this.filterTransform = new FilterDataframe(this);
     this.matrixTransform = new MatrixDataframe(this);
+    this.groupTransform = new GroupDataframe(this);
+    this.joinTransform = new JoinDataframe(this);
+    this.sortTransform = new SortDataframe(this);
   }
 
   Dataframe(String[] columnNames, Row[] rows) {
@@ -66,18 +90,19 @@ public class Dataframe implements MapTransform, FilterTransform, MatrixTransform
       throw new IllegalArgumentException(
           "Dataframe row values should have the same size has the columns");
     }
-    return range(0, columnNames.length).mapToObj(idx -> {
-      var column = new Column<>(columnNames[idx], new ArrayList<>());
-      stream(rows).parallel().map(row -> row.values().get(idx))
-          .forEachOrdered(column.values()::add);
-      return column;
+    return range(0, columnNames.length).parallel().mapToObj(idx -> {
+      var values = new ArrayList<>(rows.length);
+      for (Row row : rows) {
+        values.add(row.values().get(idx));
+      }
+      return Columns.create(columnNames[idx], values);
     }).toArray(Column[]::new);
   }
 
   public Dataframe select(String... columnNames) {
     return columnNames.length == 0 ? this : Dataframes.create(
         stream(columnNames)
-            .map(colName -> new Column<>(colName, this.get(colName)))
+            .map(this::getColumn)
             .toArray(Column[]::new)
     );
   }
@@ -118,6 +143,56 @@ public class Dataframe implements MapTransform, FilterTransform, MatrixTransform
     return mapTransform.mapWithout(columnNames);
   }
 
+  public Dataframe categorical(String... columnNames) {
+    var toEncode = Set.copyOf(Arrays.asList(columnNames));
+    stream(columnNames).forEach(this::getColumn);
+    return Dataframes.create(
+        stream(columns)
+            .map(column -> toEncode.contains(column.columnName())
+                ? CategoricalColumn.of(column) : column)
+            .toArray(Column[]::new)
+    );
+  }
+
+  public GroupedDataframe groupBy(String... columnNames) {
+    return groupTransform.groupBy(columnNames);
+  }
+
+  public Dataframe join(Dataframe other, String leftKey, String rightKey, JoinType type) {
+    return joinTransform.join(other, leftKey, rightKey, type);
+  }
+
+  public Dataframe join(Dataframe other, String key) {
+    return join(other, key, key, JoinType.INNER);
+  }
+
+  public Dataframe sortBy(String... columnNames) {
+    return sortTransform.sortBy(columnNames);
+  }
+
+  public Dataframe sortBy(String[] columnNames, boolean... ascending) {
+    return sortTransform.sortBy(columnNames, ascending);
+  }
+
+  public Dataframe describe() {
+    var described = new ArrayList<Column<?>>();
+    described.add(new Column<>("statistic", "count", "mean", "std", "min", "max"));
+    stream(columns)
+        .filter(column -> column.isPrimitive() || column.values().stream()
+            .filter(Objects::nonNull).findFirst().orElse(null) instanceof Number)
+        .map(column -> {
+          var stats = column.stats();
+          return new DoubleColumn(column.columnName(), new double[]{stats.count(), stats.mean(),
+              stats.standardDeviation(), stats.min(), stats.max()});
+        })
+        .forEach(described::add);
+    return Dataframes.create(described.toArray(Column[]::new));
+  }
+
+  public LazyDataframe lazy() {
+    return new LazyDataframe(this);
+  }
+
   public Dataframe oneHotEncode(String columnToEncode) {
     return matrixTransform.oneHotEncode(columnToEncode);
   }
@@ -130,6 +205,14 @@ public class Dataframe implements MapTransform, FilterTransform, MatrixTransform
     return matrixTransform.toMatrix(columnNames);
   }
 
+  public INDArray toMatrix(char order, String... columnNames) {
+    return matrixTransform.toMatrix(order, columnNames);
+  }
+
+  public INDArray toStandardizedMatrix(String... columnNames) {
+    return matrixTransform.toStandardizedMatrix(columnNames);
+  }
+
   public void show(int number) {
     this.show(0, number);
   }
@@ -142,12 +225,35 @@ public class Dataframe implements MapTransform, FilterTransform, MatrixTransform
     DataframeWriter.write(this, filename, separator, enclosure);
   }
 
+  public void save(String filename) throws IOException {
+    ColumnarWriter.write(this, filename);
+  }
+
   public void tail() {
     show(this.rowSize - 10, this.rowSize);
   }
 
   public <T> List<T> get(Object column) {
-    return List.copyOf((List<T>) data.get(column));
+    return unmodifiableList((List<T>) data.get(column));
+  }
+
+  public <T> T get(String columnName, int row) {
+    return this.<T>getColumn(columnName).get(row);
+  }
+
+  public double getDouble(String columnName, int row) {
+    return getColumn(columnName).getDouble(row);
+  }
+
+  public <T> Column<T> getColumn(String columnName) {
+    // The value type is declared by the caller, as with get: a mismatch surfaces as a
+    // ClassCastException where the values are read
+    @SuppressWarnings("unchecked")
+    var column = (Column<T>) columnsByName.get(columnName);
+    if (column == null) {
+      throw new IllegalArgumentException("Unknown column " + columnName);
+    }
+    return column;
   }
 
   public int getColumnSize() {
@@ -0,0 +1,114 @@
+package org.rsultan.dataframe;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.rsultan.dataframe.reader.ColumnType;
+
+public class DataframeBuilder {
+
+  private final List<String> columnNames = new ArrayList<>();
+  private final List<ColumnBuilder<?>> builders = new ArrayList<>();
+  private final List<ColumnBuilder<String>> stringBuilders = new ArrayList<>();
+  private final Map<String, Integer> indexByName = new HashMap<>();
+
+  public DataframeBuilder addColumn(String columnName, ColumnType type) {
+    return switch (type) {
+      case LONG -> addColumn(columnName, new LongColumnBuilder(), null);
+      case DOUBLE -> addColumn(columnName, new DoubleColumnBuilder(), null);
+      case STRING -> addStringColumn(columnName, new ObjectColumnBuilder<>());
+    };
+  }
+
+  public DataframeBuilder addCategoricalColumn(String columnName) {
+    return addStringColumn(columnName, new CategoricalColumnBuilder<>());
+  }
+
+  public int indexOf(String columnName) {
+    var index = indexByName.get(columnName);
+    if (index == null) {
+      throw new IllegalArgumentException("Unknown column " + columnName);
+    }
+    return index;
+  }
+
+  public DataframeBuilder appendDouble(String columnName, double value) {
+    return appendDouble(indexOf(columnName), value);
+  }
+
+  public DataframeBuilder appendDouble(int columnIdx, double value) {
+    if (!(builders.get(columnIdx) instanceof DoubleColumnBuilder builder)) {
+      throw wrongType(columnIdx, ColumnType.DOUBLE);
+    }
+    builder.appendDouble(value);
+    return this;
+  }
+
+  public DataframeBuilder appendLong(String columnName, long value) {
+    return appendLong(indexOf(columnName), value);
+  }
+
+  public DataframeBuilder appendLong(int columnIdx, long value) {
+    if (!(builders.get(columnIdx) instanceof LongColumnBuilder builder)) {
+      throw wrongType(columnIdx, ColumnType.LONG);
+    }
+    builder.appendLong(value);
+    return this;
+  }
+
+  public DataframeBuilder appendString(String columnName, String value) {
+    return appendString(indexOf(columnName), value);
+  }
+
+  public DataframeBuilder appendString(int columnIdx, String value) {
+    var builder = stringBuilders.get(columnIdx);
+    if (builder == null) {
+      throw wrongType(columnIdx, ColumnType.STRING);
+    }
+    builder.append(value);
+    return this;
+  }
+
+  public int getRowSize() {
+    return builders.isEmpty() ? 0 : builders.get(0).size();
+  }
+
+  public Dataframe build() {
+    var sizes = builders.stream().map(ColumnBuilder::size).distinct().collect(toList());
+    if (sizes.size() > 1) {
+      throw new IllegalArgumentException("Dataframe columns should have the same size, got "
+          + range(0, builders.size())
+          .mapToObj(idx -> columnNames.get(idx) + "=" + builders.get(idx).size())
+          .collect(toList()));
+    }
+    return Dataframes.create(
+        range(0, builders.size())
+            .mapToObj(idx -> builders.get(idx).build(columnNames.get(idx)))
+            .toArray(Column[]::new)
+    );
+  }
+
+  private DataframeBuilder addStringColumn(String columnName, ColumnBuilder<String> builder) {
+    return addColumn(columnName, builder, builder);
+  }
+
+  private DataframeBuilder addColumn(String columnName, ColumnBuilder<?> builder,
+      ColumnBuilder<String> stringBuilder) {
+    if (indexByName.putIfAbsent(columnName, builders.size()) != null) {
+      throw new IllegalArgumentException("Column " + columnName + " already exists");
+    }
+    columnNames.add(columnName);
+    builders.add(builder);
+    stringBuilders.add(stringBuilder);
+    return this;
+  }
+
+  private IllegalArgumentException wrongType(int columnIdx, ColumnType type) {
+    return new IllegalArgumentException(
+        "Column " + columnNames.get(columnIdx) + " is not a " + type + " column");
+  }
+}
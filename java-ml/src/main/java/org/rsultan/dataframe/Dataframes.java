@@ -1,6 +1,10 @@
 package org.rsultan.dataframe;
 
 import java.io.IOException;
+import java.util.function.Predicate;
+import org.rsultan.dataframe.columnar.ColumnarReader;
+import org.rsultan.dataframe.reader.CSVReader;
+import org.rsultan.dataframe.reader.ColumnType;
 import org.rsultan.utils.CSVUtils;
 
 public class Dataframes {
@@ -21,6 +25,14 @@ public class Dataframes {
     return new Dataframe(columnNames, rows);
   }
 
+  public static DataframeBuilder builder() {
+    return new DataframeBuilder();
+  }
+
+  public static Dataframe open(String fileName) throws IOException {
+    return ColumnarReader.open(fileName);
+  }
+
   public static Dataframe csv(String fileName) throws IOException {
     return csv(fileName, ",");
   }
@@ -34,6 +46,27 @@ public class Dataframes {
     return csv(fileName, separator, enclosure, true);
   }
 
+  public static Dataframe csv(String fileName, String[] columns) throws IOException {
+    return new CSVReader(fileName).setColumns(columns).read();
+  }
+
+  public static <T> Dataframe csv(String fileName, String[] columns, String filterColumn,
+      Predicate<T> predicate) throws IOException {
+    return csv(fileName, ",", "\"", true, columns, filterColumn, predicate);
+  }
+
+  public static <T> Dataframe csv(String fileName, String separator, String enclosure,
+      boolean withHeader, String[] columns, String filterColumn, Predicate<T> predicate)
+      throws IOException {
+    return new CSVReader(fileName)
+        .setSeparator(separator)
+        .setEnclosure(enclosure)
+        .setWithHeader(withHeader)
+        .setColumns(columns)
+        .setFilter(filterColumn, predicate)
+        .read();
+  }
+
   public static TrainTestDataframe csvTrainTest(String fileName) throws IOException {
     return csvTrainTest(fileName, ",");
   }
@@ -58,4 +91,24 @@ public class Dataframes {
         CSVUtils.read(fileName, separator, enclosure, withHeader)
     );
   }
+
+  public static Dataframe csv(String fileName, String separator, String enclosure,
+      boolean withHeader, ColumnType... schema) throws IOException {
+    return new CSVReader(fileName)
+        .setSeparator(separator)
+        .setEnclosure(enclosure)
+        .setWithHeader(withHeader)
+        .setSchema(schema)
+        .read();
+  }
+
+  public static Dataframe csv(String fileName, String separator, String enclosure,
+      boolean withHeader, int parallelism) throws IOException {
+    return new CSVReader(fileName)
+        .setSeparator(separator)
+        .setEnclosure(enclosure)
+        .setWithHeader(withHeader)
+        .setParallelism(parallelism)
+        .read();
+  }
 }
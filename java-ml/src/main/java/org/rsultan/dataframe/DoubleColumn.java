@@ -0,0 +1,75 @@
+package org.rsultan.dataframe;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+public class DoubleColumn extends Column<Double> {
+
+  private final double[] values;
+
+  public DoubleColumn(String columnName, double[] values) {
+    super(columnName, new DoubleValues(values));
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public Double get(int index) {
+    return values[index];
+  }
+
+  @Override
+  public boolean isPrimitive() {
+    return true;
+  }
+
+  @Override
+  public double getDouble(int index) {
+    return values[index];
+  }
+
+  @Override
+  public void copyDoubles(int from, int to, double[] target, int offset, int stride) {
+    if (stride == 1) {
+      System.arraycopy(values, from, target, offset, to - from);
+      return;
+    }
+    for (int row = from; row < to; row++, offset += stride) {
+      target[offset] = values[row];
+    }
+  }
+
+  @Override
+  public DoubleColumn select(int[] indices) {
+    var selected = new double[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      selected[i] = values[indices[i]];
+    }
+    return new DoubleColumn(columnName(), selected);
+  }
+
+  private static class DoubleValues extends AbstractList<Double> implements RandomAccess,
+      Serializable {
+
+    private final double[] values;
+
+    private DoubleValues(double[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public Double get(int index) {
+      return values[index];
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package org.rsultan.dataframe;
+
+import static java.lang.Math.min;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class DoubleColumnBuilder implements ColumnBuilder<Double> {
+
+  private final List<double[]> chunks = new ArrayList<>();
+  private double[] current = new double[16];
+  private int currentSize;
+
+  @Override
+  public void append(Double value) {
+    appendDouble(value);
+  }
+
+  public void appendDouble(double value) {
+    if (currentSize == current.length) {
+      grow();
+    }
+    current[currentSize++] = value;
+  }
+
+  public double getDouble(int index) {
+    return index < chunks.size() * CHUNK_SIZE
+        ? chunks.get(index / CHUNK_SIZE)[index % CHUNK_SIZE]
+        : current[index - chunks.size() * CHUNK_SIZE];
+  }
+
+  @Override
+  public int size() {
+    return chunks.size() * CHUNK_SIZE + currentSize;
+  }
+
+  @Override
+  public Column<Double> build(String columnName) {
+    var last = new DoubleColumn(columnName,
+        currentSize == current.length ? current : Arrays.copyOf(current, currentSize));
+    if (chunks.isEmpty()) {
+      return last;
+    }
+    var columns = new ArrayList<DoubleColumn>();
+    chunks.forEach(chunk -> columns.add(new DoubleColumn(columnName, chunk)));
+    columns.add(last);
+    return new ChunkedColumn<>(columnName, columns);
+  }
+
+  public ObjectColumnBuilder<Object> toObjectBuilder() {
+    var builder = new ObjectColumnBuilder<>();
+    for (int i = 0; i < size(); i++) {
+      builder.append(getDouble(i));
+    }
+    return builder;
+  }
+
+  private void grow() {
+    if (current.length < CHUNK_SIZE) {
+      current = Arrays.copyOf(current, min(CHUNK_SIZE, current.length * 2));
+    } else {
+      chunks.add(current);
+      current = new double[CHUNK_SIZE];
+      currentSize = 0;
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package org.rsultan.dataframe;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.RandomAccess;
+
+public class IndexedColumn<T> extends Column<T> {
+
+  private final Column<T> parent;
+  private final int[] indices;
+  private final int from;
+  private final int to;
+
+  private IndexedColumn(Column<T> parent, int[] indices, int from, int to) {
+    super(parent.columnName(), new IndexedValues<>(parent, indices, from, to));
+    this.parent = parent;
+    this.indices = indices;
+    this.from = from;
+    this.to = to;
+  }
+
+  public static <T> Column<T> of(Column<T> column, int[] indices) {
+    if (indices.length != column.size()) {
+      throw new IllegalArgumentException("Permutation size must match the column size");
+    }
+    return slice(column, indices, 0, indices.length);
+  }
+
+  public static Column<?>[] view(Column<?>[] columns, int[] indices) {
+    var composedByBase = new HashMap<ViewBase, int[]>();
+    var views = new Column<?>[columns.length];
+    for (int colIdx = 0; colIdx < columns.length; colIdx++) {
+      if (columns[colIdx] instanceof IndexedColumn<?> view) {
+        var composed = composedByBase.computeIfAbsent(
+            new ViewBase(view.indices, view.from, view.to),
+            base -> compose(base, indices)
+        );
+        views[colIdx] = new IndexedColumn<>(view.parent, composed, 0, composed.length);
+      } else {
+        views[colIdx] = slice(columns[colIdx], indices, 0, indices.length);
+      }
+    }
+    return views;
+  }
+
+  public static <T> Column<T> slice(Column<T> column, int from, int to) {
+    return slice(column, null, from, to);
+  }
+
+  private static <T> Column<T> slice(Column<T> column, int[] indices, int from, int to) {
+    if (from < 0 || to > column.size() || from > to) {
+      throw new IllegalArgumentException("Invalid slice [" + from + ", " + to + ")");
+    }
+    if (column instanceof IndexedColumn<T> view) {
+      if (indices == null) {
+        return new IndexedColumn<>(view.parent, view.indices, view.from + from, view.from + to);
+      }
+      var composed = new int[to - from];
+      for (int i = 0; i < composed.length; i++) {
+        composed[i] = view.position(indices[from + i]);
+      }
+      return new IndexedColumn<>(view.parent, composed, 0, composed.length);
+    } else if (column instanceof SelectionColumn<T> view) {
+      var positions = view.getSelection().positions();
+      var composed = new int[to - from];
+      for (int i = 0; i < composed.length; i++) {
+        composed[i] = positions[indices == null ? from + i : indices[from + i]];
+      }
+      return new IndexedColumn<>(view.getParent(), composed, 0, composed.length);
+    }
+    return new IndexedColumn<>(column, indices, from, to);
+  }
+
+  @Override
+  public int size() {
+    return to - from;
+  }
+
+  @Override
+  public T get(int index) {
+    return parent.get(position(index));
+  }
+
+  @Override
+  public double getDouble(int index) {
+    return parent.getDouble(position(index));
+  }
+
+  @Override
+  public boolean isPrimitive() {
+    return parent.isPrimitive();
+  }
+
+  @Override
+  public Column<T> select(int[] indices) {
+    var parentIndices = new int[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      parentIndices[i] = position(indices[i]);
+    }
+    return parent.select(parentIndices);
+  }
+
+  public Column<T> getParent() {
+    return parent;
+  }
+
+  public int[] getIndices() {
+    return indices;
+  }
+
+  public int getFrom() {
+    return from;
+  }
+
+  public int getTo() {
+    return to;
+  }
+
+  int parentRow(int index) {
+    return position(index);
+  }
+
+  private int position(int index) {
+    return position(indices, from, to, index);
+  }
+
+  private static int[] compose(ViewBase base, int[] indices) {
+    var composed = new int[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      composed[i] = position(base.indices(), base.from(), base.to(), indices[i]);
+    }
+    return composed;
+  }
+
+  private static int position(int[] indices, int from, int to, int index) {
+    if (index < 0 || index >= to - from) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length "
+          + (to - from));
+    }
+    return indices == null ? from + index : indices[from + index];
+  }
+
+  private record ViewBase(int[] indices, int from, int to) {
+
+  }
+
+  private static class IndexedValues<T> extends AbstractList<T> implements RandomAccess,
+      Serializable {
+
+    private final Column<T> parent;
+    private final int[] indices;
+    private final int from;
+    private final int to;
+
+    private IndexedValues(Column<T> parent, int[] indices, int from, int to) {
+      this.parent = parent;
+      this.indices = indices;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public T get(int index) {
+      return parent.get(position(indices, from, to, index));
+    }
+
+    @Override
+    public int size() {
+      return to - from;
+    }
+  }
+}
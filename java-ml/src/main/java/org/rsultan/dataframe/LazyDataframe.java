@@ -0,0 +1,107 @@
+package org.rsultan.dataframe;
+
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.rsultan.dataframe.transform.lazy.LogicalPlan;
+import org.rsultan.dataframe.transform.lazy.LogicalPlan.DropStep;
+import org.rsultan.dataframe.transform.lazy.LogicalPlan.FilterStep;
+import org.rsultan.dataframe.transform.lazy.LogicalPlan.MapStep;
+import org.rsultan.dataframe.transform.lazy.LogicalPlan.OneHotEncodeStep;
+import org.rsultan.dataframe.transform.lazy.LogicalPlan.SelectStep;
+import org.rsultan.dataframe.transform.lazy.LogicalPlan.Step;
+
+public class LazyDataframe {
+
+  private final Dataframe source;
+  private final LogicalPlan plan;
+
+  LazyDataframe(Dataframe source) {
+    this(source, new LogicalPlan());
+  }
+
+  private LazyDataframe(Dataframe source, LogicalPlan plan) {
+    this.source = source;
+    this.plan = plan;
+  }
+
+  public LazyDataframe select(String... columnNames) {
+    return then(new SelectStep(columnNames));
+  }
+
+  public <SOURCE1> LazyDataframe filter(String columnName, Predicate<SOURCE1> predicate) {
+    return then(new FilterStep(args -> predicate.test(arg(args, 0)), columnName));
+  }
+
+  public <SOURCE1, SOURCE2> LazyDataframe filter(
+      String sourceColumn1,
+      String sourceColumn2,
+      BiPredicate<SOURCE1, SOURCE2> predicate) {
+    return then(new FilterStep(
+        args -> predicate.test(arg(args, 0), arg(args, 1)),
+        sourceColumn1, sourceColumn2
+    ));
+  }
+
+  public <T> LazyDataframe map(String columnName, Supplier<T> supplier) {
+    return then(new MapStep(columnName, args -> supplier.get()));
+  }
+
+  public <S, T> LazyDataframe map(String columnName, Function<S, T> f, String sourceColumn) {
+    return then(new MapStep(columnName, args -> f.apply(arg(args, 0)), sourceColumn));
+  }
+
+  public <S1, S2, T> LazyDataframe map(String columnName,
+      BiFunction<S1, S2, T> f,
+      String sourceColumn1,
+      String sourceColumn2) {
+    return then(new MapStep(
+        columnName,
+        args -> f.apply(arg(args, 0), arg(args, 1)),
+        sourceColumn1, sourceColumn2
+    ));
+  }
+
+  public LazyDataframe mapWithout(String... columnNames) {
+    return then(new DropStep(columnNames));
+  }
+
+  public LazyDataframe oneHotEncode(String columnToEncode) {
+    return then(new OneHotEncodeStep(columnToEncode));
+  }
+
+  public Dataframe collect() {
+    return plan.execute(source);
+  }
+
+  public INDArray toVector(String columnName) {
+    return select(columnName).collect().toVector(columnName);
+  }
+
+  public INDArray toMatrix(String... columnNames) {
+    return select(columnNames).collect().toMatrix();
+  }
+
+  public INDArray toMatrix(char order, String... columnNames) {
+    return select(columnNames).collect().toMatrix(order);
+  }
+
+  public LogicalPlan getPlan() {
+    return plan;
+  }
+
+  // Arguments are read from the source columns named by the caller, who declares their value
+  // types the same way as with the eager Dataframe operations: a mismatch surfaces as a
+  // ClassCastException inside the lambda
+  @SuppressWarnings("unchecked")
+  private static <T> T arg(Object[] args, int idx) {
+    return (T) args[idx];
+  }
+
+  private LazyDataframe then(Step step) {
+    return new LazyDataframe(source, plan.then(step));
+  }
+}
@@ -0,0 +1,75 @@
+package org.rsultan.dataframe;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+public class LongColumn extends Column<Long> {
+
+  private final long[] values;
+
+  public LongColumn(String columnName, long[] values) {
+    super(columnName, new LongValues(values));
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public Long get(int index) {
+    return values[index];
+  }
+
+  @Override
+  public boolean isPrimitive() {
+    return true;
+  }
+
+  @Override
+  public double getDouble(int index) {
+    return values[index];
+  }
+
+  public long getLong(int index) {
+    return values[index];
+  }
+
+  @Override
+  public void copyDoubles(int from, int to, double[] target, int offset, int stride) {
+    for (int row = from; row < to; row++, offset += stride) {
+      target[offset] = values[row];
+    }
+  }
+
+  @Override
+  public LongColumn select(int[] indices) {
+    var selected = new long[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      selected[i] = values[indices[i]];
+    }
+    return new LongColumn(columnName(), selected);
+  }
+
+  private static class LongValues extends AbstractList<Long> implements RandomAccess,
+      Serializable {
+
+    private final long[] values;
+
+    private LongValues(long[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public Long get(int index) {
+      return values[index];
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package org.rsultan.dataframe;
+
+import static java.lang.Math.min;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class LongColumnBuilder implements ColumnBuilder<Long> {
+
+  private final List<long[]> chunks = new ArrayList<>();
+  private long[] current = new long[16];
+  private int currentSize;
+
+  @Override
+  public void append(Long value) {
+    appendLong(value);
+  }
+
+  public void appendLong(long value) {
+    if (currentSize == current.length) {
+      grow();
+    }
+    current[currentSize++] = value;
+  }
+
+  public long getLong(int index) {
+    return index < chunks.size() * CHUNK_SIZE
+        ? chunks.get(index / CHUNK_SIZE)[index % CHUNK_SIZE]
+        : current[index - chunks.size() * CHUNK_SIZE];
+  }
+
+  @Override
+  public int size() {
+    return chunks.size() * CHUNK_SIZE + currentSize;
+  }
+
+  @Override
+  public Column<Long> build(String columnName) {
+    var last = new LongColumn(columnName,
+        currentSize == current.length ? current : Arrays.copyOf(current, currentSize));
+    if (chunks.isEmpty()) {
+      return last;
+    }
+    var columns = new ArrayList<LongColumn>();
+    chunks.forEach(chunk -> columns.add(new LongColumn(columnName, chunk)));
+    columns.add(last);
+    return new ChunkedColumn<>(columnName, columns);
+  }
+
+  public DoubleColumnBuilder toDoubleBuilder() {
+    var builder = new DoubleColumnBuilder();
+    for (int i = 0; i < size(); i++) {
+      builder.appendDouble(getLong(i));
+    }
+    return builder;
+  }
+
+  public ObjectColumnBuilder<Object> toObjectBuilder() {
+    var builder = new ObjectColumnBuilder<>();
+    for (int i = 0; i < size(); i++) {
+      builder.append(getLong(i));
+    }
+    return builder;
+  }
+
+  private void grow() {
+    if (current.length < CHUNK_SIZE) {
+      current = Arrays.copyOf(current, min(CHUNK_SIZE, current.length * 2));
+    } else {
+      chunks.add(current);
+      current = new long[CHUNK_SIZE];
+      currentSize = 0;
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package org.rsultan.dataframe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ObjectColumnBuilder<T> implements ColumnBuilder<T> {
+
+  private final List<T> values = new ArrayList<>();
+
+  @Override
+  public void append(T value) {
+    values.add(value);
+  }
+
+  @Override
+  public int size() {
+    return values.size();
+  }
+
+  @Override
+  public Column<T> build(String columnName) {
+    return Columns.create(columnName, values);
+  }
+}
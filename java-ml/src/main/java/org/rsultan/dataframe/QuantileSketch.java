@@ -0,0 +1,233 @@
+package org.rsultan.dataframe;
+
+import static java.util.Arrays.copyOf;
+import static java.util.stream.IntStream.range;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+public class QuantileSketch implements Serializable {
+
+  public static final int DEFAULT_K = 200;
+  private static final double CAPACITY_DECAY = 2.0 / 3.0;
+  private static final int BLOCK_SIZE = 1 << 14;
+
+  private final int k;
+  private double[][] levels;
+  private int[] sizes;
+  private long count;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+  private long randomState = 0x9E3779B97F4A7C15L;
+
+  public QuantileSketch() {
+    this(DEFAULT_K);
+  }
+
+  public QuantileSketch(int k) {
+    if (k < 8) {
+      throw new IllegalArgumentException("Sketch accuracy parameter must be at least 8");
+    }
+    this.k = k;
+    this.levels = new double[][]{new double[16]};
+    this.sizes = new int[1];
+  }
+
+  public static QuantileSketch of(Column<?> column) {
+    boolean primitive = column.isPrimitive();
+    return build(column.size(), (sketch, row) -> {
+      if (primitive || column.get(row) != null) {
+        sketch.update(column.getDouble(row));
+      }
+    });
+  }
+
+  public static QuantileSketch of(double[] values) {
+    return build(values.length, (sketch, row) -> sketch.update(values[row]));
+  }
+
+  private static QuantileSketch build(int size, RowUpdate update) {
+    int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    return range(0, blocks).parallel()
+        .mapToObj(block -> {
+          var sketch = new QuantileSketch();
+          int to = Math.min(size, (block + 1) * BLOCK_SIZE);
+          for (int row = block * BLOCK_SIZE; row < to; row++) {
+            update.update(sketch, row);
+          }
+          return sketch;
+        })
+        .reduce(QuantileSketch::mergeInPlace)
+        .orElseGet(QuantileSketch::new);
+  }
+
+  public void update(double value) {
+    if (Double.isNaN(value)) {
+      return;
+    }
+    count++;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    append(0, value);
+    if (sizes[0] >= capacity(0)) {
+      compress();
+    }
+  }
+
+  public QuantileSketch merge(QuantileSketch other) {
+    return copy().mergeInPlace(other);
+  }
+
+  public QuantileSketch copy() {
+    var copy = new QuantileSketch(k);
+    copy.levels = new double[levels.length][];
+    for (int level = 0; level < levels.length; level++) {
+      copy.levels[level] = copyOf(levels[level], Math.max(1, sizes[level]));
+    }
+    copy.sizes = sizes.clone();
+    copy.count = count;
+    copy.min = min;
+    copy.max = max;
+    copy.randomState = randomState;
+    return copy;
+  }
+
+  public double quantile(double rank) {
+    return quantiles(rank)[0];
+  }
+
+  public double[] quantiles(double... ranks) {
+    int retained = getRetainedItems();
+    var values = new double[retained];
+    var weights = new long[retained];
+    int idx = 0;
+    for (int level = 0; level < levels.length; level++) {
+      for (int i = 0; i < sizes[level]; i++, idx++) {
+        values[idx] = levels[level][i];
+        weights[idx] = 1L << level;
+      }
+    }
+    var order = ArgSort.argsort(values, true);
+    var quantiles = new double[ranks.length];
+    for (int i = 0; i < ranks.length; i++) {
+      double rank = ranks[i];
+      if (rank < 0 || rank > 1) {
+        throw new IllegalArgumentException("Quantile rank must be between 0 and 1");
+      }
+      if (count == 0) {
+        quantiles[i] = Double.NaN;
+      } else if (rank == 0) {
+        quantiles[i] = min;
+      } else if (rank == 1) {
+        quantiles[i] = max;
+      } else {
+        double target = rank * count;
+        long cumulative = 0;
+        int position = 0;
+        while (position < order.length - 1 && cumulative + weights[order[position]] < target) {
+          cumulative += weights[order[position++]];
+        }
+        quantiles[i] = values[order[position]];
+      }
+    }
+    return quantiles;
+  }
+
+  public double[] binEdges(int bins) {
+    if (bins < 1) {
+      throw new IllegalArgumentException("Number of bins must be positive");
+    }
+    return quantiles(range(0, bins + 1).mapToDouble(bin -> (double) bin / bins).toArray());
+  }
+
+  public long count() {
+    return count;
+  }
+
+  public double min() {
+    return count == 0 ? Double.NaN : min;
+  }
+
+  public double max() {
+    return count == 0 ? Double.NaN : max;
+  }
+
+  public int getRetainedItems() {
+    return Arrays.stream(sizes).sum();
+  }
+
+  private QuantileSketch mergeInPlace(QuantileSketch other) {
+    if (other.count == 0) {
+      return this;
+    }
+    for (int level = 0; level < other.levels.length; level++) {
+      for (int i = 0; i < other.sizes[level]; i++) {
+        append(level, other.levels[level][i]);
+      }
+    }
+    count += other.count;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+    compress();
+    return this;
+  }
+
+  private void append(int level, double value) {
+    if (level == levels.length) {
+      levels = copyOf(levels, level + 1);
+      sizes = copyOf(sizes, level + 1);
+      levels[level] = new double[16];
+    }
+    if (sizes[level] == levels[level].length) {
+      levels[level] = copyOf(levels[level], levels[level].length * 2);
+    }
+    levels[level][sizes[level]++] = value;
+  }
+
+  private void compress() {
+    for (int level = 0; level < levels.length; level++) {
+      if (sizes[level] >= capacity(level)) {
+        compact(level);
+      }
+    }
+  }
+
+  private int capacity(int level) {
+    int depth = levels.length - 1 - level;
+    return Math.max(2, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+  }
+
+  private void compact(int level) {
+    var items = levels[level];
+    int size = sizes[level];
+    Arrays.sort(items, 0, size);
+    int pairs = size / 2;
+    int offset = nextBit();
+    var promoted = new double[pairs];
+    for (int pair = 0; pair < pairs; pair++) {
+      promoted[pair] = items[2 * pair + offset];
+    }
+    if (size % 2 == 1) {
+      items[0] = items[size - 1];
+      sizes[level] = 1;
+    } else {
+      sizes[level] = 0;
+    }
+    for (double value : promoted) {
+      append(level + 1, value);
+    }
+  }
+
+  private int nextBit() {
+    randomState ^= randomState << 13;
+    randomState ^= randomState >>> 7;
+    randomState ^= randomState << 17;
+    return (int) (randomState & 1);
+  }
+
+  @FunctionalInterface
+  private interface RowUpdate {
+
+    void update(QuantileSketch sketch, int row);
+  }
+}
@@ -0,0 +1,117 @@
+package org.rsultan.dataframe;
+
+import static java.lang.Long.bitCount;
+import static java.lang.Long.numberOfTrailingZeros;
+import static java.lang.Math.min;
+import static java.util.Arrays.stream;
+import static java.util.stream.IntStream.range;
+
+import java.io.Serializable;
+import java.util.function.IntPredicate;
+
+public class Selection implements Serializable {
+
+  private final long[] words;
+  private final int size;
+  private final int cardinality;
+  private transient volatile int[] positions;
+
+  private Selection(long[] words, int size) {
+    this.words = words;
+    this.size = size;
+    this.cardinality = stream(words).mapToInt(Long::bitCount).sum();
+  }
+
+  public static Selection of(int size, IntPredicate predicate) {
+    var words = new long[wordCount(size)];
+    range(0, words.length).parallel().forEach(wordIdx -> {
+      int start = wordIdx << 6;
+      int end = min(size, start + Long.SIZE);
+      long word = 0L;
+      for (int row = start; row < end; row++) {
+        if (predicate.test(row)) {
+          word |= 1L << (row - start);
+        }
+      }
+      words[wordIdx] = word;
+    });
+    return new Selection(words, size);
+  }
+
+  public Selection and(IntPredicate predicate) {
+    var newWords = new long[words.length];
+    range(0, words.length).parallel().forEach(wordIdx -> {
+      long word = words[wordIdx];
+      long result = 0L;
+      while (word != 0) {
+        int bit = numberOfTrailingZeros(word);
+        if (predicate.test((wordIdx << 6) + bit)) {
+          result |= 1L << bit;
+        }
+        word &= word - 1;
+      }
+      newWords[wordIdx] = result;
+    });
+    return new Selection(newWords, size);
+  }
+
+  public Selection compose(Selection inner) {
+    if (inner.size != cardinality) {
+      throw new IllegalArgumentException("Selection sizes do not match");
+    }
+    var newWords = new long[words.length];
+    int innerIdx = 0;
+    for (int wordIdx = 0; wordIdx < words.length; wordIdx++) {
+      long word = words[wordIdx];
+      while (word != 0) {
+        int bit = numberOfTrailingZeros(word);
+        if (inner.get(innerIdx++)) {
+          newWords[wordIdx] |= 1L << bit;
+        }
+        word &= word - 1;
+      }
+    }
+    return new Selection(newWords, size);
+  }
+
+  public boolean get(int row) {
+    return (words[row >>> 6] & (1L << row)) != 0;
+  }
+
+  public int position(int index) {
+    return positions()[index];
+  }
+
+  public int[] positions() {
+    var result = positions;
+    if (result == null) {
+      result = new int[cardinality];
+      int idx = 0;
+      for (int wordIdx = 0; wordIdx < words.length; wordIdx++) {
+        long word = words[wordIdx];
+        while (word != 0) {
+          result[idx++] = (wordIdx << 6) + numberOfTrailingZeros(word);
+          word &= word - 1;
+        }
+      }
+      positions = result;
+    }
+    return result;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int cardinality() {
+    return cardinality;
+  }
+
+  public boolean isFull() {
+    return cardinality == size;
+  }
+
+  private static int wordCount(int size) {
+    return (size + Long.SIZE - 1) >>> 6;
+  }
+}
@@ -0,0 +1,87 @@
+package org.rsultan.dataframe;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+public class SelectionColumn<T> extends Column<T> {
+
+  private final Column<T> parent;
+  private final Selection selection;
+
+  public SelectionColumn(Column<T> parent, Selection selection) {
+    super(parent.columnName(), new SelectionValues<>(parent, selection));
+    if (parent.size() != selection.size()) {
+      throw new IllegalArgumentException("Selection size must match the column size");
+    }
+    this.parent = parent;
+    this.selection = selection;
+  }
+
+  public static <T> Column<T> of(Column<T> column, Selection selection) {
+    if (column instanceof SelectionColumn<T> view) {
+      return of(view.getParent(), view.getSelection().compose(selection));
+    }
+    return selection.isFull() ? column : new SelectionColumn<>(column, selection);
+  }
+
+  @Override
+  public int size() {
+    return selection.cardinality();
+  }
+
+  @Override
+  public T get(int index) {
+    return parent.get(selection.position(index));
+  }
+
+  @Override
+  public double getDouble(int index) {
+    return parent.getDouble(selection.position(index));
+  }
+
+  @Override
+  public boolean isPrimitive() {
+    return parent.isPrimitive();
+  }
+
+  @Override
+  public Column<T> select(int[] indices) {
+    var positions = selection.positions();
+    var parentIndices = new int[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      parentIndices[i] = positions[indices[i]];
+    }
+    return parent.select(parentIndices);
+  }
+
+  public Column<T> getParent() {
+    return parent;
+  }
+
+  public Selection getSelection() {
+    return selection;
+  }
+
+  private static class SelectionValues<T> extends AbstractList<T> implements RandomAccess,
+      Serializable {
+
+    private final Column<T> parent;
+    private final Selection selection;
+
+    private SelectionValues(Column<T> parent, Selection selection) {
+      this.parent = parent;
+      this.selection = selection;
+    }
+
+    @Override
+    public T get(int index) {
+      return parent.get(selection.position(index));
+    }
+
+    @Override
+    public int size() {
+      return selection.cardinality();
+    }
+  }
+}
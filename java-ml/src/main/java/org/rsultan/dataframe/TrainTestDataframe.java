@@ -2,6 +2,7 @@ package org.rsultan.dataframe;
 
 import static java.util.Optional.of;
 
+import java.util.List;
 import org.rsultan.dataframe.transform.shuffle.ShuffleDataframe;
 import org.rsultan.dataframe.transform.shuffle.ShuffleTransform;
 import org.rsultan.dataframe.transform.split.SplitDataframe;
@@ -13,18 +14,35 @@ public class TrainTestDataframe extends Dataframe implements ShuffleTransform<Tr
 
   private final ShuffleTransform<TrainTestDataframe> shuffleTransform;
   private final SplitDataframe splitTransform;
+  private final boolean fixedSplit;
 
   private double splitValue = 0.75;
 
   TrainTestDataframe(Dataframe dataframe) {
+    this(dataframe, false);
+  }
+
+  private TrainTestDataframe(Dataframe dataframe, boolean fixedSplit) {
     super(dataframe.getColumns());
     this.shuffleTransform = new ShuffleDataframe(this);
     this.splitTransform = new SplitDataframe(this);
+    this.fixedSplit = fixedSplit;
   }
 
   @Override
   public TrainTestDataframe shuffle() {
-    return shuffleTransform.shuffle().setSplitValue(splitValue);
+    return fixedSplit ? this : shuffleTransform.shuffle().setSplitValue(splitValue);
+  }
+
+  @Override
+  public TrainTestDataframe shuffle(long seed) {
+    return fixedSplit ? this : shuffleTransform.shuffle(seed).setSplitValue(splitValue);
+  }
+
+  // Shuffling the returned dataframe keeps its rows in place, so split() always gives back the
+  // same train and test rows
+  public TrainTestDataframe withFixedSplit() {
+    return new TrainTestDataframe(this, true).setSplitValue(splitValue);
   }
 
   @Override
@@ -32,6 +50,21 @@ public class TrainTestDataframe extends Dataframe implements ShuffleTransform<Tr
     return splitTransform.split();
   }
 
+  @Override
+  public List<TrainTestSplit> kFold(int k) {
+    return splitTransform.kFold(k);
+  }
+
+  @Override
+  public List<TrainTestSplit> stratifiedKFold(int k, String columnName) {
+    return splitTransform.stratifiedKFold(k, columnName);
+  }
+
+  @Override
+  public List<TrainTestSplit> repeatedHoldout(int repeats, long seed) {
+    return splitTransform.repeatedHoldout(repeats, seed);
+  }
+
   public double getSplitValue() {
     return splitValue;
   }
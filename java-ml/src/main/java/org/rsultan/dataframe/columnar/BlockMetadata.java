@@ -0,0 +1,5 @@
+package org.rsultan.dataframe.columnar;
+
+public record BlockMetadata(long offset, long length, int rows, Number min, Number max) {
+
+}
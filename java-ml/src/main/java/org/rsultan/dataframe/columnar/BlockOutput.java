@@ -0,0 +1,70 @@
+package org.rsultan.dataframe.columnar;
+
+import static org.rsultan.dataframe.columnar.ColumnarFormat.ORDER;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+class BlockOutput {
+
+  private static final int BUFFER_SIZE = 1 << 20;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ORDER);
+  private long flushed;
+
+  BlockOutput(FileChannel channel) {
+    this.channel = channel;
+  }
+
+  long position() {
+    return flushed + buffer.position();
+  }
+
+  void putInt(int value) throws IOException {
+    ensureRemaining(Integer.BYTES);
+    buffer.putInt(value);
+  }
+
+  void putLong(long value) throws IOException {
+    ensureRemaining(Long.BYTES);
+    buffer.putLong(value);
+  }
+
+  void putDouble(double value) throws IOException {
+    ensureRemaining(Double.BYTES);
+    buffer.putDouble(value);
+  }
+
+  void putBytes(byte[] bytes) throws IOException {
+    putInt(bytes.length);
+    for (int offset = 0; offset < bytes.length; ) {
+      ensureRemaining(1);
+      int length = Math.min(buffer.remaining(), bytes.length - offset);
+      buffer.put(bytes, offset, length);
+      offset += length;
+    }
+  }
+
+  void align(int alignment) throws IOException {
+    while (position() % alignment != 0) {
+      ensureRemaining(1);
+      buffer.put((byte) 0);
+    }
+  }
+
+  void flush() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      flushed += channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  private void ensureRemaining(int bytes) throws IOException {
+    if (buffer.remaining() < bytes) {
+      flush();
+    }
+  }
+}
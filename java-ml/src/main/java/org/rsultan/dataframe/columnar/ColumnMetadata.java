@@ -0,0 +1,16 @@
+package org.rsultan.dataframe.columnar;
+
+import java.util.List;
+
+public record ColumnMetadata(
+    String name,
+    StorageType type,
+    List<BlockMetadata> blocks,
+    long dictionaryOffset,
+    long dictionaryLength
+) {
+
+  public int rows() {
+    return blocks.stream().mapToInt(BlockMetadata::rows).sum();
+  }
+}
@@ -0,0 +1,18 @@
+package org.rsultan.dataframe.columnar;
+
+import java.nio.ByteOrder;
+import org.rsultan.dataframe.ColumnBuilder;
+
+class ColumnarFormat {
+
+  static final int MAGIC = 0x46445352;
+  static final int VERSION = 1;
+  static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+  static final int BLOCK_SIZE = ColumnBuilder.CHUNK_SIZE;
+  static final int HEADER_SIZE = 2 * Integer.BYTES;
+  static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+  static final int MAX_BLOCK_LENGTH = BLOCK_SIZE * Long.BYTES;
+
+  private ColumnarFormat() {
+  }
+}
@@ -0,0 +1,159 @@
+package org.rsultan.dataframe.columnar;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.rsultan.dataframe.columnar.ColumnarFormat.HEADER_SIZE;
+import static org.rsultan.dataframe.columnar.ColumnarFormat.MAGIC;
+import static org.rsultan.dataframe.columnar.ColumnarFormat.MAX_BLOCK_LENGTH;
+import static org.rsultan.dataframe.columnar.ColumnarFormat.ORDER;
+import static org.rsultan.dataframe.columnar.ColumnarFormat.TRAILER_SIZE;
+import static org.rsultan.dataframe.columnar.ColumnarFormat.VERSION;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.rsultan.dataframe.ChunkedColumn;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Dataframe;
+import org.rsultan.dataframe.Dataframes;
+
+public class ColumnarReader {
+
+  private static final long SEGMENT_SIZE = 1L << 30;
+
+  private final MappedByteBuffer[] segments;
+  private final FileChannel channel;
+
+  private ColumnarReader(FileChannel channel) throws IOException {
+    this.channel = channel;
+    long size = channel.size();
+    this.segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+    for (int idx = 0; idx < segments.length; idx++) {
+      long start = idx * SEGMENT_SIZE;
+      long length = Math.min(size - start, SEGMENT_SIZE + MAX_BLOCK_LENGTH);
+      segments[idx] = channel.map(READ_ONLY, start, length);
+    }
+  }
+
+  public static Dataframe open(String fileName) throws IOException {
+    try (var channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+      var reader = new ColumnarReader(channel);
+      var columns = new ArrayList<Column<?>>();
+      for (ColumnMetadata column : readFooter(channel)) {
+        columns.add(reader.toColumn(column));
+      }
+      return Dataframes.create(columns.toArray(Column[]::new));
+    }
+  }
+
+  public static List<ColumnMetadata> readMetadata(String fileName) throws IOException {
+    try (var channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+      return readFooter(channel);
+    }
+  }
+
+  private Column<?> toColumn(ColumnMetadata metadata) throws IOException {
+    var dictionary = metadata.type() == StorageType.STRING
+        ? new MappedDictionary(channel.map(
+            READ_ONLY, metadata.dictionaryOffset(), metadata.dictionaryLength()))
+        : null;
+    var blocks = new ArrayList<Column<?>>();
+    for (BlockMetadata block : metadata.blocks()) {
+      var bytes = slice(block.offset(), block.length());
+      Column<?> column = switch (metadata.type()) {
+        case DOUBLE -> new MappedDoubleColumn(metadata.name(), bytes.asDoubleBuffer());
+        case LONG -> new MappedLongColumn(metadata.name(), bytes.asLongBuffer());
+        case BOOLEAN -> new MappedBooleanColumn(metadata.name(), bytes.asLongBuffer(),
+            block.rows());
+        case STRING -> new MappedStringColumn(metadata.name(), bytes.asIntBuffer(), dictionary);
+      };
+      blocks.add(column);
+    }
+    if (blocks.size() == 1) {
+      return blocks.get(0);
+    } else if (blocks.isEmpty()) {
+      var empty = ByteBuffer.allocate(0).order(ORDER);
+      return switch (metadata.type()) {
+        case DOUBLE -> new MappedDoubleColumn(metadata.name(), empty.asDoubleBuffer());
+        case LONG -> new MappedLongColumn(metadata.name(), empty.asLongBuffer());
+        case BOOLEAN -> new MappedBooleanColumn(metadata.name(), empty.asLongBuffer(), 0);
+        case STRING -> new MappedStringColumn(metadata.name(), empty.asIntBuffer(), dictionary);
+      };
+    }
+    return new ChunkedColumn<>(metadata.name(), blocks);
+  }
+
+  private ByteBuffer slice(long offset, long length) {
+    int segment = (int) (offset / SEGMENT_SIZE);
+    int position = (int) (offset - segment * SEGMENT_SIZE);
+    return segments[segment].slice(position, (int) length).order(ORDER);
+  }
+
+  private static List<ColumnMetadata> readFooter(FileChannel channel) throws IOException {
+    long size = channel.size();
+    if (size < HEADER_SIZE + TRAILER_SIZE) {
+      throw new IllegalArgumentException("Not a columnar dataframe file");
+    }
+    var header = read(channel, 0, HEADER_SIZE);
+    if (header.getInt() != MAGIC) {
+      throw new IllegalArgumentException("Not a columnar dataframe file");
+    }
+    int version = header.getInt();
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Unsupported columnar dataframe version " + version);
+    }
+    var trailer = read(channel, size - TRAILER_SIZE, TRAILER_SIZE);
+    long footerOffset = trailer.getLong();
+    if (trailer.getInt() != MAGIC || footerOffset < HEADER_SIZE
+        || footerOffset > size - TRAILER_SIZE) {
+      throw new IllegalArgumentException("Corrupted columnar dataframe footer");
+    }
+    var footer = read(channel, footerOffset, (int) (size - TRAILER_SIZE - footerOffset));
+    var columns = new ArrayList<ColumnMetadata>();
+    int columnCount = footer.getInt();
+    for (int columnIdx = 0; columnIdx < columnCount; columnIdx++) {
+      var name = new byte[footer.getInt()];
+      footer.get(name);
+      var type = StorageType.values()[footer.getInt()];
+      long dictionaryOffset = footer.getLong();
+      long dictionaryLength = footer.getLong();
+      var blocks = new ArrayList<BlockMetadata>();
+      int blockCount = footer.getInt();
+      for (int blockIdx = 0; blockIdx < blockCount; blockIdx++) {
+        long offset = footer.getLong();
+        long length = footer.getLong();
+        int rows = footer.getInt();
+        var min = fromBits(type, footer.getLong());
+        var max = fromBits(type, footer.getLong());
+        blocks.add(new BlockMetadata(offset, length, rows, min, max));
+      }
+      columns.add(new ColumnMetadata(new String(name, UTF_8), type, List.copyOf(blocks),
+          dictionaryOffset, dictionaryLength));
+    }
+    return columns;
+  }
+
+  private static Number fromBits(StorageType type, long bits) {
+    return switch (type) {
+      case DOUBLE -> Double.longBitsToDouble(bits);
+      case LONG, BOOLEAN -> bits;
+      case STRING -> null;
+    };
+  }
+
+  private static ByteBuffer read(FileChannel channel, long offset, int length)
+      throws IOException {
+    var buffer = ByteBuffer.allocate(length).order(ORDER);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, offset + buffer.position()) < 0) {
+        throw new IllegalArgumentException("Truncated columnar dataframe file");
+      }
+    }
+    return buffer.flip();
+  }
+}
@@ -0,0 +1,230 @@
+package org.rsultan.dataframe.columnar;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.stream.Collectors.toList;
+import static org.rsultan.dataframe.columnar.ColumnarFormat.BLOCK_SIZE;
+import static org.rsultan.dataframe.columnar.ColumnarFormat.MAGIC;
+import static org.rsultan.dataframe.columnar.ColumnarFormat.VERSION;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.rsultan.dataframe.BooleanColumn;
+import org.rsultan.dataframe.ChunkedColumn;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Dataframe;
+import org.rsultan.dataframe.DoubleColumn;
+import org.rsultan.dataframe.IndexedColumn;
+import org.rsultan.dataframe.LongColumn;
+import org.rsultan.dataframe.SelectionColumn;
+import org.rsultan.dataframe.offheap.OffHeapDoubleColumn;
+import org.rsultan.dataframe.offheap.OffHeapLongColumn;
+
+public class ColumnarWriter {
+
+  private final Dataframe dataframe;
+
+  private ColumnarWriter(Dataframe dataframe) {
+    this.dataframe = dataframe;
+  }
+
+  public static void write(Dataframe dataframe, String fileName) throws IOException {
+    new ColumnarWriter(dataframe).write(Paths.get(fileName));
+  }
+
+  private void write(Path path) throws IOException {
+    try (var channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+      var output = new BlockOutput(channel);
+      output.putInt(MAGIC);
+      output.putInt(VERSION);
+      var columns = new ArrayList<ColumnMetadata>();
+      for (Column<?> column : dataframe.getColumns()) {
+        columns.add(writeColumn(output, column));
+      }
+      long footerOffset = output.position();
+      writeFooter(output, columns);
+      output.putLong(footerOffset);
+      output.putInt(MAGIC);
+      output.flush();
+    }
+  }
+
+  private static ColumnMetadata writeColumn(BlockOutput output, Column<?> column)
+      throws IOException {
+    var type = getStorageType(column);
+    var dictionary = new LinkedHashMap<String, Integer>();
+    var blocks = new ArrayList<BlockMetadata>();
+    for (int start = 0; start < column.size(); start += BLOCK_SIZE) {
+      int rows = min(BLOCK_SIZE, column.size() - start);
+      output.align(Long.BYTES);
+      long offset = output.position();
+      var block = switch (type) {
+        case DOUBLE -> writeDoubles(output, column, start, rows);
+        case LONG -> writeLongs(output, column, start, rows);
+        case BOOLEAN -> writeBooleans(output, column, start, rows);
+        case STRING -> writeCodes(output, column, start, rows, dictionary);
+      };
+      blocks.add(new BlockMetadata(offset, output.position() - offset, rows, block[0], block[1]));
+    }
+    long dictionaryOffset = 0;
+    long dictionaryLength = 0;
+    if (type == StorageType.STRING) {
+      output.align(Long.BYTES);
+      dictionaryOffset = output.position();
+      output.putInt(dictionary.size());
+      for (String value : dictionary.keySet()) {
+        output.putBytes(value.getBytes(UTF_8));
+      }
+      dictionaryLength = output.position() - dictionaryOffset;
+    }
+    return new ColumnMetadata(column.columnName(), type, blocks, dictionaryOffset,
+        dictionaryLength);
+  }
+
+  private static Number[] writeDoubles(BlockOutput output, Column<?> column, int start, int rows)
+      throws IOException {
+    double minValue = Double.POSITIVE_INFINITY;
+    double maxValue = Double.NEGATIVE_INFINITY;
+    for (int row = start; row < start + rows; row++) {
+      double value = column.getDouble(row);
+      output.putDouble(value);
+      minValue = min(minValue, value);
+      maxValue = max(maxValue, value);
+    }
+    return new Number[]{minValue, maxValue};
+  }
+
+  private static Number[] writeLongs(BlockOutput output, Column<?> column, int start, int rows)
+      throws IOException {
+    long minValue = Long.MAX_VALUE;
+    long maxValue = Long.MIN_VALUE;
+    for (int row = start; row < start + rows; row++) {
+      long value = column instanceof LongColumn longs ? longs.getLong(row)
+          : column instanceof MappedLongColumn mapped ? mapped.getLong(row)
+              : column instanceof OffHeapLongColumn offHeap ? offHeap.getLong(row)
+              : ((Number) column.get(row)).longValue();
+      output.putLong(value);
+      minValue = min(minValue, value);
+      maxValue = max(maxValue, value);
+    }
+    return new Number[]{minValue, maxValue};
+  }
+
+  private static Number[] writeBooleans(BlockOutput output, Column<?> column, int start, int rows)
+      throws IOException {
+    int trueCount = 0;
+    for (int wordStart = start; wordStart < start + rows; wordStart += Long.SIZE) {
+      long word = 0L;
+      for (int row = wordStart; row < min(wordStart + Long.SIZE, start + rows); row++) {
+        if (column.getDouble(row) != 0.0D) {
+          word |= 1L << (row - wordStart);
+          trueCount++;
+        }
+      }
+      output.putLong(word);
+    }
+    return new Number[]{trueCount == rows ? 1L : 0L, trueCount > 0 ? 1L : 0L};
+  }
+
+  private static Number[] writeCodes(BlockOutput output, Column<?> column, int start, int rows,
+      Map<String, Integer> dictionary) throws IOException {
+    for (int row = start; row < start + rows; row++) {
+      var value = (String) column.get(row);
+      output.putInt(value == null ? -1
+          : dictionary.computeIfAbsent(value, key -> dictionary.size()));
+    }
+    return new Number[]{null, null};
+  }
+
+  private static void writeFooter(BlockOutput output, List<ColumnMetadata> columns)
+      throws IOException {
+    output.putInt(columns.size());
+    for (ColumnMetadata column : columns) {
+      output.putBytes(column.name().getBytes(UTF_8));
+      output.putInt(column.type().ordinal());
+      output.putLong(column.dictionaryOffset());
+      output.putLong(column.dictionaryLength());
+      output.putInt(column.blocks().size());
+      for (BlockMetadata block : column.blocks()) {
+        output.putLong(block.offset());
+        output.putLong(block.length());
+        output.putInt(block.rows());
+        output.putLong(toBits(column.type(), block.min()));
+        output.putLong(toBits(column.type(), block.max()));
+      }
+    }
+  }
+
+  private static long toBits(StorageType type, Number value) {
+    return switch (type) {
+      case DOUBLE -> Double.doubleToRawLongBits(value.doubleValue());
+      case LONG, BOOLEAN -> value.longValue();
+      case STRING -> 0L;
+    };
+  }
+
+  private static StorageType getStorageType(Column<?> column) {
+    return getPrimitiveType(column).orElseGet(() -> inferStorageType(column));
+  }
+
+  private static Optional<StorageType> getPrimitiveType(Column<?> column) {
+    if (column instanceof DoubleColumn || column instanceof MappedDoubleColumn
+        || column instanceof OffHeapDoubleColumn) {
+      return Optional.of(StorageType.DOUBLE);
+    } else if (column instanceof LongColumn || column instanceof MappedLongColumn
+        || column instanceof OffHeapLongColumn) {
+      return Optional.of(StorageType.LONG);
+    } else if (column instanceof BooleanColumn || column instanceof MappedBooleanColumn) {
+      return Optional.of(StorageType.BOOLEAN);
+    } else if (column instanceof SelectionColumn<?> view) {
+      return getPrimitiveType(view.getParent());
+    } else if (column instanceof IndexedColumn<?> view) {
+      return getPrimitiveType(view.getParent());
+    } else if (column instanceof ChunkedColumn<?> chunked && !chunked.getChunks().isEmpty()) {
+      var types = chunked.getChunks().stream()
+          .map(ColumnarWriter::getPrimitiveType)
+          .distinct()
+          .collect(toList());
+      return types.size() == 1 ? types.get(0) : Optional.empty();
+    }
+    return Optional.empty();
+  }
+
+  private static StorageType inferStorageType(Column<?> column) {
+    Class<?> valueType = null;
+    boolean hasNulls = false;
+    for (int row = 0; row < column.size(); row++) {
+      var value = column.get(row);
+      if (value == null) {
+        hasNulls = true;
+      } else if (valueType == null) {
+        valueType = value.getClass();
+      } else if (valueType != value.getClass()) {
+        throw new IllegalArgumentException("Cannot save column " + column.columnName()
+            + " mixing " + valueType.getSimpleName() + " and " + value.getClass().getSimpleName());
+      }
+    }
+    if (valueType == null || valueType == String.class) {
+      return StorageType.STRING;
+    } else if (!hasNulls && valueType == Double.class) {
+      return StorageType.DOUBLE;
+    } else if (!hasNulls && valueType == Long.class) {
+      return StorageType.LONG;
+    } else if (!hasNulls && valueType == Boolean.class) {
+      return StorageType.BOOLEAN;
+    }
+    throw new IllegalArgumentException("Cannot save column " + column.columnName()
+        + " of type " + valueType.getSimpleName() + (hasNulls ? " with null values" : ""));
+  }
+}
@@ -0,0 +1,95 @@
+package org.rsultan.dataframe.columnar;
+
+import static java.util.Objects.checkIndex;
+
+import java.io.Serializable;
+import java.nio.LongBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.RandomAccess;
+import org.rsultan.dataframe.BooleanColumn;
+import org.rsultan.dataframe.Column;
+
+public class MappedBooleanColumn extends Column<Boolean> {
+
+  private final transient LongBuffer words;
+  private final int size;
+
+  MappedBooleanColumn(String columnName, LongBuffer words, int size) {
+    super(columnName, new MappedBooleanValues(words, size));
+    this.words = words;
+    this.size = size;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Boolean get(int index) {
+    return getBoolean(index);
+  }
+
+  @Override
+  public boolean isPrimitive() {
+    return true;
+  }
+
+  @Override
+  public double getDouble(int index) {
+    return getBoolean(index) ? 1.0D : 0.0D;
+  }
+
+  public boolean getBoolean(int index) {
+    return getBoolean(words, checkIndex(index, size));
+  }
+
+  @Override
+  public BooleanColumn select(int[] indices) {
+    var selected = new BitSet(indices.length);
+    for (int i = 0; i < indices.length; i++) {
+      selected.set(i, getBoolean(indices[i]));
+    }
+    return new BooleanColumn(columnName(), selected, indices.length);
+  }
+
+  private Object writeReplace() {
+    var copy = new BitSet(size);
+    for (int i = 0; i < size; i++) {
+      copy.set(i, getBoolean(words, i));
+    }
+    return new BooleanColumn(columnName(), copy, size);
+  }
+
+  private static boolean getBoolean(LongBuffer words, int index) {
+    return (words.get(index >>> 6) & (1L << index)) != 0;
+  }
+
+  private static class MappedBooleanValues extends AbstractList<Boolean> implements
+      RandomAccess, Serializable {
+
+    private final transient LongBuffer words;
+    private final int size;
+
+    private MappedBooleanValues(LongBuffer words, int size) {
+      this.words = words;
+      this.size = size;
+    }
+
+    @Override
+    public Boolean get(int index) {
+      return getBoolean(words, checkIndex(index, size));
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    private Object writeReplace() {
+      return new ArrayList<>(this);
+    }
+  }
+}
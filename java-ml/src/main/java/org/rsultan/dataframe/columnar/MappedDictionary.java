@@ -0,0 +1,37 @@
+package org.rsultan.dataframe.columnar;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+
+class MappedDictionary {
+
+  private final ByteBuffer buffer;
+  private volatile String[] values;
+
+  MappedDictionary(ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  String get(int code) {
+    var dictionary = values;
+    if (dictionary == null) {
+      dictionary = decode();
+    }
+    return dictionary[code];
+  }
+
+  private synchronized String[] decode() {
+    if (values == null) {
+      var input = buffer.duplicate().order(ColumnarFormat.ORDER);
+      var dictionary = new String[input.getInt()];
+      for (int code = 0; code < dictionary.length; code++) {
+        var bytes = new byte[input.getInt()];
+        input.get(bytes);
+        dictionary[code] = new String(bytes, UTF_8);
+      }
+      values = dictionary;
+    }
+    return values;
+  }
+}
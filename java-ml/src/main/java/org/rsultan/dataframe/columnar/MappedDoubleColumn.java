@@ -0,0 +1,87 @@
+package org.rsultan.dataframe.columnar;
+
+import java.io.Serializable;
+import java.nio.DoubleBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.DoubleColumn;
+
+public class MappedDoubleColumn extends Column<Double> {
+
+  private final transient DoubleBuffer values;
+
+  MappedDoubleColumn(String columnName, DoubleBuffer values) {
+    super(columnName, new MappedDoubleValues(values));
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.limit();
+  }
+
+  @Override
+  public Double get(int index) {
+    return values.get(index);
+  }
+
+  @Override
+  public boolean isPrimitive() {
+    return true;
+  }
+
+  @Override
+  public double getDouble(int index) {
+    return values.get(index);
+  }
+
+  @Override
+  public void copyDoubles(int from, int to, double[] target, int offset, int stride) {
+    if (stride == 1) {
+      values.get(from, target, offset, to - from);
+      return;
+    }
+    super.copyDoubles(from, to, target, offset, stride);
+  }
+
+  @Override
+  public DoubleColumn select(int[] indices) {
+    var selected = new double[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      selected[i] = values.get(indices[i]);
+    }
+    return new DoubleColumn(columnName(), selected);
+  }
+
+  private Object writeReplace() {
+    var copy = new double[size()];
+    values.get(0, copy, 0, copy.length);
+    return new DoubleColumn(columnName(), copy);
+  }
+
+  private static class MappedDoubleValues extends AbstractList<Double> implements RandomAccess,
+      Serializable {
+
+    private final transient DoubleBuffer values;
+
+    private MappedDoubleValues(DoubleBuffer values) {
+      this.values = values;
+    }
+
+    @Override
+    public Double get(int index) {
+      return values.get(index);
+    }
+
+    @Override
+    public int size() {
+      return values.limit();
+    }
+
+    private Object writeReplace() {
+      return new ArrayList<>(this);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package org.rsultan.dataframe.columnar;
+
+import java.io.Serializable;
+import java.nio.LongBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.LongColumn;
+
+public class MappedLongColumn extends Column<Long> {
+
+  private final transient LongBuffer values;
+
+  MappedLongColumn(String columnName, LongBuffer values) {
+    super(columnName, new MappedLongValues(values));
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.limit();
+  }
+
+  @Override
+  public Long get(int index) {
+    return values.get(index);
+  }
+
+  @Override
+  public boolean isPrimitive() {
+    return true;
+  }
+
+  @Override
+  public double getDouble(int index) {
+    return values.get(index);
+  }
+
+  public long getLong(int index) {
+    return values.get(index);
+  }
+
+  @Override
+  public LongColumn select(int[] indices) {
+    var selected = new long[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      selected[i] = values.get(indices[i]);
+    }
+    return new LongColumn(columnName(), selected);
+  }
+
+  private Object writeReplace() {
+    var copy = new long[size()];
+    values.get(0, copy, 0, copy.length);
+    return new LongColumn(columnName(), copy);
+  }
+
+  private static class MappedLongValues extends AbstractList<Long> implements RandomAccess,
+      Serializable {
+
+    private final transient LongBuffer values;
+
+    private MappedLongValues(LongBuffer values) {
+      this.values = values;
+    }
+
+    @Override
+    public Long get(int index) {
+      return values.get(index);
+    }
+
+    @Override
+    public int size() {
+      return values.limit();
+    }
+
+    private Object writeReplace() {
+      return new ArrayList<>(this);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package org.rsultan.dataframe.columnar;
+
+import java.io.Serializable;
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+import org.rsultan.dataframe.CategoricalColumn;
+import org.rsultan.dataframe.Column;
+
+public class MappedStringColumn extends Column<String> {
+
+  private final transient IntBuffer codes;
+  private final transient MappedDictionary dictionary;
+
+  MappedStringColumn(String columnName, IntBuffer codes, MappedDictionary dictionary) {
+    super(columnName, new MappedStringValues(codes, dictionary));
+    this.codes = codes;
+    this.dictionary = dictionary;
+  }
+
+  @Override
+  public int size() {
+    return codes.limit();
+  }
+
+  @Override
+  public String get(int index) {
+    return decode(codes, dictionary, index);
+  }
+
+  private static String decode(IntBuffer codes, MappedDictionary dictionary, int index) {
+    int code = codes.get(index);
+    return code < 0 ? null : dictionary.get(code);
+  }
+
+  private Object writeReplace() {
+    return CategoricalColumn.of(this);
+  }
+
+  private static class MappedStringValues extends AbstractList<String> implements RandomAccess,
+      Serializable {
+
+    private final transient IntBuffer codes;
+    private final transient MappedDictionary dictionary;
+
+    private MappedStringValues(IntBuffer codes, MappedDictionary dictionary) {
+      this.codes = codes;
+      this.dictionary = dictionary;
+    }
+
+    @Override
+    public String get(int index) {
+      return decode(codes, dictionary, index);
+    }
+
+    @Override
+    public int size() {
+      return codes.limit();
+    }
+
+    private Object writeReplace() {
+      return new ArrayList<>(this);
+    }
+  }
+}
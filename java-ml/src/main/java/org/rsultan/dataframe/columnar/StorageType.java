@@ -0,0 +1,5 @@
+package org.rsultan.dataframe.columnar;
+
+public enum StorageType {
+  DOUBLE, LONG, BOOLEAN, STRING
+}
@@ -0,0 +1,160 @@
+package org.rsultan.dataframe.offheap;
+
+import static java.util.Arrays.stream;
+
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntToLongFunction;
+import org.nd4j.linalg.api.buffer.DataBuffer;
+import org.nd4j.linalg.api.buffer.DataType;
+import org.nd4j.linalg.factory.Nd4j;
+import org.rsultan.dataframe.ChunkedColumn;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Dataframe;
+import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.LongColumn;
+import org.rsultan.dataframe.columnar.MappedLongColumn;
+
+public class OffHeapArena implements AutoCloseable {
+
+  private final List<DataBuffer> buffers = new ArrayList<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private volatile boolean closed;
+
+  public Dataframe copyOf(Dataframe dataframe) {
+    return Dataframes.create(stream(dataframe.getColumns())
+        .map(this::copyOf)
+        .toArray(Column[]::new));
+  }
+
+  public Column<?> copyOf(Column<?> column) {
+    if (column instanceof OffHeapDoubleColumn || column instanceof OffHeapLongColumn) {
+      return column;
+    }
+    var valueType = getValueType(column);
+    if (valueType == Double.class) {
+      var values = allocateDoubles(column.size());
+      for (int i = 0; i < column.size(); i++) {
+        values.put(i, column.getDouble(i));
+      }
+      return new OffHeapDoubleColumn(column.columnName(), values, column.size(), this);
+    } else if (valueType == Long.class) {
+      var values = allocateLongs(column.size());
+      copyLongs(column, values, 0);
+      return new OffHeapLongColumn(column.columnName(), values, column.size(), this);
+    }
+    return column;
+  }
+
+  public long allocatedBytes() {
+    synchronized (buffers) {
+      return buffers.stream().mapToLong(buffer -> buffer.length() * buffer.getElementSize()).sum();
+    }
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public void close() {
+    lock.writeLock().lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      synchronized (buffers) {
+        buffers.stream().filter(DataBuffer::closeable).forEach(DataBuffer::close);
+        buffers.clear();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  DoubleBuffer allocateDoubles(int length) {
+    return allocate(DataType.DOUBLE, length).asNioDouble();
+  }
+
+  LongBuffer allocateLongs(int length) {
+    return allocate(DataType.INT64, length).asNioLong();
+  }
+
+  // Bulk reads hold the arena open until they release it. Single element reads only check the
+  // closed flag, so closing the arena while other threads read elements one by one is unsupported
+  void acquire() {
+    lock.readLock().lock();
+    if (closed) {
+      lock.readLock().unlock();
+      throw closedException();
+    }
+  }
+
+  void checkOpen() {
+    if (closed) {
+      throw closedException();
+    }
+  }
+
+  void release() {
+    lock.readLock().unlock();
+  }
+
+  private static IllegalStateException closedException() {
+    return new IllegalStateException("Off-heap arena is closed");
+  }
+
+  private static int copyLongs(Column<?> column, LongBuffer target, int offset) {
+    if (column instanceof ChunkedColumn<?> chunked) {
+      for (var chunk : chunked.getChunks()) {
+        offset = copyLongs(chunk, target, offset);
+      }
+      return offset;
+    }
+    IntToLongFunction valueAt = column instanceof LongColumn longs ? longs::getLong
+        : column instanceof MappedLongColumn mapped ? mapped::getLong
+            : index -> (Long) column.get(index);
+    for (int i = 0; i < column.size(); i++) {
+      target.put(offset + i, valueAt.applyAsLong(i));
+    }
+    return offset + column.size();
+  }
+
+  private static Class<?> getValueType(Column<?> column) {
+    if (column.size() == 0) {
+      return null;
+    }
+    var valueType = column.get(0) == null ? null : column.get(0).getClass();
+    if (column.isPrimitive()) {
+      return valueType;
+    }
+    for (int i = 1; i < column.size() && valueType != null; i++) {
+      var value = column.get(i);
+      valueType = value != null && value.getClass() == valueType ? valueType : null;
+    }
+    return valueType;
+  }
+
+  private DataBuffer allocate(DataType type, int length) {
+    acquire();
+    try {
+      var workspace = Nd4j.getWorkspaceManager().scopeOutOfWorkspaces();
+      try {
+        var buffer = Nd4j.createBuffer(type, Math.max(length, 1), false);
+        synchronized (buffers) {
+          buffers.add(buffer);
+        }
+        return buffer;
+      } finally {
+        workspace.close();
+      }
+    } finally {
+      release();
+    }
+  }
+}
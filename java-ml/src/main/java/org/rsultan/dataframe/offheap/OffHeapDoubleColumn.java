@@ -0,0 +1,129 @@
+package org.rsultan.dataframe.offheap;
+
+import java.io.Serializable;
+import java.nio.DoubleBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.DoubleColumn;
+
+public class OffHeapDoubleColumn extends Column<Double> {
+
+  private final transient DoubleBuffer values;
+  private final int size;
+  private final transient OffHeapArena arena;
+
+  OffHeapDoubleColumn(String columnName, DoubleBuffer values, int size, OffHeapArena arena) {
+    super(columnName, new OffHeapDoubleValues(values, size, arena));
+    this.values = values;
+    this.size = size;
+    this.arena = arena;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Double get(int index) {
+    return getDouble(index);
+  }
+
+  @Override
+  public boolean isPrimitive() {
+    return true;
+  }
+
+  @Override
+  public double getDouble(int index) {
+    arena.checkOpen();
+    return values.get(index);
+  }
+
+  @Override
+  public void copyDoubles(int from, int to, double[] target, int offset, int stride) {
+    arena.acquire();
+    try {
+      if (stride == 1) {
+        values.get(from, target, offset, to - from);
+        return;
+      }
+      for (int row = from; row < to; row++, offset += stride) {
+        target[offset] = values.get(row);
+      }
+    } finally {
+      arena.release();
+    }
+  }
+
+  @Override
+  public OffHeapDoubleColumn select(int[] indices) {
+    arena.acquire();
+    try {
+      var selected = arena.allocateDoubles(indices.length);
+      for (int i = 0; i < indices.length; i++) {
+        selected.put(i, values.get(indices[i]));
+      }
+      return new OffHeapDoubleColumn(columnName(), selected, indices.length, arena);
+    } finally {
+      arena.release();
+    }
+  }
+
+  public void copyTo(DoubleBuffer target, int from, int to, int offset, int stride) {
+    arena.acquire();
+    try {
+      if (stride == 1) {
+        target.put(offset, values, from, to - from);
+        return;
+      }
+      for (int row = from; row < to; row++, offset += stride) {
+        target.put(offset, values.get(row));
+      }
+    } finally {
+      arena.release();
+    }
+  }
+
+  private Object writeReplace() {
+    var copy = new double[size];
+    arena.acquire();
+    try {
+      values.get(0, copy, 0, size);
+    } finally {
+      arena.release();
+    }
+    return new DoubleColumn(columnName(), copy);
+  }
+
+  private static class OffHeapDoubleValues extends AbstractList<Double> implements RandomAccess,
+      Serializable {
+
+    private final transient DoubleBuffer values;
+    private final int size;
+    private final transient OffHeapArena arena;
+
+    private OffHeapDoubleValues(DoubleBuffer values, int size, OffHeapArena arena) {
+      this.values = values;
+      this.size = size;
+      this.arena = arena;
+    }
+
+    @Override
+    public Double get(int index) {
+      arena.checkOpen();
+      return values.get(index);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    private Object writeReplace() {
+      return new ArrayList<>(this);
+    }
+  }
+}
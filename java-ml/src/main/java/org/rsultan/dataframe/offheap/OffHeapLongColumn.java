@@ -0,0 +1,102 @@
+package org.rsultan.dataframe.offheap;
+
+import java.io.Serializable;
+import java.nio.LongBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.LongColumn;
+
+public class OffHeapLongColumn extends Column<Long> {
+
+  private final transient LongBuffer values;
+  private final int size;
+  private final transient OffHeapArena arena;
+
+  OffHeapLongColumn(String columnName, LongBuffer values, int size, OffHeapArena arena) {
+    super(columnName, new OffHeapLongValues(values, size, arena));
+    this.values = values;
+    this.size = size;
+    this.arena = arena;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Long get(int index) {
+    return getLong(index);
+  }
+
+  @Override
+  public boolean isPrimitive() {
+    return true;
+  }
+
+  @Override
+  public double getDouble(int index) {
+    return getLong(index);
+  }
+
+  public long getLong(int index) {
+    arena.checkOpen();
+    return values.get(index);
+  }
+
+  @Override
+  public OffHeapLongColumn select(int[] indices) {
+    arena.acquire();
+    try {
+      var selected = arena.allocateLongs(indices.length);
+      for (int i = 0; i < indices.length; i++) {
+        selected.put(i, values.get(indices[i]));
+      }
+      return new OffHeapLongColumn(columnName(), selected, indices.length, arena);
+    } finally {
+      arena.release();
+    }
+  }
+
+  private Object writeReplace() {
+    var copy = new long[size];
+    arena.acquire();
+    try {
+      values.get(0, copy, 0, size);
+    } finally {
+      arena.release();
+    }
+    return new LongColumn(columnName(), copy);
+  }
+
+  private static class OffHeapLongValues extends AbstractList<Long> implements RandomAccess,
+      Serializable {
+
+    private final transient LongBuffer values;
+    private final int size;
+    private final transient OffHeapArena arena;
+
+    private OffHeapLongValues(LongBuffer values, int size, OffHeapArena arena) {
+      this.values = values;
+      this.size = size;
+      this.arena = arena;
+    }
+
+    @Override
+    public Long get(int index) {
+      arena.checkOpen();
+      return values.get(index);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    private Object writeReplace() {
+      return new ArrayList<>(this);
+    }
+  }
+}
@@ -0,0 +1,468 @@
+package org.rsultan.dataframe.reader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.rsultan.dataframe.reader.ColumnType.DOUBLE;
+import static org.rsultan.dataframe.reader.ColumnType.LONG;
+import static org.rsultan.dataframe.reader.ColumnType.STRING;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.rsultan.dataframe.CategoricalColumn;
+import org.rsultan.dataframe.CategoricalColumnBuilder;
+import org.rsultan.dataframe.ChunkedColumn;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.ColumnBuilder;
+import org.rsultan.dataframe.Dataframe;
+import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.DoubleColumn;
+import org.rsultan.dataframe.DoubleColumnBuilder;
+import org.rsultan.dataframe.LongColumn;
+import org.rsultan.dataframe.LongColumnBuilder;
+import org.rsultan.dataframe.ObjectColumnBuilder;
+
+public class CSVReader {
+
+  public static final int DEFAULT_SAMPLE_SIZE = 1000;
+  private static final String HEADER_PREFIX = "c";
+
+  private final Path path;
+  private char separator = ',';
+  private char enclosure = '"';
+  private boolean trimEnclosures = true;
+  private boolean withHeader = true;
+  private int sampleSize = DEFAULT_SAMPLE_SIZE;
+  private ColumnType[] schema;
+  private int parallelism = 1;
+  private String[] columns;
+  private Set<String> categoricalColumns = Set.of();
+  private String filterColumn;
+  private Predicate<Object> filter;
+
+  public CSVReader(String fileName) {
+    this.path = Paths.get(fileName);
+  }
+
+  public CSVReader setSeparator(String separator) {
+    if (separator == null || separator.length() != 1) {
+      throw new IllegalArgumentException("Separator must be a single character");
+    }
+    this.separator = separator.charAt(0);
+    return this;
+  }
+
+  public CSVReader setEnclosure(String enclosure) {
+    if (enclosure != null && enclosure.length() != 1) {
+      throw new IllegalArgumentException("Enclosure must be a single character");
+    }
+    this.trimEnclosures = enclosure != null;
+    this.enclosure = enclosure != null ? enclosure.charAt(0) : '"';
+    return this;
+  }
+
+  public CSVReader setWithHeader(boolean withHeader) {
+    this.withHeader = withHeader;
+    return this;
+  }
+
+  public CSVReader setSampleSize(int sampleSize) {
+    this.sampleSize = sampleSize < 1 ? DEFAULT_SAMPLE_SIZE : sampleSize;
+    return this;
+  }
+
+  public CSVReader setParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be strictly positive");
+    }
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  public CSVReader setColumns(String... columns) {
+    this.columns = columns == null || columns.length == 0 ? null : columns;
+    return this;
+  }
+
+  public CSVReader setCategorical(String... columnNames) {
+    this.categoricalColumns = Set.copyOf(Arrays.asList(columnNames));
+    return this;
+  }
+
+  // The value type is declared by the caller: a mismatch surfaces as a ClassCastException when
+  // the filtered column is read
+  @SuppressWarnings("unchecked")
+  public <T> CSVReader setFilter(String columnName, Predicate<T> predicate) {
+    this.filterColumn = columnName;
+    this.filter = (Predicate<Object>) predicate;
+    return this;
+  }
+
+  public CSVReader setSchema(ColumnType... schema) {
+    this.schema = schema == null || schema.length == 0 ? null : schema;
+    return this;
+  }
+
+  public Dataframe read() throws IOException {
+    return Dataframes.create(readColumns());
+  }
+
+  public Column<?>[] readColumns() throws IOException {
+    var columnNames = readColumnNames();
+    if (columnNames.length == 0) {
+      return new Column<?>[0];
+    }
+    var fields = columns == null ? range(0, columnNames.length).toArray()
+        : stream(columns).mapToInt(column -> indexOf(columnNames, column)).toArray();
+    int filterField = filter == null ? -1 : indexOf(columnNames, filterColumn);
+    var columnTypes = schema != null ? schema : inferSchema(fields, filterField);
+    if (columnTypes.length != columnNames.length) {
+      throw new IllegalArgumentException(
+          "Schema has " + columnTypes.length + " columns instead of " + columnNames.length);
+    }
+    var categorical = new boolean[fields.length];
+    for (int idx = 0; idx < fields.length; idx++) {
+      categorical[idx] = categoricalColumns.contains(columnNames[fields[idx]]);
+    }
+    var layout = new RecordLayout(columnNames, columnTypes, schema != null, fields, categorical,
+        filterField, filter);
+    var keptNames = stream(fields).mapToObj(field -> columnNames[field]).toArray(String[]::new);
+    if (parallelism > 1) {
+      return readRanges(layout, keptNames);
+    }
+    try (var tokenizer = tokenizer()) {
+      var appenders = readRecords(tokenizer, layout, withHeader);
+      return range(0, appenders.length)
+          .mapToObj(idx -> appenders[idx].build(keptNames[idx]))
+          .toArray(Column[]::new);
+    }
+  }
+
+  private String[] readColumnNames() throws IOException {
+    try (var tokenizer = tokenizer()) {
+      if (!tokenizer.next()) {
+        return new String[0];
+      }
+      return range(0, tokenizer.fieldCount())
+          .mapToObj(idx -> withHeader ? tokenizer.getString(idx) : HEADER_PREFIX + idx)
+          .toArray(String[]::new);
+    }
+  }
+
+  private static int indexOf(String[] columnNames, String columnName) {
+    return range(0, columnNames.length)
+        .filter(idx -> columnNames[idx].equals(columnName))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown column " + columnName));
+  }
+
+  private Column<?>[] readRanges(RecordLayout layout, String[] columnNames)
+      throws IOException {
+    var ranges = MappedFileRanges.split(path, parallelism);
+    try {
+      var parsedRanges = range(0, ranges.size()).parallel()
+          .mapToObj(idx -> readRange(ranges, idx, idx + 1, layout))
+          .collect(toList());
+      var resolved = new ArrayList<ParsedRange>();
+      long linesBefore = 0;
+      for (int idx = 0; idx < ranges.size(); ) {
+        var parsed = parsedRanges.get(idx);
+        int next = idx + 1;
+        // A quoted value left open runs into the following ranges: only those are read again,
+        // together, from this range's start which is known to be a record boundary
+        while (parsed.unterminatedQuote() && next < ranges.size()) {
+          parsed = readRange(ranges, idx, ++next, layout);
+        }
+        if (parsed.failure() != null) {
+          throw parsed.failure().atLine(linesBefore + parsed.failure().lineNumber());
+        }
+        resolved.add(parsed);
+        linesBefore += parsed.lineCount();
+        idx = next;
+      }
+      return range(0, columnNames.length)
+          .mapToObj(field -> stitch(columnNames[field], resolved.stream()
+              .map(parsed -> parsed.appenders()[field].build(columnNames[field]))
+              .collect(toList())))
+          .toArray(Column[]::new);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private ParsedRange readRange(List<ByteBuffer> ranges, int from, int to, RecordLayout layout) {
+    var reader = MappedFileRanges.reader(ranges.subList(from, to));
+    try (var tokenizer = new CSVTokenizer(reader, separator, enclosure, trimEnclosures)) {
+      try {
+        var appenders = readRecords(tokenizer, layout, from == 0 && withHeader);
+        return new ParsedRange(appenders, tokenizer.lineNumber(),
+            tokenizer.hasUnterminatedQuote(), null);
+      } catch (InvalidRecordException e) {
+        return new ParsedRange(null, tokenizer.lineNumber(), tokenizer.hasUnterminatedQuote(), e);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ColumnAppender[] readRecords(CSVTokenizer tokenizer, RecordLayout layout,
+      boolean skipHeader) throws IOException {
+    var appenders = range(0, layout.fields().length)
+        .mapToObj(idx -> new ColumnAppender(layout, layout.fields()[idx],
+            layout.categorical()[idx]))
+        .toArray(ColumnAppender[]::new);
+    if (skipHeader) {
+      tokenizer.next();
+    }
+    while (tokenizer.next()) {
+      appendRecord(tokenizer, layout, appenders);
+    }
+    return appenders;
+  }
+
+  private static Column<?> stitch(String columnName, List<Column<?>> ranges) {
+    var chunks = ranges.stream()
+        .flatMap(column -> column instanceof ChunkedColumn<?> chunked
+            ? chunked.getChunks().stream() : Stream.of(column))
+        .filter(column -> column.size() > 0)
+        .collect(toList());
+    if (chunks.isEmpty()) {
+      return ranges.get(0);
+    } else if (chunks.size() == 1) {
+      return chunks.get(0);
+    } else if (chunks.stream().allMatch(CategoricalColumn.class::isInstance)) {
+      return CategoricalColumn.concat(columnName, chunks.stream()
+          .map(column -> (CategoricalColumn<?>) column)
+          .collect(toList()));
+    }
+    boolean hasDoubles = chunks.stream().anyMatch(DoubleColumn.class::isInstance);
+    boolean allNumbers = chunks.stream()
+        .allMatch(column -> column instanceof DoubleColumn || column instanceof LongColumn);
+    if (hasDoubles && allNumbers) {
+      chunks = chunks.stream().map(CSVReader::toDoubleColumn).collect(toList());
+    }
+    return new ChunkedColumn<>(columnName, chunks);
+  }
+
+  private static Column<?> toDoubleColumn(Column<?> column) {
+    if (column instanceof DoubleColumn) {
+      return column;
+    }
+    var values = new double[column.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = column.getDouble(i);
+    }
+    return new DoubleColumn(column.columnName(), values);
+  }
+
+  private ColumnType[] inferSchema(int[] fields, int filterField) throws IOException {
+    try (var tokenizer = tokenizer()) {
+      if (!tokenizer.next()) {
+        return new ColumnType[0];
+      }
+      var seenTypes = new boolean[tokenizer.fieldCount()][ColumnType.values().length];
+      var inferredFields = IntStream.concat(stream(fields), IntStream.of(filterField))
+          .filter(field -> field >= 0 && field < seenTypes.length)
+          .distinct()
+          .toArray();
+      int sampled = 0;
+      boolean hasRecord = !withHeader || tokenizer.next();
+      while (hasRecord && sampled++ < sampleSize) {
+        for (int field : inferredFields) {
+          if (field < tokenizer.fieldCount() && !tokenizer.isEmpty(field)) {
+            var type = NumberParser.classify(
+                tokenizer.chars(), tokenizer.start(field), tokenizer.end(field));
+            seenTypes[field][type.ordinal()] = true;
+          }
+        }
+        hasRecord = tokenizer.next();
+      }
+      return stream(seenTypes).map(seen -> seen[STRING.ordinal()] ? STRING
+          : seen[DOUBLE.ordinal()] ? DOUBLE
+              : seen[LONG.ordinal()] ? LONG
+                  : STRING
+      ).toArray(ColumnType[]::new);
+    }
+  }
+
+  private void appendRecord(CSVTokenizer tokenizer, RecordLayout layout,
+      ColumnAppender[] appenders) {
+    if (tokenizer.fieldCount() != layout.types().length) {
+      throw new InvalidRecordException(tokenizer.lineNumber(), " has "
+          + tokenizer.fieldCount() + " values instead of " + layout.types().length);
+    }
+    if (layout.filter() != null) {
+      int field = layout.filterField();
+      if (layout.declared()) {
+        checkDeclaredType(tokenizer, field, layout);
+      }
+      if (!layout.filter().test(parseValue(tokenizer, field, layout.types()[field]))) {
+        return;
+      }
+    }
+    for (int idx = 0; idx < appenders.length; idx++) {
+      appenders[idx].append(tokenizer, layout.fields()[idx]);
+    }
+  }
+
+  private static void checkDeclaredType(CSVTokenizer tokenizer, int field, RecordLayout layout) {
+    var type = layout.types()[field];
+    if (type == STRING) {
+      return;
+    }
+    var chars = tokenizer.chars();
+    int start = tokenizer.start(field);
+    int end = tokenizer.end(field);
+    var valueType = start == end ? STRING : NumberParser.classify(chars, start, end);
+    if (valueType == STRING || type == LONG && valueType == DOUBLE) {
+      throw new InvalidRecordException(tokenizer.lineNumber(), ", column "
+          + layout.names()[field] + ": '" + new String(chars, start, end - start)
+          + "' is not a " + type + " value");
+    }
+  }
+
+  private static Object parseValue(CSVTokenizer tokenizer, int field, ColumnType type) {
+    if (type == STRING || tokenizer.isEmpty(field)) {
+      return tokenizer.getString(field);
+    }
+    var chars = tokenizer.chars();
+    int start = tokenizer.start(field);
+    int end = tokenizer.end(field);
+    return switch (NumberParser.classify(chars, start, end)) {
+      case LONG -> type == DOUBLE ? (Object) NumberParser.parseDouble(chars, start, end)
+          : (Object) NumberParser.parseLong(chars, start, end);
+      case DOUBLE -> NumberParser.parseDouble(chars, start, end);
+      case STRING -> tokenizer.getString(field);
+    };
+  }
+
+  private CSVTokenizer tokenizer() throws IOException {
+    var reader = new InputStreamReader(Files.newInputStream(path), UTF_8);
+    return new CSVTokenizer(reader, separator, enclosure, trimEnclosures);
+  }
+
+  private record RecordLayout(
+      String[] names,
+      ColumnType[] types,
+      boolean declared,
+      int[] fields,
+      boolean[] categorical,
+      int filterField,
+      Predicate<Object> filter
+  ) {
+
+  }
+
+  private record ParsedRange(
+      ColumnAppender[] appenders,
+      long lineCount,
+      boolean unterminatedQuote,
+      InvalidRecordException failure
+  ) {
+
+  }
+
+  private static class InvalidRecordException extends IllegalArgumentException {
+
+    private final long lineNumber;
+    private final String reason;
+
+    private InvalidRecordException(long lineNumber, String reason) {
+      super("Line " + lineNumber + reason);
+      this.lineNumber = lineNumber;
+      this.reason = reason;
+    }
+
+    private long lineNumber() {
+      return lineNumber;
+    }
+
+    private InvalidRecordException atLine(long lineNumber) {
+      return new InvalidRecordException(lineNumber, reason);
+    }
+  }
+
+  private static class ColumnAppender {
+
+    private final RecordLayout layout;
+    private final ColumnType type;
+    private LongColumnBuilder longs;
+    private DoubleColumnBuilder doubles;
+    private ColumnBuilder<Object> objects;
+
+    private ColumnAppender(RecordLayout layout, int field, boolean categorical) {
+      this.layout = layout;
+      this.type = layout.types()[field];
+      if (categorical) {
+        objects = new CategoricalColumnBuilder<>();
+        return;
+      }
+      switch (type) {
+        case LONG -> longs = new LongColumnBuilder();
+        case DOUBLE -> doubles = new DoubleColumnBuilder();
+        case STRING -> objects = new ObjectColumnBuilder<>();
+      }
+    }
+
+    private void append(CSVTokenizer tokenizer, int field) {
+      if (layout.declared()) {
+        checkDeclaredType(tokenizer, field, layout);
+      }
+      if (objects != null) {
+        appendObject(tokenizer, field);
+        return;
+      }
+      var chars = tokenizer.chars();
+      int start = tokenizer.start(field);
+      int end = tokenizer.end(field);
+      var valueType = start == end ? STRING : NumberParser.classify(chars, start, end);
+      if (valueType == STRING) {
+        objects = longs != null ? longs.toObjectBuilder() : doubles.toObjectBuilder();
+        longs = null;
+        doubles = null;
+        appendObject(tokenizer, field);
+      } else if (longs != null && valueType == LONG) {
+        longs.appendLong(NumberParser.parseLong(chars, start, end));
+      } else {
+        if (longs != null) {
+          doubles = longs.toDoubleBuilder();
+          longs = null;
+        }
+        doubles.appendDouble(NumberParser.parseDouble(chars, start, end));
+      }
+    }
+
+    private void appendObject(CSVTokenizer tokenizer, int field) {
+      if (type == STRING || tokenizer.isEmpty(field)) {
+        objects.append(tokenizer.getString(field));
+        return;
+      }
+      var chars = tokenizer.chars();
+      int start = tokenizer.start(field);
+      int end = tokenizer.end(field);
+      switch (NumberParser.classify(chars, start, end)) {
+        case LONG -> objects.append(NumberParser.parseLong(chars, start, end));
+        case DOUBLE -> objects.append(NumberParser.parseDouble(chars, start, end));
+        case STRING -> objects.append(tokenizer.getString(field));
+      }
+    }
+
+    private Column<?> build(String columnName) {
+      ColumnBuilder<?> builder = objects != null ? objects : longs != null ? longs : doubles;
+      return builder.build(columnName);
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package org.rsultan.dataframe.reader;
+
+import static java.util.Arrays.copyOf;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+class CSVTokenizer implements Closeable {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final Reader reader;
+  private final char separator;
+  private final char enclosure;
+  private final boolean trimEnclosures;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int position;
+  private int limit;
+
+  private char[] record = new char[256];
+  private int recordLength;
+  private int[] fieldStarts = new int[16];
+  private int[] fieldEnds = new int[16];
+  private int fieldCount;
+  private long lineNumber;
+  private boolean unterminatedQuote;
+
+  CSVTokenizer(Reader reader, char separator, char enclosure, boolean trimEnclosures) {
+    this.reader = reader;
+    this.separator = separator;
+    this.enclosure = enclosure;
+    this.trimEnclosures = trimEnclosures;
+  }
+
+  boolean next() throws IOException {
+    do {
+      if (peek(0) == -1) {
+        return false;
+      }
+      readRecord();
+    } while (fieldCount == 1 && fieldStarts[0] == fieldEnds[0]);
+    return true;
+  }
+
+  int fieldCount() {
+    return fieldCount;
+  }
+
+  char[] chars() {
+    return record;
+  }
+
+  int start(int field) {
+    return fieldStarts[field];
+  }
+
+  int end(int field) {
+    return fieldEnds[field];
+  }
+
+  boolean isEmpty(int field) {
+    return fieldStarts[field] == fieldEnds[field];
+  }
+
+  String getString(int field) {
+    return isEmpty(field) ? null
+        : new String(record, fieldStarts[field], fieldEnds[field] - fieldStarts[field]);
+  }
+
+  long lineNumber() {
+    return lineNumber;
+  }
+
+  boolean hasUnterminatedQuote() {
+    return unterminatedQuote;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private void readRecord() throws IOException {
+    recordLength = 0;
+    fieldCount = 0;
+    lineNumber++;
+    boolean endOfRecord;
+    do {
+      endOfRecord = readField();
+    } while (!endOfRecord);
+  }
+
+  private boolean readField() throws IOException {
+    int start = recordLength;
+    while (isWhitespace(peek(0))) {
+      position++;
+    }
+    if (peek(0) == enclosure) {
+      position++;
+      readQuotedValue();
+    } else {
+      for (int c = peek(0); !isDelimiter(c); c = peek(0)) {
+        append((char) c);
+        position++;
+      }
+      while (recordLength > start && isWhitespace(record[recordLength - 1])) {
+        recordLength--;
+      }
+    }
+    int end = recordLength;
+    if (trimEnclosures) {
+      while (start < end && record[start] == enclosure) {
+        start++;
+      }
+      while (end > start && record[end - 1] == enclosure) {
+        end--;
+      }
+    }
+    addField(start, end);
+
+    int delimiter = read();
+    if (delimiter == separator) {
+      return false;
+    } else if (delimiter == '\r' && peek(0) == '\n') {
+      position++;
+    }
+    return true;
+  }
+
+  private void readQuotedValue() throws IOException {
+    for (int c = read(); c != -1; c = read()) {
+      if (c != enclosure) {
+        lineNumber += c == '\n' ? 1 : 0;
+        append((char) c);
+      } else if (isDelimiter(peek(0))) {
+        return;
+      } else if (peek(0) == enclosure && !isDelimiter(peek(1))) {
+        position++;
+        append(enclosure);
+      } else {
+        append(enclosure);
+      }
+    }
+    unterminatedQuote = true;
+  }
+
+  private boolean isDelimiter(int c) {
+    return c == separator || c == '\n' || c == '\r' || c == -1;
+  }
+
+  private boolean isWhitespace(int c) {
+    return (c == ' ' || c == '\t') && c != separator;
+  }
+
+  private void append(char c) {
+    if (recordLength == record.length) {
+      record = copyOf(record, record.length * 2);
+    }
+    record[recordLength++] = c;
+  }
+
+  private void addField(int start, int end) {
+    if (fieldCount == fieldStarts.length) {
+      fieldStarts = copyOf(fieldStarts, fieldCount * 2);
+      fieldEnds = copyOf(fieldEnds, fieldCount * 2);
+    }
+    fieldStarts[fieldCount] = start;
+    fieldEnds[fieldCount++] = end;
+  }
+
+  private int read() throws IOException {
+    int c = peek(0);
+    if (c != -1) {
+      position++;
+    }
+    return c;
+  }
+
+  private int peek(int offset) throws IOException {
+    if (position + offset >= limit && !fill(offset + 1)) {
+      return -1;
+    }
+    return buffer[position + offset];
+  }
+
+  private boolean fill(int needed) throws IOException {
+    if (position > 0) {
+      System.arraycopy(buffer, position, buffer, 0, limit - position);
+      limit -= position;
+      position = 0;
+    }
+    while (limit < needed) {
+      int read = reader.read(buffer, limit, buffer.length - limit);
+      if (read == -1) {
+        return false;
+      }
+      limit += read;
+    }
+    return true;
+  }
+}
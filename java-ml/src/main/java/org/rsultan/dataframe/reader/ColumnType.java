@@ -0,0 +1,5 @@
+package org.rsultan.dataframe.reader;
+
+public enum ColumnType {
+  LONG, DOUBLE, STRING
+}
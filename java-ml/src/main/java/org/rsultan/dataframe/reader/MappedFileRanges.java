@@ -0,0 +1,100 @@
+package org.rsultan.dataframe.reader;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.enumeration;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+class MappedFileRanges {
+
+  static final long MIN_RANGE_SIZE = 1 << 16;
+  static final long MAX_RANGE_SIZE = Integer.MAX_VALUE;
+  private static final int SCAN_WINDOW = 1 << 16;
+
+  private MappedFileRanges() {
+  }
+
+  static List<ByteBuffer> split(Path path, int parallelism) throws IOException {
+    return split(path, parallelism, MAX_RANGE_SIZE);
+  }
+
+  static List<ByteBuffer> split(Path path, int parallelism, long maxRangeSize)
+      throws IOException {
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      long maxRanges = Math.max(1, size / MIN_RANGE_SIZE);
+      long minRanges = (size + maxRangeSize / 2 - 1) / (maxRangeSize / 2);
+      long rangeCount = Math.max(Math.min(parallelism, maxRanges), minRanges);
+      long rangeSize = Math.max(size / Math.max(rangeCount, 1), 1);
+
+      var ranges = new ArrayList<ByteBuffer>();
+      long start = 0;
+      while (start < size) {
+        long end = Math.min(size, nextLineStart(channel, start + rangeSize));
+        if (end - start > maxRangeSize) {
+          throw new IllegalArgumentException(
+              "Line starting after byte " + start + " is longer than " + maxRangeSize + " bytes");
+        }
+        ranges.add(channel.map(READ_ONLY, start, end - start));
+        start = end;
+      }
+      return ranges;
+    }
+  }
+
+  static Reader reader(List<ByteBuffer> ranges) {
+    var streams = ranges.stream()
+        .map(range -> (InputStream) new ByteBufferInputStream(range.duplicate()))
+        .collect(toList());
+    return new InputStreamReader(new SequenceInputStream(enumeration(streams)), UTF_8);
+  }
+
+  private static long nextLineStart(FileChannel channel, long offset) throws IOException {
+    long size = channel.size();
+    for (long windowStart = offset; windowStart < size; windowStart += SCAN_WINDOW) {
+      var window = channel.map(READ_ONLY, windowStart, Math.min(SCAN_WINDOW, size - windowStart));
+      for (int i = 0; i < window.limit(); i++) {
+        if (window.get(i) == '\n') {
+          return windowStart + i + 1;
+        }
+      }
+    }
+    return size;
+  }
+
+  private static class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int read = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, read);
+      return read;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package org.rsultan.dataframe.reader;
+
+import static org.rsultan.dataframe.reader.ColumnType.DOUBLE;
+import static org.rsultan.dataframe.reader.ColumnType.LONG;
+import static org.rsultan.dataframe.reader.ColumnType.STRING;
+
+class NumberParser {
+
+  private static final int MAX_FAST_LONG_DIGITS = 18;
+  private static final int MAX_FAST_DOUBLE_DIGITS = 15;
+  private static final double[] POWERS_OF_TEN = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+      1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  static ColumnType classify(char[] chars, int start, int end) {
+    int idx = start < end && chars[start] == '-' ? start + 1 : start;
+    int integerStart = idx;
+    while (idx < end && isDigit(chars[idx])) {
+      idx++;
+    }
+    if (idx == integerStart) {
+      return STRING;
+    } else if (idx == end) {
+      return LONG;
+    } else if (chars[idx] != '.') {
+      return STRING;
+    }
+    int fractionStart = ++idx;
+    while (idx < end && isDigit(chars[idx])) {
+      idx++;
+    }
+    return idx != fractionStart && idx == end ? DOUBLE : STRING;
+  }
+
+  static long parseLong(char[] chars, int start, int end) {
+    boolean negative = chars[start] == '-';
+    int idx = negative ? start + 1 : start;
+    if (end - idx > MAX_FAST_LONG_DIGITS) {
+      return Long.parseLong(new String(chars, start, end - start));
+    }
+    long value = 0;
+    for (; idx < end; idx++) {
+      value = value * 10 + (chars[idx] - '0');
+    }
+    return negative ? -value : value;
+  }
+
+  static double parseDouble(char[] chars, int start, int end) {
+    boolean negative = chars[start] == '-';
+    int idx = negative ? start + 1 : start;
+    long mantissa = 0;
+    int digits = 0;
+    int fractionDigits = -1;
+    for (; idx < end; idx++) {
+      char c = chars[idx];
+      if (c == '.') {
+        fractionDigits = 0;
+      } else {
+        mantissa = mantissa * 10 + (c - '0');
+        digits++;
+        if (fractionDigits >= 0) {
+          fractionDigits++;
+        }
+      }
+    }
+    if (digits > MAX_FAST_DOUBLE_DIGITS) {
+      return Double.parseDouble(new String(chars, start, end - start));
+    }
+    double value = fractionDigits > 0
+        ? (double) mantissa / POWERS_OF_TEN[fractionDigits]
+        : (double) mantissa;
+    return negative ? -value : value;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
@@ -1,24 +1,23 @@
 package org.rsultan.dataframe.transform.filter;
 
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.IntStream.range;
-import static java.util.stream.Stream.of;
+import static java.util.Arrays.stream;
 
-import java.util.List;
+import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import org.rsultan.dataframe.Column;
 import org.rsultan.dataframe.Dataframe;
 import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.Selection;
+import org.rsultan.dataframe.SelectionColumn;
 
 public record FilterDataframe(Dataframe dataframe) implements FilterTransform {
 
   public <SOURCE1> Dataframe filter(String columnName, Predicate<SOURCE1> predicate) {
-    List<SOURCE1> values1 = this.dataframe.get(columnName);
-    var indices = range(0, values1.size()).parallel()
-        .filter(index -> predicate.test(values1.get(index)))
-        .boxed().collect(toList());
-    return getFilteredDataframe(indices);
+    var sharedSelection = getSharedSelection();
+    Column<SOURCE1> values1 = getSourceColumn(columnName, sharedSelection);
+    return getFilteredDataframe(sharedSelection, row -> predicate.test(values1.get(row)));
   }
 
   public <SOURCE1, SOURCE2> Dataframe filter(
@@ -26,23 +25,39 @@ public record FilterDataframe(Dataframe dataframe) implements FilterTransform {
       String sourceColumn2,
       BiPredicate<SOURCE1, SOURCE2> predicate
   ) {
-    List<SOURCE1> values1 = this.dataframe.get(sourceColumn1);
-    List<SOURCE2> values2 = this.dataframe.get(sourceColumn2);
-    var indices = range(0, values1.size()).parallel()
-        .filter(index -> predicate.test(values1.get(index), values2.get(index)))
-        .boxed().collect(toList());
-    return getFilteredDataframe(indices);
+    var sharedSelection = getSharedSelection();
+    Column<SOURCE1> values1 = getSourceColumn(sourceColumn1, sharedSelection);
+    Column<SOURCE2> values2 = getSourceColumn(sourceColumn2, sharedSelection);
+    return getFilteredDataframe(sharedSelection,
+        row -> predicate.test(values1.get(row), values2.get(row)));
   }
 
-  private Dataframe getFilteredDataframe(List<Integer> indices) {
+  private Optional<Selection> getSharedSelection() {
+    var columns = this.dataframe.getColumns();
+    if (columns.length == 0 || !(columns[0] instanceof SelectionColumn<?> first)) {
+      return Optional.empty();
+    }
+    var selection = first.getSelection();
+    return stream(columns).allMatch(column -> column instanceof SelectionColumn<?> view
+        && view.getSelection() == selection) ? Optional.of(selection) : Optional.empty();
+  }
+
+  private <T> Column<T> getSourceColumn(String columnName, Optional<Selection> sharedSelection) {
+    Column<T> column = this.dataframe.getColumn(columnName);
+    return sharedSelection.isPresent() ? ((SelectionColumn<T>) column).getParent() : column;
+  }
+
+  private Dataframe getFilteredDataframe(Optional<Selection> sharedSelection,
+      IntPredicate rowPredicate) {
+    var selection = sharedSelection
+        .map(shared -> shared.and(rowPredicate))
+        .orElseGet(() -> Selection.of(this.dataframe.getRowSize(), rowPredicate));
     return Dataframes.create(
-        of(this.dataframe.getColumns()).map(column -> new Column<>(column.columnName(),
-                range(0, column.values().size()).parallel()
-                    .filter(indices::contains)
-                    .mapToObj(column.values()::get)
-                    .collect(toList())
-            )
-        ).toArray(Column[]::new)
+        stream(this.dataframe.getColumns())
+            .map(column -> sharedSelection.isPresent()
+                ? SelectionColumn.of(((SelectionColumn<?>) column).getParent(), selection)
+                : SelectionColumn.of(column, selection))
+            .toArray(Column[]::new)
     );
   }
 }
@@ -0,0 +1,76 @@
+package org.rsultan.dataframe.transform.group;
+
+import static java.util.Arrays.copyOf;
+
+import org.rsultan.dataframe.transform.group.Aggregation.Type;
+
+class Accumulator {
+
+  private final Type type;
+  private double[] values;
+  private long[] counts;
+
+  Accumulator(Type type, int capacity) {
+    this.type = type;
+    this.values = new double[capacity];
+    this.counts = new long[capacity];
+  }
+
+  void count(int group) {
+    ensureCapacity(group);
+    counts[group]++;
+  }
+
+  void add(int group, double value) {
+    ensureCapacity(group);
+    long count = counts[group]++;
+    switch (type) {
+      case SUM, MEAN -> values[group] += value;
+      case MIN -> values[group] = count == 0 ? value : Math.min(values[group], value);
+      case MAX -> values[group] = count == 0 ? value : Math.max(values[group], value);
+      default -> {
+      }
+    }
+  }
+
+  void merge(int group, Accumulator other, int otherGroup) {
+    ensureCapacity(group);
+    long otherCount = other.getCount(otherGroup);
+    if (otherCount == 0) {
+      return;
+    }
+    double otherValue = other.values[otherGroup];
+    switch (type) {
+      case SUM, MEAN -> values[group] += otherValue;
+      case MIN -> values[group] = counts[group] == 0
+          ? otherValue : Math.min(values[group], otherValue);
+      case MAX -> values[group] = counts[group] == 0
+          ? otherValue : Math.max(values[group], otherValue);
+      default -> {
+      }
+    }
+    counts[group] += otherCount;
+  }
+
+  long getCount(int group) {
+    return group < counts.length ? counts[group] : 0;
+  }
+
+  double getValue(int group) {
+    long count = getCount(group);
+    return switch (type) {
+      case COUNT -> count;
+      case SUM -> count == 0 ? 0 : values[group];
+      case MEAN -> count == 0 ? Double.NaN : values[group] / count;
+      case MIN, MAX -> count == 0 ? Double.NaN : values[group];
+    };
+  }
+
+  private void ensureCapacity(int group) {
+    if (group >= counts.length) {
+      int capacity = Math.max(group + 1, counts.length * 2);
+      values = copyOf(values, capacity);
+      counts = copyOf(counts, capacity);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package org.rsultan.dataframe.transform.group;
+
+import java.io.Serializable;
+
+public record Aggregation(Type type, String columnName, String alias) implements Serializable {
+
+  public static Aggregation count() {
+    return new Aggregation(Type.COUNT, null, "count");
+  }
+
+  public static Aggregation count(String columnName) {
+    return of(Type.COUNT, columnName);
+  }
+
+  public static Aggregation sum(String columnName) {
+    return of(Type.SUM, columnName);
+  }
+
+  public static Aggregation mean(String columnName) {
+    return of(Type.MEAN, columnName);
+  }
+
+  public static Aggregation min(String columnName) {
+    return of(Type.MIN, columnName);
+  }
+
+  public static Aggregation max(String columnName) {
+    return of(Type.MAX, columnName);
+  }
+
+  public Aggregation as(String alias) {
+    return new Aggregation(type, columnName, alias);
+  }
+
+  private static Aggregation of(Type type, String columnName) {
+    return new Aggregation(type, columnName, type.name().toLowerCase() + "(" + columnName + ")");
+  }
+
+  public enum Type {
+    COUNT, SUM, MEAN, MIN, MAX
+  }
+}
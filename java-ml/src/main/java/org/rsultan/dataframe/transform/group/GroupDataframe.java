@@ -0,0 +1,11 @@
+package org.rsultan.dataframe.transform.group;
+
+import org.rsultan.dataframe.Dataframe;
+
+public record GroupDataframe(Dataframe dataframe) implements GroupTransform {
+
+  @Override
+  public GroupedDataframe groupBy(String... columnNames) {
+    return new GroupedDataframe(dataframe, columnNames);
+  }
+}
@@ -0,0 +1,106 @@
+package org.rsultan.dataframe.transform.group;
+
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+
+class GroupTable {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int width;
+  private long[] keys;
+  private int[] hashes;
+  private int[] firstRows;
+  private int[] slots;
+  private int size;
+
+  GroupTable(int width) {
+    this.width = width;
+    this.keys = new long[INITIAL_CAPACITY * width];
+    this.hashes = new int[INITIAL_CAPACITY];
+    this.firstRows = new int[INITIAL_CAPACITY];
+    this.slots = new int[INITIAL_CAPACITY * 2];
+    fill(slots, -1);
+  }
+
+  static int hash(long[] key, int offset, int width) {
+    long hash = 0x9E3779B97F4A7C15L;
+    for (int i = offset; i < offset + width; i++) {
+      hash = (hash ^ key[i]) * 0xBF58476D1CE4E5B9L;
+      hash ^= hash >>> 31;
+    }
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  int findOrInsert(long[] key, int offset, int hash, int firstRow) {
+    int mask = slots.length - 1;
+    for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+      int group = slots[slot];
+      if (group < 0) {
+        return insert(slot, key, offset, hash, firstRow);
+      } else if (hashes[group] == hash && sameKey(group, key, offset)) {
+        return group;
+      }
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  int width() {
+    return width;
+  }
+
+  long[] keys() {
+    return keys;
+  }
+
+  int hash(int group) {
+    return hashes[group];
+  }
+
+  int firstRow(int group) {
+    return firstRows[group];
+  }
+
+  private boolean sameKey(int group, long[] key, int offset) {
+    int groupOffset = group * width;
+    for (int i = 0; i < width; i++) {
+      if (keys[groupOffset + i] != key[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int insert(int slot, long[] key, int offset, int hash, int firstRow) {
+    if (size == hashes.length) {
+      keys = copyOf(keys, keys.length * 2);
+      hashes = copyOf(hashes, hashes.length * 2);
+      firstRows = copyOf(firstRows, firstRows.length * 2);
+    }
+    int group = size++;
+    System.arraycopy(key, offset, keys, group * width, width);
+    hashes[group] = hash;
+    firstRows[group] = firstRow;
+    slots[slot] = group;
+    if (size * 2 > slots.length) {
+      rehash();
+    }
+    return group;
+  }
+
+  private void rehash() {
+    slots = new int[slots.length * 2];
+    fill(slots, -1);
+    int mask = slots.length - 1;
+    for (int group = 0; group < size; group++) {
+      int slot = hashes[group] & mask;
+      while (slots[slot] >= 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = group;
+    }
+  }
+}
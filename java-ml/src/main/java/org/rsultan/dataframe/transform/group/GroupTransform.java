@@ -0,0 +1,9 @@
+package org.rsultan.dataframe.transform.group;
+
+import java.io.Serializable;
+
+public interface GroupTransform extends Serializable {
+
+  GroupedDataframe groupBy(String... columnNames);
+
+}
@@ -0,0 +1,197 @@
+package org.rsultan.dataframe.transform.group;
+
+import static java.util.Arrays.stream;
+import static java.util.stream.IntStream.range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.rsultan.dataframe.CategoricalColumn;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Columns;
+import org.rsultan.dataframe.Dataframe;
+import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.DoubleColumn;
+import org.rsultan.dataframe.LongColumn;
+import org.rsultan.dataframe.transform.group.Aggregation.Type;
+
+public class GroupedDataframe {
+
+  private static final int MIN_PARTITION_SIZE = 1 << 16;
+
+  private final Dataframe dataframe;
+  private final String[] keyNames;
+
+  GroupedDataframe(Dataframe dataframe, String[] keyNames) {
+    stream(keyNames).forEach(dataframe::getColumn);
+    this.dataframe = dataframe;
+    this.keyNames = keyNames;
+  }
+
+  public Dataframe count() {
+    return agg(Aggregation.count());
+  }
+
+  public Dataframe agg(Aggregation... aggregations) {
+    var keyColumns = stream(keyNames).map(dataframe::getColumn).toArray(Column<?>[]::new);
+    var keyReaders = stream(keyColumns).map(GroupedDataframe::keyReader)
+        .toArray(KeyReader[]::new);
+    var valueColumns = stream(aggregations)
+        .map(aggregation -> aggregation.columnName() == null
+            ? null : dataframe.getColumn(aggregation.columnName()))
+        .toArray(Column<?>[]::new);
+
+    int rowSize = dataframe.getRowSize();
+    int partitions = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+        (rowSize + MIN_PARTITION_SIZE - 1) / MIN_PARTITION_SIZE));
+    var partials = range(0, partitions).parallel()
+        .mapToObj(partition -> aggregate(keyReaders, aggregations, valueColumns,
+            (int) ((long) rowSize * partition / partitions),
+            (int) ((long) rowSize * (partition + 1) / partitions)))
+        .toArray(Partial[]::new);
+    var merged = partials.length == 1 ? partials : merge(partials, aggregations);
+
+    var order = orderByFirstRow(merged);
+    var columns = new ArrayList<Column<?>>();
+    stream(keyColumns).map(column -> column.select(order.firstRows())).forEach(columns::add);
+    for (int aggIdx = 0; aggIdx < aggregations.length; aggIdx++) {
+      columns.add(toColumn(aggregations[aggIdx], aggIdx, merged, order));
+    }
+    return Dataframes.create(columns.toArray(Column[]::new));
+  }
+
+  private static Partial aggregate(KeyReader[] keyReaders, Aggregation[] aggregations,
+      Column<?>[] valueColumns, int from, int to) {
+    var table = new GroupTable(keyReaders.length);
+    var accumulators = newAccumulators(aggregations);
+    var key = new long[keyReaders.length];
+    for (int row = from; row < to; row++) {
+      for (int keyIdx = 0; keyIdx < keyReaders.length; keyIdx++) {
+        key[keyIdx] = keyReaders[keyIdx].key(row);
+      }
+      int group = table.findOrInsert(key, 0, GroupTable.hash(key, 0, key.length), row);
+      for (int aggIdx = 0; aggIdx < accumulators.length; aggIdx++) {
+        accumulate(accumulators[aggIdx], aggregations[aggIdx].type(), valueColumns[aggIdx],
+            group, row);
+      }
+    }
+    return new Partial(table, accumulators);
+  }
+
+  private static void accumulate(Accumulator accumulator, Type type, Column<?> column,
+      int group, int row) {
+    if (column == null || (type == Type.COUNT && column.isPrimitive())) {
+      accumulator.count(group);
+    } else if (column.isPrimitive()) {
+      accumulator.add(group, column.getDouble(row));
+    } else if (column.get(row) != null) {
+      if (type == Type.COUNT) {
+        accumulator.count(group);
+      } else {
+        accumulator.add(group, column.getDouble(row));
+      }
+    }
+  }
+
+  private static Partial[] merge(Partial[] partials, Aggregation[] aggregations) {
+    int partitions = partials.length;
+    return range(0, partitions).parallel().mapToObj(partition -> {
+      var table = new GroupTable(partials[0].table().width());
+      var accumulators = newAccumulators(aggregations);
+      for (var partial : partials) {
+        var partialTable = partial.table();
+        for (int group = 0; group < partialTable.size(); group++) {
+          int hash = partialTable.hash(group);
+          if (partitionOf(hash, partitions) != partition) {
+            continue;
+          }
+          int merged = table.findOrInsert(partialTable.keys(), group * partialTable.width(),
+              hash, partialTable.firstRow(group));
+          for (int aggIdx = 0; aggIdx < accumulators.length; aggIdx++) {
+            accumulators[aggIdx].merge(merged, partial.accumulators()[aggIdx], group);
+          }
+        }
+      }
+      return new Partial(table, accumulators);
+    }).toArray(Partial[]::new);
+  }
+
+  private static int partitionOf(int hash, int partitions) {
+    return (int) (((hash & 0xFFFFFFFFL) * partitions) >>> 32);
+  }
+
+  private static GroupOrder orderByFirstRow(Partial[] partials) {
+    int groupSize = stream(partials).mapToInt(partial -> partial.table().size()).sum();
+    var partitionOfGroup = new int[groupSize];
+    var groupInPartition = new int[groupSize];
+    var sortKeys = new long[groupSize];
+    int globalGroup = 0;
+    for (int partition = 0; partition < partials.length; partition++) {
+      var table = partials[partition].table();
+      for (int group = 0; group < table.size(); group++, globalGroup++) {
+        partitionOfGroup[globalGroup] = partition;
+        groupInPartition[globalGroup] = group;
+        sortKeys[globalGroup] = (long) table.firstRow(group) << 32 | globalGroup;
+      }
+    }
+    Arrays.parallelSort(sortKeys);
+    var order = new GroupOrder(new int[groupSize], new int[groupSize], new int[groupSize]);
+    for (int i = 0; i < groupSize; i++) {
+      int group = (int) sortKeys[i];
+      order.partitions()[i] = partitionOfGroup[group];
+      order.groups()[i] = groupInPartition[group];
+      order.firstRows()[i] = (int) (sortKeys[i] >>> 32);
+    }
+    return order;
+  }
+
+  private static Column<?> toColumn(Aggregation aggregation, int aggIdx, Partial[] partials,
+      GroupOrder order) {
+    int groupSize = order.groups().length;
+    if (aggregation.type() == Type.COUNT) {
+      var counts = new long[groupSize];
+      for (int i = 0; i < groupSize; i++) {
+        counts[i] = partials[order.partitions()[i]].accumulators()[aggIdx]
+            .getCount(order.groups()[i]);
+      }
+      return new LongColumn(aggregation.alias(), counts);
+    }
+    var values = new double[groupSize];
+    for (int i = 0; i < groupSize; i++) {
+      values[i] = partials[order.partitions()[i]].accumulators()[aggIdx]
+          .getValue(order.groups()[i]);
+    }
+    return new DoubleColumn(aggregation.alias(), values);
+  }
+
+  private static Accumulator[] newAccumulators(Aggregation[] aggregations) {
+    return stream(aggregations)
+        .map(aggregation -> new Accumulator(aggregation.type(), 16))
+        .toArray(Accumulator[]::new);
+  }
+
+  private static KeyReader keyReader(Column<?> column) {
+    var longs = Columns.longReader(column);
+    if (column instanceof CategoricalColumn<?> categorical) {
+      return categorical::getCode;
+    } else if (longs != null) {
+      return longs::applyAsLong;
+    } else if (column.isPrimitive() && !(column.size() > 0 && column.get(0) instanceof Long)) {
+      return row -> Double.doubleToLongBits(column.getDouble(row) + 0.0D);
+    }
+    return CategoricalColumn.of(column)::getCode;
+  }
+
+  @FunctionalInterface
+  private interface KeyReader {
+
+    long key(int row);
+  }
+
+  private static record Partial(GroupTable table, Accumulator[] accumulators) {
+
+  }
+
+  private static record GroupOrder(int[] partitions, int[] groups, int[] firstRows) {
+
+  }
+}
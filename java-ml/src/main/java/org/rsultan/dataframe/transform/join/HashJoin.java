@@ -0,0 +1,176 @@
+package org.rsultan.dataframe.transform.join;
+
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+import static java.util.stream.IntStream.range;
+
+class HashJoin {
+
+  private static final int BLOCK_SIZE = 1 << 14;
+
+  private final long[] buildKeys;
+  private final boolean[] buildNulls;
+  private final int partitions;
+  private final int[] next;
+  private final Partition[] tables;
+
+  HashJoin(long[] buildKeys, boolean[] buildNulls) {
+    this.buildKeys = buildKeys;
+    this.buildNulls = buildNulls;
+    this.partitions = Integer.highestOneBit(
+        Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+            buildKeys.length / BLOCK_SIZE)));
+    this.next = new int[buildKeys.length];
+    this.tables = build();
+  }
+
+  JoinIndices probe(long[] probeKeys, boolean[] probeNulls, boolean keepUnmatchedProbe,
+      boolean keepUnmatchedBuild) {
+    var matched = new boolean[buildKeys.length];
+    int blocks = (probeKeys.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    var results = range(0, blocks).parallel().mapToObj(block -> {
+      var indices = new JoinIndices(BLOCK_SIZE);
+      int to = Math.min(probeKeys.length, (block + 1) * BLOCK_SIZE);
+      for (int row = block * BLOCK_SIZE; row < to; row++) {
+        boolean found = false;
+        if (!probeNulls[row]) {
+          long key = probeKeys[row];
+          int hash = hash(key);
+          for (int buildRow = tables[partitionOf(hash)].head(key, hash); buildRow >= 0;
+              buildRow = next[buildRow]) {
+            indices.add(row, buildRow);
+            matched[buildRow] = true;
+            found = true;
+          }
+        }
+        if (!found && keepUnmatchedProbe) {
+          indices.add(row, -1);
+        }
+      }
+      return indices;
+    }).toArray(JoinIndices[]::new);
+
+    var joined = JoinIndices.concat(results);
+    if (keepUnmatchedBuild) {
+      for (int buildRow = 0; buildRow < matched.length; buildRow++) {
+        if (!matched[buildRow]) {
+          joined.add(-1, buildRow);
+        }
+      }
+    }
+    return joined;
+  }
+
+  private Partition[] build() {
+    var counts = new int[partitions + 1];
+    var partitionOfRow = new int[buildKeys.length];
+    for (int row = 0; row < buildKeys.length; row++) {
+      partitionOfRow[row] = buildNulls[row] ? -1 : partitionOf(hash(buildKeys[row]));
+      if (partitionOfRow[row] >= 0) {
+        counts[partitionOfRow[row] + 1]++;
+      }
+    }
+    for (int partition = 0; partition < partitions; partition++) {
+      counts[partition + 1] += counts[partition];
+    }
+    var rowsByPartition = new int[counts[partitions]];
+    var offsets = copyOf(counts, partitions);
+    for (int row = 0; row < buildKeys.length; row++) {
+      if (partitionOfRow[row] >= 0) {
+        rowsByPartition[offsets[partitionOfRow[row]]++] = row;
+      }
+    }
+    return range(0, partitions).parallel()
+        .mapToObj(partition -> new Partition(rowsByPartition, counts[partition],
+            counts[partition + 1]))
+        .toArray(Partition[]::new);
+  }
+
+  private int partitionOf(int hash) {
+    return (int) (((hash & 0xFFFFFFFFL) * partitions) >>> 32);
+  }
+
+  private static int hash(long key) {
+    key = (key ^ (key >>> 33)) * 0xFF51AFD7ED558CCDL;
+    key = (key ^ (key >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return (int) (key ^ (key >>> 33));
+  }
+
+  private class Partition {
+
+    private final long[] keys;
+    private final int[] heads;
+
+    private Partition(int[] rows, int from, int to) {
+      int capacity = Integer.highestOneBit(Math.max(2, (to - from) * 2 - 1)) << 1;
+      this.keys = new long[capacity];
+      this.heads = new int[capacity];
+      fill(heads, -1);
+      int mask = capacity - 1;
+      for (int i = to - 1; i >= from; i--) {
+        int row = rows[i];
+        long key = buildKeys[row];
+        int slot = hash(key) & mask;
+        while (heads[slot] >= 0 && keys[slot] != key) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        next[row] = heads[slot];
+        heads[slot] = row;
+      }
+    }
+
+    private int head(long key, int hash) {
+      int mask = heads.length - 1;
+      for (int slot = hash & mask; heads[slot] >= 0; slot = (slot + 1) & mask) {
+        if (keys[slot] == key) {
+          return heads[slot];
+        }
+      }
+      return -1;
+    }
+  }
+
+  static class JoinIndices {
+
+    private int[] probeRows;
+    private int[] buildRows;
+    private int size;
+
+    JoinIndices(int capacity) {
+      this.probeRows = new int[Math.max(1, capacity)];
+      this.buildRows = new int[Math.max(1, capacity)];
+    }
+
+    static JoinIndices concat(JoinIndices[] parts) {
+      int size = 0;
+      for (var part : parts) {
+        size += part.size;
+      }
+      var joined = new JoinIndices(size);
+      for (var part : parts) {
+        System.arraycopy(part.probeRows, 0, joined.probeRows, joined.size, part.size);
+        System.arraycopy(part.buildRows, 0, joined.buildRows, joined.size, part.size);
+        joined.size += part.size;
+      }
+      return joined;
+    }
+
+    void add(int probeRow, int buildRow) {
+      if (size == probeRows.length) {
+        probeRows = copyOf(probeRows, size * 2);
+        buildRows = copyOf(buildRows, size * 2);
+      }
+      probeRows[size] = probeRow;
+      buildRows[size++] = buildRow;
+    }
+
+    int[] probeRows() {
+      return copyOf(probeRows, size);
+    }
+
+    int[] buildRows() {
+      return copyOf(buildRows, size);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package org.rsultan.dataframe.transform.join;
+
+import static java.util.Arrays.stream;
+import static java.util.stream.IntStream.range;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
+import org.rsultan.dataframe.CategoricalColumn;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Columns;
+import org.rsultan.dataframe.Dataframe;
+import org.rsultan.dataframe.Dataframes;
+
+public record JoinDataframe(Dataframe dataframe) implements JoinTransform {
+
+  private static final String RIGHT_SUFFIX = "_right";
+
+  @Override
+  public Dataframe join(Dataframe other, String leftKey, String rightKey, JoinType type) {
+    Column<?> leftKeyColumn = dataframe.getColumn(leftKey);
+    Column<?> rightKeyColumn = other.getColumn(rightKey);
+    var keys = JoinKeys.of(leftKeyColumn, rightKeyColumn);
+
+    boolean keepLeft = type == JoinType.LEFT || type == JoinType.OUTER;
+    boolean keepRight = type == JoinType.RIGHT || type == JoinType.OUTER;
+    boolean buildRight = other.getRowSize() <= dataframe.getRowSize();
+    var indices = buildRight
+        ? new HashJoin(keys.right(), keys.rightNulls())
+        .probe(keys.left(), keys.leftNulls(), keepLeft, keepRight)
+        : new HashJoin(keys.left(), keys.leftNulls())
+            .probe(keys.right(), keys.rightNulls(), keepRight, keepLeft);
+    // Rows follow the left frame, then unmatched right rows, whichever side was hashed
+    var order = buildRight ? null : leftOrder(indices.buildRows(), dataframe.getRowSize());
+    var leftRows = buildRight ? indices.probeRows() : permute(indices.buildRows(), order);
+    var rightRows = buildRight ? indices.buildRows() : permute(indices.probeRows(), order);
+
+    boolean sharedKey = leftKey.equals(rightKey);
+    var leftNames = new HashSet<String>();
+    var gathers = new ArrayList<Supplier<Column<?>>>();
+    for (Column<?> column : dataframe.getColumns()) {
+      leftNames.add(column.columnName());
+      gathers.add(sharedKey && column.columnName().equals(leftKey)
+          ? () -> coalesce(column, leftRows, rightKeyColumn, rightRows)
+          : () -> gather(column, column.columnName(), leftRows));
+    }
+    for (Column<?> column : other.getColumns()) {
+      if (sharedKey && column.columnName().equals(rightKey)) {
+        continue;
+      }
+      var name = leftNames.contains(column.columnName())
+          ? column.columnName() + RIGHT_SUFFIX : column.columnName();
+      gathers.add(() -> gather(column, name, rightRows));
+    }
+    return Dataframes.create(gathers.parallelStream().map(Supplier::get).toArray(Column[]::new));
+  }
+
+  private static int[] leftOrder(int[] leftRows, int leftSize) {
+    var starts = new int[leftSize + 2];
+    for (int row : leftRows) {
+      starts[(row < 0 ? leftSize : row) + 1]++;
+    }
+    for (int bucket = 0; bucket <= leftSize; bucket++) {
+      starts[bucket + 1] += starts[bucket];
+    }
+    var order = new int[leftRows.length];
+    for (int i = 0; i < leftRows.length; i++) {
+      order[starts[leftRows[i] < 0 ? leftSize : leftRows[i]]++] = i;
+    }
+    return order;
+  }
+
+  private static int[] permute(int[] rows, int[] order) {
+    var permuted = new int[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      permuted[i] = rows[order[i]];
+    }
+    return permuted;
+  }
+
+  private static Column<?> gather(Column<?> column, String name, int[] rows) {
+    if (stream(rows).allMatch(row -> row >= 0)) {
+      var gathered = column.select(rows);
+      return gathered.columnName().equals(name)
+          ? gathered : Columns.create(name, new ArrayList<>(gathered.values()));
+    }
+    var values = new ArrayList<Object>(rows.length);
+    for (int row : rows) {
+      values.add(row < 0 ? null : column.get(row));
+    }
+    return Columns.create(name, values);
+  }
+
+  private static Column<?> coalesce(Column<?> left, int[] leftRows, Column<?> right,
+      int[] rightRows) {
+    if (stream(leftRows).allMatch(row -> row >= 0)) {
+      return left.select(leftRows);
+    }
+    var values = new ArrayList<Object>(leftRows.length);
+    for (int i = 0; i < leftRows.length; i++) {
+      values.add(leftRows[i] >= 0 ? left.get(leftRows[i]) : right.get(rightRows[i]));
+    }
+    return Columns.create(left.columnName(), values);
+  }
+
+  private static record JoinKeys(long[] left, boolean[] leftNulls, long[] right,
+                                 boolean[] rightNulls) {
+
+    private static JoinKeys of(Column<?> left, Column<?> right) {
+      var leftLongs = Columns.longReader(left);
+      var rightLongs = Columns.longReader(right);
+      if (leftLongs != null && rightLongs != null) {
+        return new JoinKeys(read(left.size(), leftLongs), new boolean[left.size()],
+            read(right.size(), rightLongs), new boolean[right.size()]);
+      } else if (left.isPrimitive() && right.isPrimitive()) {
+        return new JoinKeys(read(left.size(), doubleReader(left)), new boolean[left.size()],
+            read(right.size(), doubleReader(right)), new boolean[right.size()]);
+      }
+      var codesByKey = new HashMap<Object, Integer>();
+      var leftKeys = encode(CategoricalColumn.of(left), codesByKey);
+      var rightKeys = encode(CategoricalColumn.of(right), codesByKey);
+      return new JoinKeys(leftKeys, nulls(leftKeys), rightKeys, nulls(rightKeys));
+    }
+
+    private static long[] encode(CategoricalColumn<?> column, Map<Object, Integer> codesByKey) {
+      var remapped = column.getDictionary().stream()
+          .mapToInt(value -> codesByKey.computeIfAbsent(normalize(value), key -> codesByKey.size()))
+          .toArray();
+      return read(column.size(), row -> {
+        int code = column.getCode(row);
+        return code < 0 ? -1 : remapped[code];
+      });
+    }
+
+    private static Object normalize(Object value) {
+      if (value instanceof Double || value instanceof Float) {
+        double number = ((Number) value).doubleValue();
+        return number == Math.rint(number) && Math.abs(number) < 0x1p63
+            ? (Object) (long) number : (Object) (number + 0.0D);
+      } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+          || value instanceof Byte) {
+        return ((Number) value).longValue();
+      }
+      return value;
+    }
+
+    private static IntToLongFunction doubleReader(Column<?> column) {
+      return row -> Double.doubleToLongBits(column.getDouble(row) + 0.0D);
+    }
+
+    private static long[] read(int size, IntToLongFunction reader) {
+      var keys = new long[size];
+      range(0, size).parallel().forEach(row -> keys[row] = reader.applyAsLong(row));
+      return keys;
+    }
+
+    private static boolean[] nulls(long[] codes) {
+      var nulls = new boolean[codes.length];
+      for (int row = 0; row < codes.length; row++) {
+        nulls[row] = codes[row] < 0;
+      }
+      return nulls;
+    }
+  }
+}
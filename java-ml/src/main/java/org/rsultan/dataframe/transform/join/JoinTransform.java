@@ -0,0 +1,10 @@
+package org.rsultan.dataframe.transform.join;
+
+import java.io.Serializable;
+import org.rsultan.dataframe.Dataframe;
+
+public interface JoinTransform extends Serializable {
+
+  Dataframe join(Dataframe other, String leftKey, String rightKey, JoinType type);
+
+}
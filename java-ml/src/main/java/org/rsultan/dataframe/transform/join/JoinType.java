@@ -0,0 +1,5 @@
+package org.rsultan.dataframe.transform.join;
+
+public enum JoinType {
+  INNER, LEFT, RIGHT, OUTER
+}
@@ -0,0 +1,170 @@
+package org.rsultan.dataframe.transform.lazy;
+
+import static java.lang.Math.min;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Columns;
+import org.rsultan.dataframe.Dataframe;
+import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.transform.lazy.LogicalPlan.DropStep;
+import org.rsultan.dataframe.transform.lazy.LogicalPlan.FilterStep;
+import org.rsultan.dataframe.transform.lazy.LogicalPlan.MapStep;
+import org.rsultan.dataframe.transform.lazy.LogicalPlan.SelectStep;
+import org.rsultan.dataframe.transform.lazy.LogicalPlan.Step;
+
+class FusedPipeline {
+
+  static final int BLOCK_SIZE = 4096;
+
+  private final Dataframe source;
+  private final List<Slot> slots = new ArrayList<>();
+  private final List<Operation> operations = new ArrayList<>();
+  private List<Integer> visible;
+  private int[] loadedSources;
+  private int[] computedOutputs;
+
+  FusedPipeline(Dataframe source, List<Step> steps) {
+    this.source = source;
+    Arrays.stream(source.getColumns()).map(column -> new Slot(column.columnName(), column))
+        .forEach(slots::add);
+    this.visible = range(0, slots.size()).boxed().collect(toList());
+    steps.forEach(this::compile);
+    prune();
+  }
+
+  private void compile(Step step) {
+    if (step instanceof MapStep map) {
+      var inputs = resolve(map.sourceColumns());
+      slots.add(new Slot(map.columnName(), null));
+      visible.add(slots.size() - 1);
+      operations.add(new MapOperation(slots.size() - 1, map.transform(), inputs));
+    } else if (step instanceof FilterStep filter) {
+      operations.add(new FilterOperation(filter.predicate(), resolve(filter.sourceColumns())));
+    } else if (step instanceof SelectStep select && select.columnNames().length != 0) {
+      visible = Arrays.stream(resolve(select.columnNames())).boxed().collect(toList());
+    } else if (step instanceof DropStep drop) {
+      var dropped = List.of(drop.columnNames());
+      visible.removeIf(slot -> dropped.contains(slots.get(slot).name()));
+    }
+  }
+
+  private int[] resolve(String... columnNames) {
+    return Arrays.stream(columnNames).mapToInt(columnName -> visible.stream()
+        .filter(slot -> columnName.equals(slots.get(slot).name()))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown column " + columnName))
+    ).toArray();
+  }
+
+  private void prune() {
+    var live = new boolean[slots.size()];
+    visible.forEach(slot -> live[slot] = true);
+    for (int i = operations.size() - 1; i >= 0; i--) {
+      var operation = operations.get(i);
+      if (operation instanceof MapOperation map && !live[map.target()]) {
+        operations.remove(i);
+      } else {
+        Arrays.stream(operation.inputs()).forEach(slot -> live[slot] = true);
+      }
+    }
+    loadedSources = operations.stream().flatMapToInt(operation -> Arrays.stream(operation.inputs()))
+        .filter(slot -> slots.get(slot).source() != null)
+        .distinct().toArray();
+    computedOutputs = visible.stream().mapToInt(slot -> slot)
+        .filter(slot -> slots.get(slot).source() == null)
+        .distinct().toArray();
+  }
+
+  Dataframe execute() {
+    int rowSize = source.getRowSize();
+    int blocks = (rowSize + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    var results = range(0, blocks).parallel()
+        .mapToObj(block -> executeBlock(block * BLOCK_SIZE, min(rowSize, (block + 1) * BLOCK_SIZE)))
+        .collect(toList());
+
+    var selection = results.stream().flatMapToInt(result -> Arrays.stream(result.rows())).toArray();
+    var columns = visible.stream().map(slot -> {
+      var sourceColumn = slots.get(slot).source();
+      if (sourceColumn != null) {
+        return selection.length == rowSize ? sourceColumn : sourceColumn.select(selection);
+      }
+      int computedIdx = indexOf(computedOutputs, slot);
+      var values = new ArrayList<>(selection.length);
+      results.forEach(result -> values.addAll(result.computed().get(computedIdx)));
+      return Columns.create(slots.get(slot).name(), values);
+    }).toArray(Column[]::new);
+    return Dataframes.create(columns);
+  }
+
+  private BlockResult executeBlock(int start, int end) {
+    var rows = new int[end - start];
+    List<List<Object>> computed = range(0, computedOutputs.length)
+        .mapToObj(idx -> new ArrayList<>(end - start)).collect(toList());
+    var values = new Object[slots.size()];
+    var arguments = operations.stream().map(operation -> new Object[operation.inputs().length])
+        .toArray(Object[][]::new);
+    int count = 0;
+    rows:
+    for (int row = start; row < end; row++) {
+      for (int slot : loadedSources) {
+        values[slot] = slots.get(slot).source().get(row);
+      }
+      for (int opIdx = 0; opIdx < operations.size(); opIdx++) {
+        var operation = operations.get(opIdx);
+        var args = arguments[opIdx];
+        for (int argIdx = 0; argIdx < args.length; argIdx++) {
+          args[argIdx] = values[operation.inputs()[argIdx]];
+        }
+        if (operation instanceof FilterOperation filter && !filter.predicate().test(args)) {
+          continue rows;
+        } else if (operation instanceof MapOperation map) {
+          values[map.target()] = map.transform().apply(args);
+        }
+      }
+      rows[count++] = row;
+      for (int idx = 0; idx < computedOutputs.length; idx++) {
+        computed.get(idx).add(values[computedOutputs[idx]]);
+      }
+    }
+    return new BlockResult(Arrays.copyOf(rows, count), computed);
+  }
+
+  private static int indexOf(int[] array, int value) {
+    return range(0, array.length).filter(idx -> array[idx] == value).findFirst().orElse(-1);
+  }
+
+  private static record Slot(String name, Column<?> source) {
+
+  }
+
+  private interface Operation {
+
+    int[] inputs();
+  }
+
+  private static record MapOperation(
+      int target,
+      Function<Object[], Object> transform,
+      int[] inputs
+  ) implements Operation {
+
+  }
+
+  private static record FilterOperation(
+      Predicate<Object[]> predicate,
+      int[] inputs
+  ) implements Operation {
+
+  }
+
+  private static record BlockResult(int[] rows, List<List<Object>> computed) {
+
+  }
+}
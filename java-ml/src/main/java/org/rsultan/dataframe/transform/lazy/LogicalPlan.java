@@ -0,0 +1,68 @@
+package org.rsultan.dataframe.transform.lazy;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.rsultan.dataframe.Dataframe;
+
+public record LogicalPlan(List<Step> steps) {
+
+  public LogicalPlan() {
+    this(List.of());
+  }
+
+  public LogicalPlan then(Step step) {
+    var newSteps = new ArrayList<>(steps);
+    newSteps.add(step);
+    return new LogicalPlan(unmodifiableList(newSteps));
+  }
+
+  public Dataframe execute(Dataframe source) {
+    var current = source;
+    var segment = new ArrayList<Step>();
+    for (Step step : steps) {
+      if (step instanceof OneHotEncodeStep oneHotEncode) {
+        current = new FusedPipeline(current, segment).execute()
+            .oneHotEncode(oneHotEncode.columnName());
+        segment.clear();
+      } else {
+        segment.add(step);
+      }
+    }
+    return segment.isEmpty() ? current : new FusedPipeline(current, segment).execute();
+  }
+
+  public interface Step {
+
+  }
+
+  public static record MapStep(
+      String columnName,
+      Function<Object[], Object> transform,
+      String... sourceColumns
+  ) implements Step {
+
+  }
+
+  public static record FilterStep(
+      Predicate<Object[]> predicate,
+      String... sourceColumns
+  ) implements Step {
+
+  }
+
+  public static record SelectStep(String... columnNames) implements Step {
+
+  }
+
+  public static record DropStep(String... columnNames) implements Step {
+
+  }
+
+  public static record OneHotEncodeStep(String columnName) implements Step {
+
+  }
+}
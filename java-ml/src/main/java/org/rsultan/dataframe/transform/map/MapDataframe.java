@@ -3,14 +3,13 @@ package org.rsultan.dataframe.transform.map;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
-import static java.util.stream.Stream.of;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Columns;
 import org.rsultan.dataframe.Dataframe;
 import org.rsultan.dataframe.Dataframes;
 
@@ -21,13 +20,13 @@ public record MapDataframe(Dataframe dataframe) implements MapTransform {
     var values = range(0, this.dataframe.getRowSize()).boxed()
         .map(num -> supplier.get())
         .collect(toList());
-    return this.dataframe.addColumn(new Column<>(columnName, values));
+    return this.dataframe.addColumn(Columns.create(columnName, values));
   }
 
   @Override
   public <S, T> Dataframe map(String columnName, Function<S, T> f, String sourceColumn) {
     List<S> values = this.dataframe.get(sourceColumn);
-    Column<T> newColumn = new Column<>(columnName, values.stream().map(f).collect(toList()));
+    Column<T> newColumn = Columns.create(columnName, values.stream().map(f).collect(toList()));
     return this.dataframe.addColumn(newColumn);
   }
 
@@ -43,10 +42,7 @@ public record MapDataframe(Dataframe dataframe) implements MapTransform {
     var targetValues = range(0, values1.size()).parallel().boxed()
         .map(index -> transform.apply(values1.get(index), values2.get(index)))
         .collect(toList());
-    var newColumn = new Column[]{new Column<>(columnName, targetValues)};
-    return Dataframes.create(
-        of(this.dataframe.getColumns(), newColumn).flatMap(Arrays::stream).toArray(Column[]::new)
-    );
+    return this.dataframe.addColumn(Columns.create(columnName, targetValues));
   }
 
   @Override
@@ -0,0 +1,156 @@
+package org.rsultan.dataframe.transform.matrix;
+
+import static java.util.stream.Collectors.toList;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+import org.nd4j.linalg.api.buffer.DataType;
+import org.nd4j.linalg.api.ndarray.INDArray;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Dataframe;
+
+public class MatrixCache {
+
+  public static final long DEFAULT_MAXIMUM_BYTES = 1L << 30;
+
+  private static final LinkedHashMap<MatrixKey, INDArray> MATRICES =
+      new LinkedHashMap<>(16, 0.75F, true);
+  private static long maximumBytes = DEFAULT_MAXIMUM_BYTES;
+  private static long cachedBytes;
+  private static long hitCount;
+
+  private MatrixCache() {
+  }
+
+  public static synchronized void setMaximumBytes(long bytes) {
+    maximumBytes = Math.max(0, bytes);
+    evict();
+  }
+
+  public static synchronized void clear() {
+    MATRICES.clear();
+    cachedBytes = 0;
+    hitCount = 0;
+  }
+
+  public static synchronized long cachedBytes() {
+    return cachedBytes;
+  }
+
+  public static synchronized long hitCount() {
+    return hitCount;
+  }
+
+  // Matrix cached for the given columns and shared by every model trained or predicting on them.
+  // It must be treated as read-only: an in-place operation would leak into every later use of
+  // those columns. Dataframe.toMatrix returns a private copy instead.
+  public static INDArray sharedMatrix(Dataframe dataframe, String... columnNames) {
+    return sharedMatrix(dataframe, 'c', columnNames);
+  }
+
+  public static INDArray sharedMatrix(Dataframe dataframe, char order, String... columnNames) {
+    return new MatrixDataframe(dataframe).toSharedMatrix(order, columnNames);
+  }
+
+  static INDArray getIfPresent(Column<?>[] columns, DataType dataType, char order) {
+    return getIfPresent(new MatrixKey(columns, dataType, order));
+  }
+
+  static INDArray get(Column<?>[] columns, DataType dataType, char order,
+      Supplier<INDArray> materializer) {
+    var key = new MatrixKey(columns, dataType, order);
+    var cached = getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    var matrix = materializer.get();
+    long bytes = matrix.length() * matrix.dataType().width();
+    synchronized (MatrixCache.class) {
+      purgeCollectedColumns();
+      if (bytes <= maximumBytes) {
+        var previous = MATRICES.put(key, matrix);
+        cachedBytes += bytes - (previous == null ? 0 : sizeOf(previous));
+        evict();
+      }
+    }
+    return matrix;
+  }
+
+  private static synchronized INDArray getIfPresent(MatrixKey key) {
+    var matrix = MATRICES.get(key);
+    if (matrix != null) {
+      hitCount++;
+    }
+    return matrix;
+  }
+
+  private static void evict() {
+    var entries = MATRICES.entrySet().iterator();
+    while (cachedBytes > maximumBytes && entries.hasNext()) {
+      cachedBytes -= sizeOf(entries.next().getValue());
+      entries.remove();
+    }
+  }
+
+  private static void purgeCollectedColumns() {
+    var entries = MATRICES.entrySet().iterator();
+    while (entries.hasNext()) {
+      var entry = entries.next();
+      if (entry.getKey().isCollected()) {
+        cachedBytes -= sizeOf(entry.getValue());
+        entries.remove();
+      }
+    }
+  }
+
+  private static long sizeOf(INDArray matrix) {
+    return matrix.length() * matrix.dataType().width();
+  }
+
+  private static class MatrixKey {
+
+    private final List<WeakReference<Column<?>>> columns;
+    private final DataType dataType;
+    private final char order;
+    private final int hash;
+
+    private MatrixKey(Column<?>[] columns, DataType dataType, char order) {
+      this.columns = Arrays.stream(columns).<WeakReference<Column<?>>>map(WeakReference::new)
+          .collect(toList());
+      this.dataType = dataType;
+      this.order = order;
+      this.hash = 31 * (31 * Arrays.stream(columns).mapToInt(System::identityHashCode)
+          .reduce(1, (h, columnHash) -> 31 * h + columnHash) + dataType.hashCode()) + order;
+    }
+
+    private boolean isCollected() {
+      return columns.stream().anyMatch(column -> column.get() == null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof MatrixKey key) || hash != key.hash || dataType != key.dataType
+          || order != key.order || columns.size() != key.columns.size()) {
+        return false;
+      }
+      for (int i = 0; i < columns.size(); i++) {
+        var column = columns.get(i).get();
+        if (column == null || column != key.columns.get(i).get()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -1,70 +1,176 @@
 package org.rsultan.dataframe.transform.matrix;
 
 import static java.lang.Double.parseDouble;
-import static java.util.Comparator.comparing;
-import static java.util.function.Predicate.not;
-import static java.util.stream.Collectors.toMap;
+import static java.util.Arrays.stream;
 import static java.util.stream.IntStream.range;
 import static java.util.stream.Stream.of;
+import static org.nd4j.linalg.ops.transforms.Transforms.normalizeZeroMeanAndUnitVariance;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.TreeMap;
+import java.util.function.IntToDoubleFunction;
+import java.util.regex.Pattern;
+import org.nd4j.linalg.api.buffer.DataType;
 import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
+import org.rsultan.dataframe.BooleanColumn;
+import org.rsultan.dataframe.CategoricalColumn;
 import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.ColumnStatistics;
 import org.rsultan.dataframe.Dataframe;
 import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.offheap.OffHeapDoubleColumn;
 
 public record MatrixDataframe(Dataframe dataframe) implements MatrixTransform {
 
-  private static final String NUMBER_REGEX = "^([-+]?(\\d+(\\.\\d+)?|\\.\\d+)([Ee][-+]?\\d+)?)$";
+  private static final Pattern NUMBER_PATTERN =
+      Pattern.compile("^([-+]?(\\d+(\\.\\d+)?|\\.\\d+)([Ee][-+]?\\d+)?)$");
+  private static final int BLOCK_SIZE = 1 << 14;
 
   public INDArray toVector(String columnName) {
-    double[] doubles = this.dataframe.getData().get(columnName).stream()
-        .parallel()
-        .mapToDouble(obj -> parseDouble(obj.toString())).toArray();
-    return Nd4j.create(doubles, doubles.length, 1);
+    return toMatrix('c', columnName);
   }
 
   public INDArray toMatrix(String... columnNames) {
+    return toMatrix('c', columnNames);
+  }
+
+  public INDArray toMatrix(char order, String... columnNames) {
+    checkOrder(order);
     final Dataframe df = columnNames.length != 0 ? dataframe.select(columnNames) : dataframe;
-    int[] shape = {df.getRowSize(), df.getColumnSize()};
-    var matrix = Nd4j.zeros(shape);
-
-    range(0, matrix.rows()).forEach(rowIdx ->
-        range(0, matrix.columns()).forEach(coldIdx -> {
-          var column = df.getColumns()[coldIdx];
-          Double value = objectToDouble(column.values().get(rowIdx));
-          matrix.put(rowIdx, coldIdx, value);
-        })
-    );
+    var cached = MatrixCache.getIfPresent(df.getColumns(), Nd4j.defaultFloatingPointType(),
+        order);
+    return cached != null ? cached.dup(order) : materialize(df, order);
+  }
+
+  INDArray toSharedMatrix(char order, String... columnNames) {
+    checkOrder(order);
+    final Dataframe df = columnNames.length != 0 ? dataframe.select(columnNames) : dataframe;
+    return MatrixCache.get(df.getColumns(), Nd4j.defaultFloatingPointType(), order,
+        () -> materialize(df, order));
+  }
+
+  public INDArray toStandardizedMatrix(String... columnNames) {
+    final Dataframe df = columnNames.length != 0 ? dataframe.select(columnNames) : dataframe;
+    var matrix = toMatrix(columnNames);
+    if (!stream(df.getColumns()).allMatch(Column::isPrimitive)) {
+      return normalizeZeroMeanAndUnitVariance(matrix);
+    }
+    var stats = stream(df.getColumns()).map(Column::stats).toArray(ColumnStatistics[]::new);
+    var means = stream(stats).mapToDouble(ColumnStatistics::mean).toArray();
+    var deviations = stream(stats)
+        .mapToDouble(stat -> stat.standardDeviation() + Nd4j.EPS_THRESHOLD)
+        .toArray();
+    return matrix
+        .subiRowVector(Nd4j.create(means, new long[]{1, means.length}, matrix.dataType()))
+        .diviRowVector(Nd4j.create(deviations, new long[]{1, deviations.length},
+            matrix.dataType()));
+  }
+
+  private static void checkOrder(char order) {
+    if (order != 'c' && order != 'f') {
+      throw new IllegalArgumentException("Matrix order must be 'c' or 'f'");
+    }
+  }
+
+  private INDArray materialize(Dataframe df, char order) {
+    var columns = df.getColumns();
+    long[] shape = {df.getRowSize(), df.getColumnSize()};
+    int length = matrixLength(df);
+    if (Nd4j.defaultFloatingPointType() == DataType.FLOAT) {
+      var data = new float[length];
+      forEachBlock(df, order, (column, from, to, offset, stride) -> {
+        var valueAt = valueAt(column);
+        for (int row = from; row < to; row++, offset += stride) {
+          data[offset] = (float) valueAt.applyAsDouble(row);
+        }
+      });
+      return Nd4j.create(data, shape, order);
+    } else if (columns.length > 0
+        && stream(columns).allMatch(OffHeapDoubleColumn.class::isInstance)) {
+      return offHeapToMatrix(df, order);
+    }
+    var data = new double[length];
+    forEachBlock(df, order, (column, from, to, offset, stride) -> {
+      if (column.isPrimitive()) {
+        column.copyDoubles(from, to, data, offset, stride);
+      } else {
+        for (int row = from; row < to; row++, offset += stride) {
+          data[offset] = objectToDouble(column.get(row));
+        }
+      }
+    });
+    return Nd4j.create(data, shape, order);
+  }
+
+  private static int matrixLength(Dataframe df) {
+    long length = (long) df.getRowSize() * df.getColumnSize();
+    if (length > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Cannot convert " + df.getRowSize() + " rows and "
+          + df.getColumnSize() + " columns to a matrix of more than " + Integer.MAX_VALUE
+          + " values");
+    }
+    return (int) length;
+  }
+
+  private static void forEachBlock(Dataframe df, char order, BlockCopy copy) {
+    var columns = df.getColumns();
+    int rows = df.getRowSize();
+    int blocks = (rows + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    range(0, columns.length * blocks).parallel().forEach(task -> {
+      int colIdx = task / blocks;
+      int from = (task % blocks) * BLOCK_SIZE;
+      int to = Math.min(rows, from + BLOCK_SIZE);
+      int offset = (int) (order == 'c'
+          ? (long) from * columns.length + colIdx : (long) colIdx * rows + from);
+      int stride = order == 'c' ? columns.length : 1;
+      copy.copy(columns[colIdx], from, to, offset, stride);
+    });
+  }
 
+  private INDArray offHeapToMatrix(Dataframe df, char order) {
+    var matrix = Nd4j.create(DataType.DOUBLE,
+        new long[]{df.getRowSize(), df.getColumnSize()}, order);
+    var target = matrix.data().asNioDouble();
+    forEachBlock(df, order, (column, from, to, offset, stride) ->
+        ((OffHeapDoubleColumn) column).copyTo(target, from, to, offset, stride));
     return matrix;
   }
 
+  private IntToDoubleFunction valueAt(Column<?> column) {
+    return column.isPrimitive()
+        ? column::getDouble
+        : rowIdx -> objectToDouble(column.get(rowIdx));
+  }
+
   @Override
   public Dataframe oneHotEncode(String columnToEncode) {
-    var toEncodeColumnMap = this.dataframe
-        .get(columnToEncode).stream()
-        .distinct().sorted()
-        .map(colName -> new Column<Boolean>(colName.toString(), new ArrayList<>()))
-        .collect(toMap(Column::columnName, c -> c));
-
-    this.dataframe.get(columnToEncode)
-        .parallelStream()
-        .map(Object::toString)
-        .forEachOrdered(colName -> {
-          var trueCol = toEncodeColumnMap.get(colName);
-          trueCol.values().add(true);
-          toEncodeColumnMap.keySet().parallelStream()
-              .map(toEncodeColumnMap::get)
-              .filter(not(trueCol::equals))
-              .forEachOrdered(column -> column.values().add(false));
+    var categorical = CategoricalColumn.of(this.dataframe.getColumn(columnToEncode));
+    var indicators = new BitSet[categorical.cardinality()];
+    for (int rowIdx = 0; rowIdx < categorical.size(); rowIdx++) {
+      int code = categorical.getCode(rowIdx);
+      if (code >= 0) {
+        if (indicators[code] == null) {
+          indicators[code] = new BitSet(categorical.size());
+        }
+        indicators[code].set(rowIdx);
+      }
+    }
+
+    var indicatorsByName = new TreeMap<String, BitSet>();
+    for (int code = 0; code < indicators.length; code++) {
+      if (indicators[code] != null) {
+        var name = categorical.getDictionary().get(code).toString();
+        indicatorsByName.merge(name, indicators[code], (b1, b2) -> {
+          b1.or(b2);
+          return b1;
         });
+      }
+    }
 
-    var columnArray = toEncodeColumnMap.values()
-        .stream()
-        .sorted(comparing(Column::columnName))
+    var columnArray = indicatorsByName.entrySet().stream()
+        .map(entry -> new BooleanColumn(entry.getKey(), entry.getValue(), categorical.size()))
         .toArray(Column[]::new);
 
     return Dataframes.create(
@@ -72,14 +178,20 @@ public record MatrixDataframe(Dataframe dataframe) implements MatrixTransform {
     );
   }
 
-  private Double objectToDouble(Object obj) {
+  private static double objectToDouble(Object obj) {
     if (obj instanceof Number number) {
       return number.doubleValue();
     } else if (obj instanceof Boolean b) {
       return b ? 1.0D : 0.0D;
-    } else if (obj instanceof String s && s.trim().matches(NUMBER_REGEX)) {
+    } else if (obj instanceof String s && NUMBER_PATTERN.matcher(s.trim()).matches()) {
       return parseDouble(s.trim());
     }
     throw new IllegalArgumentException("Cannot cast " + obj + " to number");
   }
+
+  @FunctionalInterface
+  private interface BlockCopy {
+
+    void copy(Column<?> column, int from, int to, int offset, int stride);
+  }
 }
@@ -10,6 +10,10 @@ public interface MatrixTransform extends Serializable {
 
   INDArray toMatrix(String... columnNames);
 
+  INDArray toMatrix(char order, String... columnNames);
+
+  INDArray toStandardizedMatrix(String... columnNames);
+
   Dataframe oneHotEncode(String columnToEncode);
 
 }
@@ -1,13 +1,10 @@
 package org.rsultan.dataframe.transform.shuffle;
 
-import static java.util.Arrays.stream;
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
 
-import java.util.Collections;
-import org.rsultan.dataframe.Column;
+import java.util.Random;
 import org.rsultan.dataframe.Dataframes;
-import org.rsultan.dataframe.Row;
+import org.rsultan.dataframe.IndexedColumn;
 import org.rsultan.dataframe.TrainTestDataframe;
 
 public record ShuffleDataframe(TrainTestDataframe dataframe) implements
@@ -15,13 +12,22 @@ public record ShuffleDataframe(TrainTestDataframe dataframe) implements
 
   @Override
   public TrainTestDataframe shuffle() {
-    var columns = dataframe.getColumns();
-    var rows = range(0, dataframe.getRowSize()).parallel()
-        .mapToObj(idx -> new Row(
-            stream(columns).map(column -> column.values().get(idx)).collect(toList())))
-        .collect(toList());
-    Collections.shuffle(rows);
-    var columnNames = stream(columns).map(Column::columnName).toArray(String[]::new);
-    return Dataframes.trainTest(columnNames, rows.toArray(Row[]::new));
+    return shuffle(new Random());
+  }
+
+  @Override
+  public TrainTestDataframe shuffle(long seed) {
+    return shuffle(new Random(seed));
+  }
+
+  private TrainTestDataframe shuffle(Random random) {
+    var permutation = range(0, dataframe.getRowSize()).toArray();
+    for (int i = permutation.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int swap = permutation[i];
+      permutation[i] = permutation[j];
+      permutation[j] = swap;
+    }
+    return Dataframes.trainTest(IndexedColumn.view(dataframe.getColumns(), permutation));
   }
 }
@@ -7,4 +7,6 @@ public interface ShuffleTransform<T extends Dataframe> extends Serializable {
 
   T shuffle();
 
+  T shuffle(long seed);
+
 }
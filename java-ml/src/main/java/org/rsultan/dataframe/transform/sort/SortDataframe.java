@@ -0,0 +1,30 @@
+package org.rsultan.dataframe.transform.sort;
+
+import static java.util.Arrays.fill;
+import static java.util.Arrays.stream;
+
+import org.rsultan.dataframe.ArgSort;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Dataframe;
+import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.IndexedColumn;
+
+public record SortDataframe(Dataframe dataframe) implements SortTransform {
+
+  @Override
+  public Dataframe sortBy(String... columnNames) {
+    var ascending = new boolean[columnNames.length];
+    fill(ascending, true);
+    return sortBy(columnNames, ascending);
+  }
+
+  @Override
+  public Dataframe sortBy(String[] columnNames, boolean... ascending) {
+    if (columnNames.length == 0) {
+      throw new IllegalArgumentException("At least one sort column is required");
+    }
+    var sortColumns = stream(columnNames).map(dataframe::getColumn).toArray(Column<?>[]::new);
+    var permutation = ArgSort.argsort(sortColumns, ascending);
+    return Dataframes.create(IndexedColumn.view(dataframe.getColumns(), permutation));
+  }
+}
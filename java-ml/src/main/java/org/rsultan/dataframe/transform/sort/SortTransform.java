@@ -0,0 +1,12 @@
+package org.rsultan.dataframe.transform.sort;
+
+import java.io.Serializable;
+import org.rsultan.dataframe.Dataframe;
+
+public interface SortTransform extends Serializable {
+
+  Dataframe sortBy(String... columnNames);
+
+  Dataframe sortBy(String[] columnNames, boolean... ascending);
+
+}
@@ -1,29 +1,123 @@
 package org.rsultan.dataframe.transform.split;
 
 import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import org.rsultan.dataframe.ChunkedColumn;
 import org.rsultan.dataframe.Column;
 import org.rsultan.dataframe.Dataframe;
 import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.IndexedColumn;
 import org.rsultan.dataframe.TrainTestDataframe;
 
 public record SplitDataframe(TrainTestDataframe dataframe) implements SplitTransform {
 
   @Override
   public TrainTestSplit split() {
-    double splitValue = dataframe.getSplitValue();
+    return split(dataframe.getColumns(), (int) (dataframe.getRowSize() * dataframe.getSplitValue()));
+  }
+
+  @Override
+  public List<TrainTestSplit> kFold(int k) {
+    int rowSize = dataframe.getRowSize();
+    checkFolds(k, rowSize);
+    var foldOf = new int[rowSize];
+    for (int fold = 0; fold < k; fold++) {
+      int from = (int) ((long) fold * rowSize / k);
+      int to = (int) ((long) (fold + 1) * rowSize / k);
+      for (int row = from; row < to; row++) {
+        foldOf[row] = fold;
+      }
+    }
+    return folds(foldOf, k);
+  }
+
+  @Override
+  public List<TrainTestSplit> stratifiedKFold(int k, String columnName) {
+    int rowSize = dataframe.getRowSize();
+    checkFolds(k, rowSize);
+    var labels = dataframe.getColumn(columnName);
+    var rowsByLabel = new LinkedHashMap<Object, List<Integer>>();
+    for (int row = 0; row < rowSize; row++) {
+      rowsByLabel.computeIfAbsent(labels.get(row), label -> new ArrayList<>()).add(row);
+    }
+    var foldOf = new int[rowSize];
+    int fold = 0;
+    for (var rows : rowsByLabel.values()) {
+      for (int row : rows) {
+        foldOf[row] = fold;
+        fold = (fold + 1) % k;
+      }
+    }
+    return folds(foldOf, k);
+  }
+
+  @Override
+  public List<TrainTestSplit> repeatedHoldout(int repeats, long seed) {
+    if (repeats < 1) {
+      throw new IllegalArgumentException("Number of repeats must be positive");
+    }
+    var random = new Random(seed);
+    return range(0, repeats)
+        .mapToObj(repeat -> dataframe.shuffle(random.nextLong()).split())
+        .collect(toList());
+  }
+
+  private List<TrainTestSplit> folds(int[] foldOf, int k) {
+    var foldSizes = new int[k];
+    stream(foldOf).forEach(fold -> foldSizes[fold]++);
     var columns = dataframe.getColumns();
-    int splitBoundary = (int) (dataframe.getRowSize() * splitValue);
-    var trainData = stream(columns).map(column ->
-        new Column<>(column.columnName(), column.values().subList(0, splitBoundary))
-    ).toArray(Column[]::new);
-    var testData = stream(columns).map(column ->
-        new Column<>(column.columnName(), column.values().subList(splitBoundary, dataframe.getRowSize()))
-    ).toArray(Column[]::new);
+    return range(0, k).mapToObj(fold -> {
+      int boundary = foldOf.length - foldSizes[fold];
+      var order = new int[foldOf.length];
+      int trainIdx = 0;
+      int testIdx = boundary;
+      for (int row = 0; row < foldOf.length; row++) {
+        order[foldOf[row] == fold ? testIdx++ : trainIdx++] = row;
+      }
+      return split(IndexedColumn.view(columns, order), boundary);
+    }).collect(toList());
+  }
+
+  private static TrainTestSplit split(Column<?>[] columns, int boundary) {
+    int rowSize = columns.length == 0 ? 0 : columns[0].size();
+    var trainData = stream(columns)
+        .map(column -> IndexedColumn.slice(column, 0, boundary))
+        .toArray(Column[]::new);
+    var testData = stream(columns)
+        .map(column -> IndexedColumn.slice(column, boundary, rowSize))
+        .toArray(Column[]::new);
     return new TrainTestSplit(Dataframes.create(trainData), Dataframes.create(testData));
   }
 
+  private static void checkFolds(int k, int rowSize) {
+    if (k < 2 || k > rowSize) {
+      throw new IllegalArgumentException("Number of folds must be between 2 and the row count");
+    }
+  }
+
   public static record TrainTestSplit(Dataframe train, Dataframe test) {
 
+    public TrainTestDataframe toTrainTestDataframe() {
+      var trainColumns = train.getColumns();
+      var testColumns = test.getColumns();
+      var columns = range(0, trainColumns.length)
+          .mapToObj(idx -> concat(trainColumns[idx], testColumns[idx]))
+          .toArray(Column[]::new);
+      int rowSize = train.getRowSize() + test.getRowSize();
+      return Dataframes.trainTest(columns)
+          .setSplitValue((train.getRowSize() + 0.5) / Math.max(rowSize, 1));
+    }
+
+    // Both halves are slices of the same source column, so they share its value type
+    @SuppressWarnings("unchecked")
+    private static <T> Column<T> concat(Column<T> first, Column<?> second) {
+      return new ChunkedColumn<>(first.columnName(), List.of(first, (Column<T>) second));
+    }
   }
 }
@@ -1,10 +1,17 @@
 package org.rsultan.dataframe.transform.split;
 
 import java.io.Serializable;
+import java.util.List;
 import org.rsultan.dataframe.transform.split.SplitDataframe.TrainTestSplit;
 
 public interface SplitTransform extends Serializable {
 
   TrainTestSplit split();
 
+  List<TrainTestSplit> kFold(int k);
+
+  List<TrainTestSplit> stratifiedKFold(int k, String columnName);
+
+  List<TrainTestSplit> repeatedHoldout(int repeats, long seed);
+
 }
@@ -13,8 +13,7 @@ public class Matrices {
       throw new IllegalArgumentException("Vector must have 1 column");
     }
     double average = m.sumNumber().doubleValue() / (double) m.rows();
-    double[] data = range(0, m.rows()).mapToDouble(num -> average).toArray();
-    return Nd4j.create(data, m.shape());
+    return Nd4j.valueArrayOf(m.shape(), average);
   }
 
   public static INDArray diagonal(INDArray m) {
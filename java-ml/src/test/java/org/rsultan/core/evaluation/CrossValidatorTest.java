@@ -0,0 +1,101 @@
+package org.rsultan.core.evaluation;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.nd4j.linalg.api.buffer.DataType;
+import org.nd4j.linalg.factory.Nd4j;
+import org.rsultan.core.Evaluator;
+import org.rsultan.core.regression.Regression;
+import org.rsultan.core.regression.impl.LinearRegression;
+import org.rsultan.dataframe.Dataframe;
+import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.DoubleColumn;
+import org.rsultan.dataframe.TrainTestDataframe;
+
+public class CrossValidatorTest {
+
+  static {
+    Nd4j.setDefaultDataTypes(DataType.DOUBLE, DataType.DOUBLE);
+  }
+
+  private final TrainTestDataframe dataframe = Dataframes.trainTest(
+      new DoubleColumn("x", range(0, 30).mapToDouble(i -> i).toArray()),
+      new DoubleColumn("y", range(0, 30).mapToDouble(i -> 2 * i + 1).toArray())
+  );
+
+  @Test
+  public void must_score_folds_concurrently_and_aggregate_metrics() {
+    var crossValidation = new CrossValidator<Regression>(
+        () -> new LinearRegression().setResponseVariableName("y").setPredictorNames("x"))
+        .addMetric("mse", CrossValidatorTest::meanSquaredError)
+        .addMetric("rows", (model, test) -> test.getRowSize())
+        .setParallelism(2)
+        .evaluate(dataframe.shuffle(3L).kFold(5));
+
+    assertThat(crossValidation.getScores().getRowSize()).isEqualTo(5);
+    assertThat(crossValidation.getScores().<Double>get("rows")).containsOnly(6.0);
+    assertThat(crossValidation.mean("mse")).isLessThan(1e-10);
+    assertThat(crossValidation.mean("rows")).isEqualTo(6.0);
+    assertThat(crossValidation.standardDeviation("rows")).isEqualTo(0.0);
+    assertThat(crossValidation.getSummary().<String>get("metric")).containsExactly("mse", "rows");
+    assertThrows(IllegalArgumentException.class, () -> crossValidation.mean("unknown"));
+  }
+
+  @Test
+  public void must_score_folds_with_existing_evaluators() {
+    var evaluators = new AtomicInteger();
+    Supplier<Evaluator<Double, Regression>> testRows = () -> {
+      evaluators.incrementAndGet();
+      return (model, trainTest) -> {
+        var split = trainTest.shuffle().split();
+        assertThat(split.train().getRowSize()).isEqualTo(24);
+        model.train(split.train());
+        return split.test().<Double>get("x").stream().mapToDouble(x -> x).sum();
+      };
+    };
+    var folds = dataframe.shuffle(3L).kFold(5);
+
+    var crossValidation = new CrossValidator<Regression>(
+        () -> new LinearRegression().setResponseVariableName("y").setPredictorNames("x"))
+        .addMetric("mse", CrossValidatorTest::meanSquaredError)
+        .addEvaluator("testSum", testRows)
+        .evaluate(folds);
+
+    assertThat(crossValidation.metricNames()).containsExactly("mse", "testSum");
+    assertThat(crossValidation.getScores().<Double>get("testSum")).containsExactlyElementsOf(
+        folds.stream()
+            .map(fold -> fold.test().<Double>get("x").stream().mapToDouble(x -> x).sum())
+            .collect(toList()));
+    assertThat(evaluators).hasValue(5);
+    assertThrows(IllegalArgumentException.class, () -> new CrossValidator<Regression>(
+        LinearRegression::new).addMetric("rows", CrossValidatorTest::meanSquaredError)
+        .addEvaluator("rows", testRows));
+  }
+
+  @Test
+  public void must_propagate_fold_failures() {
+    var crossValidator = new CrossValidator<Regression>(
+        () -> new LinearRegression().setResponseVariableName("y").setPredictorNames("x"))
+        .addMetric("failing", (model, test) -> {
+          throw new IllegalStateException("failure");
+        });
+
+    assertThrows(IllegalStateException.class,
+        () -> crossValidator.evaluate(dataframe.repeatedHoldout(3, 1L)));
+    assertThrows(IllegalArgumentException.class, () -> crossValidator.setParallelism(0));
+  }
+
+  private static double meanSquaredError(Regression model, Dataframe test) {
+    var predictions = model.predict(test);
+    return range(0, test.getRowSize())
+        .mapToDouble(row -> predictions.getDouble("predictions", row) - test.getDouble("y", row))
+        .map(error -> error * error)
+        .average().orElseThrow();
+  }
+}
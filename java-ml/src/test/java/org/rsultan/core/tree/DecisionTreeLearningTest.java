@@ -1,5 +1,8 @@
 package org.rsultan.core.tree;
 
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.of;
 import static org.rsultan.core.ModelSerdeTestUtils.serdeTrainable;
@@ -9,12 +12,16 @@ import static org.rsultan.utils.TestUtils.getResourceFileName;
 
 import java.io.IOException;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.nd4j.linalg.api.buffer.DataType;
 import org.nd4j.linalg.factory.Nd4j;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Dataframe;
 import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.DoubleColumn;
 
 public class DecisionTreeLearningTest {
 
@@ -45,10 +52,10 @@ public class DecisionTreeLearningTest {
 
   private static Stream<Arguments> params_that_must_perform_decision_tree_regressor() {
     return Stream.of(
-        of(new DecisionTreeRegressor(-1)),
-        of(new DecisionTreeRegressor(0)),
-        of(new DecisionTreeRegressor(1)),
-        of(new DecisionTreeRegressor(2))
+        of(new DecisionTreeRegressor(-1), new Double[]{2.0, 2.0, 2.0, 4.5, 4.5}),
+        of(new DecisionTreeRegressor(0), new Double[]{2.0, 2.0, 2.0, 4.5, 4.5}),
+        of(new DecisionTreeRegressor(1), new Double[]{2.0, 2.0, 2.0, 4.5, 4.5}),
+        of(new DecisionTreeRegressor(2), new Double[]{1.0, 2.5, 2.5, 4.0, 5.0})
     );
   }
 
@@ -91,7 +98,8 @@ public class DecisionTreeLearningTest {
   @ParameterizedTest
   @MethodSource("params_that_must_perform_decision_tree_regressor")
   public void must_perform_decision_tree_regressor(
-      DecisionTreeRegressor decisionTreeRegressor
+      DecisionTreeRegressor decisionTreeRegressor,
+      Double[] expected
   )
       throws IOException {
     var dataframe = Dataframes.csv(getResourceFileName("org/rsultan/utils/example-classif.csv"));
@@ -102,13 +110,14 @@ public class DecisionTreeLearningTest {
         .predict(dataframe)
         .get("predictions");
 
-    assertThat(predictions).containsExactly(3.0, 3.0, 3.0, 3.0, 3.0);
+    assertThat(predictions).containsExactly(expected);
   }
 
   @ParameterizedTest
   @MethodSource("params_that_must_perform_decision_tree_regressor")
   public void must_serde_perform_decision_tree_regressor(
-      DecisionTreeRegressor decisionTreeRegressor
+      DecisionTreeRegressor decisionTreeRegressor,
+      Double[] expected
   ) throws IOException {
     var dataframe = Dataframes.csv(getResourceFileName("org/rsultan/utils/example-classif.csv"));
     var predictions = serdeTrainable(decisionTreeRegressor
@@ -118,6 +127,107 @@ public class DecisionTreeLearningTest {
         .predict(dataframe)
         .get("predictions");
 
-    assertThat(predictions).containsExactly(3.0, 3.0, 3.0, 3.0, 3.0);
+    assertThat(predictions).containsExactly(expected);
+  }
+
+  @ParameterizedTest
+  @MethodSource("params_that_must_perform_decision_tree_classifier")
+  public void must_perform_histogram_decision_tree_classifier(
+      DecisionTreeClassifier decisionTreeClassifier,
+      String[] predictorNames,
+      String[] expected
+  ) throws IOException {
+    var dataframe = Dataframes.csv(getResourceFileName("org/rsultan/utils/example-classif.csv"));
+    var predictions = decisionTreeClassifier
+        .setMaxBins(255)
+        .setResponseVariableName("strColumn")
+        .setPredictorNames(predictorNames)
+        .train(dataframe)
+        .predict(dataframe)
+        .get("predictions");
+
+    assertThat(predictions).containsExactly(expected);
+  }
+
+  @Test
+  public void must_fit_exact_decision_tree_classifier_on_presorted_features() {
+    int rows = 1_000;
+    var dataframe = Dataframes.create(
+        new DoubleColumn("x1", range(0, rows).mapToDouble(row -> row % 10).toArray()),
+        new DoubleColumn("x2", range(0, rows).mapToDouble(row -> (row / 10) % 10).toArray()),
+        new Column<>("label", range(0, rows)
+            .mapToObj(row -> row % 10 < 3 ? "a" : (row / 10) % 10 < 6 ? "b" : "c")
+            .collect(toList())));
+    var predictions = new DecisionTreeClassifier(2, ENTROPY)
+        .setResponseVariableName("label")
+        .setPredictorNames("x1", "x2")
+        .train(dataframe)
+        .predict(dataframe);
+
+    assertThat(predictions.<String>get("predictions"))
+        .containsExactlyElementsOf(dataframe.get("label"));
+  }
+
+  @Test
+  public void must_perform_histogram_decision_tree_classifier_on_quantized_feature() {
+    var dataframe = buildStepDataframe(20_000);
+    var predictions = new DecisionTreeClassifier(1, GINI)
+        .setMaxBins(64)
+        .setResponseVariableName("label")
+        .setPredictorNames("x")
+        .train(dataframe)
+        .predict(dataframe);
+
+    long errors = range(0, predictions.getRowSize())
+        .filter(row -> !predictions.get("label").get(row)
+            .equals(predictions.get("predictions").get(row)))
+        .count();
+    assertThat(errors).isLessThan(200);
+  }
+
+  @Test
+  public void must_perform_histogram_decision_tree_regressor() {
+    var dataframe = buildStepDataframe(20_000);
+    var predictions = new DecisionTreeRegressor(1)
+        .setMaxBins(255)
+        .setResponseVariableName("y")
+        .setPredictorNames("x")
+        .train(dataframe)
+        .predict(dataframe);
+
+    double meanAbsoluteError = range(0, predictions.getRowSize())
+        .mapToDouble(row -> Math.abs(predictions.getDouble("y", row)
+            - predictions.getDouble("predictions", row)))
+        .average().orElseThrow();
+    assertThat(meanAbsoluteError).isLessThan(0.1);
+  }
+
+  @Test
+  public void must_select_rows_and_features_of_quantized_features() {
+    var features = Nd4j.create(new double[][]{{1, 10, 5}, {2, 20, 5}, {3, 30, 6}, {4, 40, 6}});
+    var bins = FeatureBins.of(features, 4);
+
+    var selected = bins.select(new int[]{3, 0}, new int[]{2, 0});
+
+    assertThat(selected.cuts()).containsExactly(bins.cuts()[2], bins.cuts()[0]);
+    assertThat(selected.codes()[0]).containsExactly(bins.codes()[2][3], bins.codes()[2][0]);
+    assertThat(selected.codes()[1]).containsExactly(bins.codes()[0][3], bins.codes()[0][0]);
+  }
+
+  @Test
+  public void must_reject_invalid_number_of_bins() {
+    assertThatThrownBy(() -> new DecisionTreeClassifier(1, GINI).setMaxBins(256))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new DecisionTreeRegressor(1).setMaxBins(1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static Dataframe buildStepDataframe(int rows) {
+    var x = range(0, rows).mapToDouble(row -> (double) row / rows).toArray();
+    return Dataframes.create(
+        new DoubleColumn("x", x),
+        new DoubleColumn("y", range(0, rows).mapToDouble(row -> x[row] < 0.3 ? 1 : 5).toArray()),
+        new Column<>("label", range(0, rows).mapToObj(row -> x[row] < 0.3 ? "low" : "high")
+            .collect(toList())));
   }
 }
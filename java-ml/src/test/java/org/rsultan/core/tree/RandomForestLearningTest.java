@@ -8,6 +8,7 @@ import static org.rsultan.utils.TestUtils.getResourceFileName;
 
 import java.io.IOException;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -89,4 +90,22 @@ public class RandomForestLearningTest {
 
     assertThat(predictions).hasSize(5);
   }
+
+  @Test
+  public void must_perform_random_forest_on_features_quantized_once() throws IOException {
+    var dataframe = Dataframes.csv(getResourceFileName("org/rsultan/utils/example-classif.csv"));
+    var predictions = new RandomForestClassifier(10, GINI)
+        .setMaxBins(4)
+        .setResponseVariableName("strColumn")
+        .setPredictionColumnName("predictions")
+        .setPredictorNames("x", "x2", "x3")
+        .setTreeDepth(2)
+        .setSampleFeatureSize(2)
+        .setSampleSizeRatio(0.8)
+        .train(dataframe)
+        .predict(dataframe)
+        .get("predictions");
+
+    assertThat(predictions).hasSize(5);
+  }
 }
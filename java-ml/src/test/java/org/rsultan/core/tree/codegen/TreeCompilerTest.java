@@ -0,0 +1,165 @@
+package org.rsultan.core.tree.codegen;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.rsultan.core.tree.impurity.ImpurityStrategy.GINI;
+import static org.rsultan.utils.TestUtils.getResourceFileName;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.nd4j.linalg.api.buffer.DataType;
+import org.nd4j.linalg.factory.Nd4j;
+import org.rsultan.core.ensemble.rf.RandomForestClassifier;
+import org.rsultan.core.ensemble.rf.RandomForestRegressor;
+import org.rsultan.core.tree.DecisionTreeClassifier;
+import org.rsultan.core.tree.domain.FlatTree;
+import org.rsultan.dataframe.Dataframes;
+
+public class TreeCompilerTest {
+
+  static {
+    Nd4j.setDefaultDataTypes(DataType.DOUBLE, DataType.DOUBLE);
+  }
+
+  private static final int FEATURES = 5;
+
+  @Test
+  public void must_compile_trees_into_hidden_class_with_identical_predictions() {
+    var random = new Random(7);
+    var trees = range(0, 60).mapToObj(idx -> randomTree(random, 1 + idx % 8)).collect(toList());
+
+    var compiled = TreeCompiler.compile(trees);
+
+    assertThat(compiled.getClass().isHidden()).isTrue();
+    assertThat(compiled.size()).isEqualTo(60);
+    assertSamePredictions(random, trees, compiled);
+  }
+
+  @Test
+  public void must_spread_large_forests_over_several_classes() {
+    var random = new Random(13);
+    var trees = range(0, 12).mapToObj(idx -> randomTree(random, 12)).collect(toList());
+
+    var compiled = TreeCompiler.compile(trees);
+
+    assertThat(compiled.getClass().isHidden()).isFalse();
+    assertThat(compiled.size()).isEqualTo(12);
+    assertSamePredictions(random, trees, compiled);
+  }
+
+  private static void assertSamePredictions(Random random, List<FlatTree> trees,
+      CompiledTrees compiled) {
+    var interpreted = TreeCompiler.interpret(trees);
+    var expected = new double[trees.size()];
+    var actual = new double[trees.size()];
+    for (int row = 0; row < 2_000; row++) {
+      var features = randomRow(random, trees);
+      interpreted.predict(features, expected);
+      compiled.predict(features, actual);
+      for (int tree = 0; tree < trees.size(); tree++) {
+        assertThat(Double.doubleToRawLongBits(actual[tree]))
+            .isEqualTo(Double.doubleToRawLongBits(expected[tree]));
+      }
+    }
+  }
+
+  @Test
+  public void must_split_large_trees_into_small_methods() {
+    var tree = randomTree(new Random(3), 12);
+    var bytes = TreeCompiler.generate(List.of(tree), 0, 1);
+
+    assertThat(tree.size()).isGreaterThan(1_000);
+    assertThat(bytes.length).isLessThan(tree.size() * 32);
+    assertThat(TreeCompiler.compile(List.of(tree)).size()).isEqualTo(1);
+  }
+
+  @Test
+  public void must_fall_back_to_interpreted_trees_when_class_file_is_full() {
+    var tree = randomTree(new Random(11), 16);
+    assertThatThrownBy(() -> TreeCompiler.compile(List.of(tree)))
+        .isInstanceOf(IllegalStateException.class);
+
+    var trees = TreeCompiler.compileOrInterpret(List.of(tree));
+    var predictions = new double[1];
+    var features = randomRow(new Random(5), List.of(tree));
+    trees.predict(features, predictions);
+    assertThat(predictions[0]).isEqualTo(tree.predict(features));
+  }
+
+  @Test
+  public void must_predict_single_rows_with_compiled_models() throws IOException {
+    var dataframe = Dataframes.csv(getResourceFileName("org/rsultan/utils/example-classif.csv"));
+    var rows = dataframe.select("x", "x2", "x3").toMatrix().toDoubleMatrix();
+
+    var classifier = new DecisionTreeClassifier(2, GINI)
+        .setResponseVariableName("strColumn")
+        .setPredictorNames("x", "x2", "x3")
+        .train(dataframe);
+    var interpreted = range(0, rows.length).mapToObj(row -> classifier.predict(rows[row]))
+        .collect(toList());
+    classifier.compile();
+    assertThat(range(0, rows.length).mapToObj(row -> classifier.predict(rows[row])))
+        .containsExactlyElementsOf(interpreted)
+        .containsExactly("a", "a", "b", "b", "e");
+
+    var forest = new RandomForestRegressor(20)
+        .setResponseVariableName("y")
+        .setPredictorNames("x", "x2", "x3")
+        .setTreeDepth(3)
+        .setSampleSizeRatio(0.8)
+        .train(dataframe);
+    var batch = forest.predict(dataframe).get("predictions");
+    forest.compile();
+    assertThat(range(0, rows.length).mapToObj(row -> forest.predict(rows[row])))
+        .containsExactlyElementsOf(batch);
+
+    var classifierForest = new RandomForestClassifier(20, GINI)
+        .setResponseVariableName("strColumn")
+        .setPredictorNames("x", "x2", "x3")
+        .setTreeDepth(3)
+        .setSampleSizeRatio(0.8)
+        .train(dataframe);
+    var votes = classifierForest.predict(dataframe).get("predictions");
+    classifierForest.compile();
+    assertThat(range(0, rows.length).mapToObj(row -> classifierForest.predict(rows[row])))
+        .containsExactlyElementsOf(votes);
+  }
+
+  private static FlatTree randomTree(Random random, int depth) {
+    int size = (1 << (depth + 1)) - 1;
+    var feature = new int[size];
+    var threshold = new double[size];
+    var left = new int[size];
+    var right = new int[size];
+    var value = new double[size];
+    for (int node = 0; node < size; node++) {
+      boolean leaf = 2 * node + 1 >= size;
+      feature[node] = leaf ? FlatTree.LEAF : random.nextInt(FEATURES);
+      threshold[node] = leaf ? 0 : random.nextGaussian();
+      left[node] = leaf ? FlatTree.LEAF : 2 * node + 1;
+      right[node] = leaf ? FlatTree.LEAF : 2 * node + 2;
+      value[node] = random.nextGaussian();
+    }
+    return new FlatTree(feature, threshold, left, right, value);
+  }
+
+  private static double[] randomRow(Random random, List<FlatTree> trees) {
+    var row = new double[FEATURES];
+    for (int feature = 0; feature < FEATURES; feature++) {
+      int pick = random.nextInt(20);
+      if (pick == 0) {
+        row[feature] = Double.NaN;
+      } else if (pick == 1) {
+        var tree = trees.get(random.nextInt(trees.size()));
+        row[feature] = tree.threshold()[random.nextInt(tree.size())];
+      } else {
+        row[feature] = random.nextGaussian();
+      }
+    }
+    return row;
+  }
+}
@@ -0,0 +1,82 @@
+package org.rsultan.core.tree.domain;
+
+import static java.util.Objects.nonNull;
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.nd4j.linalg.api.buffer.DataType;
+import org.nd4j.linalg.factory.Nd4j;
+import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.DoubleColumn;
+
+public class FlatTreeTest {
+
+  static {
+    Nd4j.setDefaultDataTypes(DataType.DOUBLE, DataType.DOUBLE);
+  }
+
+  private static final Node TREE = new Node(0, 0.5, 0,
+      new Node(1, 2.0, 1, leaf(10), new Node(0, 0.25, 2, leaf(20), leaf(30))),
+      leaf(40));
+
+  private static Node leaf(double value) {
+    return new Node(0, 0, value, null, null);
+  }
+
+  @Test
+  public void must_flatten_tree_in_breadth_first_order() {
+    var flat = FlatTree.of(TREE);
+
+    assertThat(flat.size()).isEqualTo(7);
+    assertThat(flat.feature()).containsExactly(0, 1, -1, -1, 0, -1, -1);
+    assertThat(flat.left()).containsExactly(1, 3, -1, -1, 5, -1, -1);
+    assertThat(flat.right()).containsExactly(2, 4, -1, -1, 6, -1, -1);
+    assertThat(flat.value()).containsExactly(0, 1, 40, 10, 2, 20, 30);
+  }
+
+  @Test
+  public void must_predict_like_node_walk() {
+    var flat = FlatTree.of(TREE);
+    var random = new Random(42);
+    var rows = range(0, 10_000)
+        .mapToObj(row -> new double[]{random.nextDouble(), random.nextDouble() * 4})
+        .toArray(double[][]::new);
+
+    var expected = range(0, rows.length).mapToDouble(row -> walk(TREE, rows[row])).toArray();
+    assertThat(flat.predict(rows)).containsExactly(expected);
+    assertThat(flat.predict(Nd4j.create(rows))).containsExactly(expected);
+    var columns = new double[][]{
+        range(0, rows.length).mapToDouble(row -> rows[row][0]).toArray(),
+        range(0, rows.length).mapToDouble(row -> rows[row][1]).toArray()};
+    assertThat(flat.predictColumns(columns, rows.length)).containsExactly(expected);
+  }
+
+  @Test
+  public void must_map_features_and_extract_used_columns() {
+    var flat = FlatTree.of(TREE).mapFeatures(new int[]{2, 0});
+    assertThat(flat.feature()).containsExactly(2, 0, -1, -1, 2, -1, -1);
+
+    var dataframe = Dataframes.create(
+        new DoubleColumn("a", new double[]{3.0, 1.0}),
+        new DoubleColumn("b", new double[]{7.0, 7.0}),
+        new DoubleColumn("c", new double[]{0.1, 0.3}));
+    var names = new String[]{"a", "b", "c"};
+    var columns = FlatTree.featureColumns(dataframe, 3, feature -> names[feature],
+        List.of(flat));
+
+    assertThat(columns[0]).containsExactly(3.0, 1.0);
+    assertThat(columns[1]).isNull();
+    assertThat(columns[2]).containsExactly(0.1, 0.3);
+    assertThat(flat.predictColumns(columns, 2)).containsExactly(20, 10);
+  }
+
+  private static double walk(Node node, double[] row) {
+    while (nonNull(node.left())) {
+      node = row[node.feature()] < node.featureThreshold() ? node.left() : node.right();
+    }
+    return node.predictedResponse().doubleValue();
+  }
+}
@@ -0,0 +1,97 @@
+package org.rsultan.core.tree.impurity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.params.provider.Arguments.of;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.nd4j.linalg.api.buffer.DataType;
+import org.nd4j.linalg.factory.Nd4j;
+
+public class SplitImpurityTest {
+
+  static {
+    Nd4j.setDefaultDataTypes(DataType.DOUBLE, DataType.DOUBLE);
+  }
+
+  private static final int[] CLASSES = {0, 2, 1, 1, 0, 2, 2, 1, 0, 2, 2, 1};
+
+  private static Stream<Arguments> params_that_must_match_matrix_impurity() {
+    return Stream.of(
+        of(new GiniService()),
+        of(new EntropyService())
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("params_that_must_match_matrix_impurity")
+  public void must_update_class_impurity_incrementally(ImpurityService impurityService) {
+    var split = impurityService.newSplit(3);
+    Arrays.stream(CLASSES).forEach(classIdx -> split.addRight(classIdx, classIdx));
+    assertThat(split.rightImpurity())
+        .isCloseTo(matrixImpurity(impurityService, 0, CLASSES.length), within(1e-9));
+
+    for (int moved = 1; moved < CLASSES.length; moved++) {
+      split.moveLeft(CLASSES[moved - 1], CLASSES[moved - 1]);
+      assertThat(split.leftCount()).isEqualTo(moved);
+      assertThat(split.rightCount()).isEqualTo(CLASSES.length - moved);
+      assertThat(split.leftImpurity())
+          .isCloseTo(matrixImpurity(impurityService, 0, moved), within(1e-9));
+      assertThat(split.rightImpurity())
+          .isCloseTo(matrixImpurity(impurityService, moved, CLASSES.length), within(1e-9));
+    }
+  }
+
+  @Test
+  public void must_compute_scalar_impurity_from_class_counts() {
+    double[] counts = {3, 5, 0, 2};
+    var matrix = Nd4j.create(counts, new long[]{1, counts.length}, 'c');
+
+    assertThat(GiniService.compute(counts, 10))
+        .isCloseTo(new GiniService().compute(matrix).getDouble(0, 0), within(1e-12));
+    assertThat(GiniService.compute(new long[]{3, 5, 0, 2}, 10))
+        .isCloseTo(GiniService.compute(counts, 10), within(1e-12));
+    assertThat(EntropyService.compute(counts, 10))
+        .isCloseTo(new EntropyService().compute(matrix).getDouble(0, 0), within(1e-12));
+    assertThat(EntropyService.compute(new long[]{3, 5, 0, 2}, 10))
+        .isCloseTo(EntropyService.compute(counts, 10), within(1e-12));
+    assertThat(EntropyService.compute(new long[]{7, 0}, 7)).isZero();
+  }
+
+  @Test
+  public void must_update_rmse_incrementally() {
+    double[] labels = {1.5, -2.0, 3.25, 0.5, 8.0, 4.0};
+    var split = new RmseService().newSplit(1);
+    Arrays.stream(labels).forEach(label -> split.addRight(0, label));
+
+    for (int moved = 1; moved < labels.length; moved++) {
+      split.moveLeft(0, labels[moved - 1]);
+      assertThat(split.leftImpurity())
+          .isCloseTo(standardDeviation(labels, 0, moved), within(1e-9));
+      assertThat(split.rightImpurity())
+          .isCloseTo(standardDeviation(labels, moved, labels.length), within(1e-9));
+    }
+    assertThat(split.copy().weightedImpurity()).isEqualTo(split.weightedImpurity());
+  }
+
+  private static double matrixImpurity(ImpurityService impurityService, int from, int to) {
+    var counts = new double[3];
+    for (int i = from; i < to; i++) {
+      counts[CLASSES[i]]++;
+    }
+    return impurityService.compute(Nd4j.create(counts, new long[]{1, counts.length}, 'c'))
+        .getDouble(0, 0);
+  }
+
+  private static double standardDeviation(double[] labels, int from, int to) {
+    double mean = Arrays.stream(labels, from, to).average().orElseThrow();
+    return Math.sqrt(Arrays.stream(labels, from, to)
+        .map(label -> (label - mean) * (label - mean))
+        .average().orElseThrow());
+  }
+}
@@ -1,13 +1,21 @@
 package org.rsultan.dataframe;
 
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.of;
+import static org.rsultan.dataframe.transform.matrix.MatrixCache.sharedMatrix;
 import static org.rsultan.utils.TestUtils.getResourceFileName;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -15,6 +23,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.nd4j.linalg.api.buffer.DataType;
 import org.nd4j.linalg.factory.Nd4j;
+import org.rsultan.dataframe.reader.ColumnType;
+import org.rsultan.dataframe.transform.group.Aggregation;
+import org.rsultan.dataframe.transform.join.JoinType;
+import org.rsultan.dataframe.transform.matrix.MatrixCache;
 
 public class DataframeTest {
 
@@ -257,4 +269,600 @@ public class DataframeTest {
     assertThat(df.get("c3")).containsExactly(1L, 8L, 27L, 64L, 125L);
     assertThat(df.get("c4")).containsExactly("a", "b", "c", "d", "e");
   }
+
+  @Test
+  public void must_store_homogeneous_csv_columns_as_primitives() throws IOException {
+    var df = Dataframes.csv(getResourceFileName("org/rsultan/utils/example.csv"));
+    var columns = df.getColumns();
+
+    assertThat(columns[0]).isInstanceOf(LongColumn.class);
+    assertThat(columns[1]).isInstanceOf(DoubleColumn.class);
+    assertThat(columns[4]).isNotInstanceOf(DoubleColumn.class).isNotInstanceOf(LongColumn.class);
+    assertThat(df.toMatrix("y", "x").getRow(5).toDoubleVector()).containsExactly(-6.0D, -5.0D);
+  }
+
+  @Test
+  public void must_keep_primitive_columns_when_filtering_and_mapping() {
+    var df = Dataframes.create(
+        new DoubleColumn("d1", new double[]{1.0D, 2.0D, 3.0D, 4.0D, 5.0D}),
+        new LongColumn("l1", new long[]{1L, 5L, 7L, 9L, 11L})
+    ).filter("d1", (Double d1) -> d1 % 2 == 0).map("l2", (Long l1) -> l1 * 2, "l1");
+
+    assertThat(((SelectionColumn<?>) df.getColumns()[0]).getParent())
+        .isInstanceOf(DoubleColumn.class);
+    assertThat(((SelectionColumn<?>) df.getColumns()[1]).getParent())
+        .isInstanceOf(LongColumn.class);
+    assertThat(df.getColumns()[2]).isInstanceOf(LongColumn.class);
+    assertThat(df.get("d1")).containsExactly(2.0D, 4.0D);
+    assertThat(df.get("l1")).containsExactly(5L, 9L);
+    assertThat(df.get("l2")).containsExactly(10L, 18L);
+  }
+
+  @Test
+  public void must_one_hot_encode_column_into_boolean_columns() {
+    var df = Dataframes
+        .create(new Column<>("colors", List.of("red", "green", "red")))
+        .oneHotEncode("colors");
+
+    assertThat(df.getColumns()[1]).isInstanceOf(BooleanColumn.class);
+    assertThat(df.getColumns()[1].columnName()).isEqualTo("green");
+    assertThat(df.getColumns()[2].getDouble(2)).isEqualTo(1.0D);
+  }
+
+  @Test
+  public void must_share_columns_between_derived_dataframes() {
+    var df = Dataframes.create(
+        new DoubleColumn("d1", new double[]{1.0D, 2.0D, 3.0D}),
+        new Column<>("s1", "a", "b", "c")
+    );
+    var derived = df.map("ones", () -> 1).mapWithout("s1").select("d1", "ones");
+
+    assertThat(derived.getColumn("d1")).isSameAs(df.getColumn("d1"));
+    assertThat(derived.getDouble("d1", 2)).isEqualTo(3.0D);
+    assertThat(df.<String>get("s1", 1)).isEqualTo("b");
+    assertThrows(UnsupportedOperationException.class, () -> df.get("s1").add("d"));
+    assertThrows(IllegalArgumentException.class, () -> df.getColumn("unknown"));
+  }
+
+  @Test
+  public void must_collect_lazy_dataframe_like_eager_one() {
+    var df = Dataframes.create(
+        new Column<>("d1", 1.0D, 2.0D, 3.0D, 4.0D, 5.0D),
+        new Column<>("d2", 1.0D, 5.0D, 7.0D, 9.0D, 11.0D),
+        new Column<>("colors", "red", "blue", "red", "blue", "red")
+    );
+    var mapCalls = new AtomicInteger();
+
+    var lazy = df.lazy()
+        .map("square", (Double d1, Double d2) -> d1 * d2, "d1", "d2")
+        .map("unused", (Double d1) -> mapCalls.incrementAndGet(), "d1")
+        .filter("square", (Double square) -> square > 5D)
+        .mapWithout("d2", "unused")
+        .oneHotEncode("colors");
+    var eager = df
+        .map("square", (Double d1, Double d2) -> d1 * d2, "d1", "d2")
+        .filter("square", (Double square) -> square > 5D)
+        .mapWithout("d2")
+        .oneHotEncode("colors");
+    var collected = lazy.collect();
+
+    assertThat(mapCalls.get()).isZero();
+    assertThat(collected.getRowSize()).isEqualTo(eager.getRowSize());
+    assertThat(collected.getColumns()).containsExactly(eager.getColumns());
+    assertThat(lazy.toMatrix("square").toDoubleVector())
+        .containsExactly(eager.toMatrix("square").toDoubleVector());
+  }
+
+  @Test
+  public void must_reuse_source_columns_when_lazy_plan_keeps_all_rows() {
+    var df = Dataframes.create(new DoubleColumn("d1", new double[]{1.0D, 2.0D, 3.0D}));
+    var collected = df.lazy().map("ones", () -> 1).select("d1").collect();
+
+    assertThat(collected.getColumn("d1")).isSameAs(df.getColumn("d1"));
+    assertThrows(IllegalArgumentException.class,
+        () -> df.lazy().filter("unknown", (Double d) -> true).collect());
+  }
+
+  @Test
+  public void must_keep_row_order_across_lazy_blocks() {
+    var values = range(0, 10_000).mapToDouble(i -> i).toArray();
+    var df = Dataframes.create(new DoubleColumn("d1", values));
+
+    var collected = df.lazy()
+        .filter("d1", (Double d1) -> d1 % 2 == 0)
+        .map("half", (Double d1) -> d1 / 2, "d1")
+        .collect();
+
+    assertThat(collected.getRowSize()).isEqualTo(5_000);
+    assertThat(collected.toVector("half").toDoubleVector())
+        .containsExactly(range(0, 5_000).mapToDouble(i -> i).toArray());
+  }
+
+  @Test
+  public void must_combine_chained_filters_on_the_same_selection() {
+    var values = range(0, 1_000).mapToDouble(i -> i).toArray();
+    var source = new DoubleColumn("d1", values);
+    var df = Dataframes.create(source)
+        .filter("d1", (Double d1) -> d1 % 2 == 0)
+        .filter("d1", (Double d1) -> d1 % 3 == 0);
+
+    var column = (SelectionColumn<?>) df.getColumn("d1");
+    assertThat(column.getParent()).isSameAs(source);
+    assertThat(column.getSelection().size()).isEqualTo(1_000);
+    assertThat(df.getRowSize()).isEqualTo(167);
+    assertThat(df.getDouble("d1", 1)).isEqualTo(6.0D);
+    assertThat(df.toVector("d1").getDouble(166)).isEqualTo(996.0D);
+  }
+
+  @Test
+  public void must_one_hot_encode_categorical_column_from_codes() {
+    var plain = Dataframes.create(
+        new Column<>("id", 1L, 2L, 3L, 4L, 5L),
+        new Column<>("colors", "red", "green", "red", "blue", "green")
+    );
+    var df = plain.categorical("colors");
+
+    var colors = (CategoricalColumn<String>) df.<String>getColumn("colors");
+    var encoded = df.filter("id", (Long id) -> id > 1).oneHotEncode("colors");
+
+    assertThat(colors.getDictionary()).containsExactly("red", "green", "blue");
+    assertThat(colors.getCode(2)).isZero();
+    assertThat(df.get("colors")).containsExactly("red", "green", "red", "blue", "green");
+    assertThat(encoded.getColumns()).extracting(Column::columnName)
+        .containsExactly("id", "colors", "blue", "green", "red");
+    assertThat(encoded.get("green")).containsExactly(true, false, false, true);
+    assertThat(encoded.toMatrix("blue", "green", "red"))
+        .isEqualTo(plain.filter("id", (Long id) -> id > 1).oneHotEncode("colors")
+            .toMatrix("blue", "green", "red"));
+  }
+
+  @Test
+  public void must_convert_columns_to_matrix_in_requested_order() {
+    int rows = 70_000;
+    var chunks = List.of(
+        new DoubleColumn("d1", range(0, 65_536).mapToDouble(i -> i).toArray()),
+        new DoubleColumn("d1", range(65_536, rows).mapToDouble(i -> i).toArray()));
+    var df = Dataframes.create(
+        new ChunkedColumn<>("d1", chunks),
+        new LongColumn("l1", range(0, rows).mapToLong(i -> -i).toArray()),
+        new Column<>("s1", range(0, rows).mapToObj(i -> i % 2 == 0 ? "1.5" : "-2")
+            .collect(toList()))
+    );
+
+    var cOrder = df.toMatrix();
+    var fOrder = df.toMatrix('f', "s1", "d1");
+
+    assertThat(cOrder.ordering()).isEqualTo('c');
+    assertThat(fOrder.ordering()).isEqualTo('f');
+    assertThat(cOrder.getRow(66_001).toDoubleVector()).containsExactly(66_001D, -66_001D, -2D);
+    assertThat(fOrder.getRow(66_000).toDoubleVector()).containsExactly(1.5D, 66_000D);
+    assertThat(df.toVector("l1").getDouble(69_999)).isEqualTo(-69_999D);
+    assertThrows(IllegalArgumentException.class, () -> df.toMatrix('x'));
+  }
+
+  @Test
+  public void must_reuse_cached_matrix_for_same_columns() {
+    var df = Dataframes.create(
+        new DoubleColumn("d1", new double[]{1.0D, 2.0D}),
+        new DoubleColumn("d2", new double[]{3.0D, 4.0D}),
+        new Column<>("s1", "a", "b")
+    );
+    long hits = MatrixCache.hitCount();
+
+    var matrix = sharedMatrix(df, "d1", "d2");
+
+    assertThat(sharedMatrix(df.mapWithout("s1"))).isSameAs(matrix);
+    assertThat(sharedMatrix(df.select("d1", "d2"))).isSameAs(matrix);
+    assertThat(sharedMatrix(df, 'f', "d1", "d2")).isNotSameAs(matrix).isEqualTo(matrix);
+    assertThat(sharedMatrix(df, "d2", "d1")).isNotSameAs(matrix);
+    assertThat(MatrixCache.hitCount() - hits).isEqualTo(2);
+  }
+
+  @Test
+  public void must_not_cache_one_off_matrix_conversions() {
+    var df = Dataframes.create(
+        new DoubleColumn("d1", new double[]{1.0D, 2.0D}),
+        new DoubleColumn("d2", new double[]{3.0D, 4.0D})
+    );
+    long bytes = MatrixCache.cachedBytes();
+
+    var matrix = df.toMatrix();
+
+    assertThat(MatrixCache.cachedBytes()).isEqualTo(bytes);
+    assertThat(sharedMatrix(df)).isNotSameAs(matrix).isEqualTo(matrix);
+    long hits = MatrixCache.hitCount();
+    assertThat(df.toMatrix()).isEqualTo(matrix);
+    assertThat(MatrixCache.hitCount() - hits).isEqualTo(1);
+  }
+
+  @Test
+  public void must_return_private_copies_of_cached_matrix() {
+    var df = Dataframes.create(
+        new DoubleColumn("d1", new double[]{1.0D, 2.0D}),
+        new DoubleColumn("d2", new double[]{3.0D, 4.0D})
+    );
+    var shared = sharedMatrix(df);
+
+    var matrix = df.toMatrix().addi(10);
+
+    assertThat(matrix).isNotSameAs(shared);
+    assertThat(sharedMatrix(df)).isSameAs(shared);
+    assertThat(shared.toDoubleMatrix()).isEqualTo(new double[][]{{1.0D, 3.0D}, {2.0D, 4.0D}});
+    assertThat(df.toMatrix().toDoubleMatrix()).isEqualTo(shared.toDoubleMatrix());
+    assertThat(df.toVector("d2").getDouble(1)).isEqualTo(4.0D);
+  }
+
+  @Test
+  public void must_reject_matrices_larger_than_an_array() {
+    var values = Collections.nCopies(50_000_000, 1.0D);
+    var df = Dataframes.create(range(0, 50)
+        .mapToObj(idx -> new Column<>("c" + idx, values))
+        .toArray(Column<?>[]::new));
+
+    var exception = assertThrows(IllegalArgumentException.class, df::toMatrix);
+
+    assertThat(exception.getMessage()).contains("50000000 rows and 50 columns");
+  }
+
+  @Test
+  public void must_group_by_keys_and_aggregate() {
+    var df = Dataframes.create(
+        new Column<>("customer", "a", "b", "a", "c", "b", "a"),
+        new LongColumn("store", new long[]{1, 1, 1, 2, 1, 2}),
+        new DoubleColumn("amount", new double[]{10, 5, 30, 7, 15, 2}),
+        new Column<>("note", "x", null, "y", null, null, "z")
+    );
+
+    var grouped = df.groupBy("customer").agg(
+        Aggregation.count(),
+        Aggregation.sum("amount"),
+        Aggregation.mean("amount").as("average"),
+        Aggregation.min("amount"),
+        Aggregation.max("amount"),
+        Aggregation.count("note")
+    );
+
+    assertThat(grouped.<String>get("customer")).containsExactly("a", "b", "c");
+    assertThat(grouped.<Long>get("count")).containsExactly(3L, 2L, 1L);
+    assertThat(grouped.<Double>get("sum(amount)")).containsExactly(42.0, 20.0, 7.0);
+    assertThat(grouped.<Double>get("average")).containsExactly(14.0, 10.0, 7.0);
+    assertThat(grouped.<Double>get("min(amount)")).containsExactly(2.0, 5.0, 7.0);
+    assertThat(grouped.<Double>get("max(amount)")).containsExactly(30.0, 15.0, 7.0);
+    assertThat(grouped.<Long>get("count(note)")).containsExactly(3L, 0L, 0L);
+
+    var byTwoKeys = df.groupBy("customer", "store").count();
+    assertThat(byTwoKeys.<String>get("customer")).containsExactly("a", "b", "c", "a");
+    assertThat(byTwoKeys.<Long>get("store")).containsExactly(1L, 1L, 2L, 2L);
+    assertThat(byTwoKeys.<Long>get("count")).containsExactly(2L, 2L, 1L, 1L);
+    assertThat(byTwoKeys.getColumn("store")).isInstanceOf(LongColumn.class);
+    assertThrows(IllegalArgumentException.class, () -> df.groupBy("unknown"));
+  }
+
+  @Test
+  public void must_group_chunked_long_keys_above_double_precision() {
+    long id = 1L << 53;
+    var df = Dataframes.create(new ChunkedColumn<>("id", List.of(
+        new LongColumn("id", new long[]{id, id + 1}), new LongColumn("id", new long[]{id}))));
+
+    var grouped = df.groupBy("id").count();
+
+    assertThat(grouped.<Long>get("id")).containsExactly(id, id + 1);
+    assertThat(grouped.<Long>get("count")).containsExactly(2L, 1L);
+  }
+
+  @Test
+  public void must_merge_partial_aggregates_of_large_frames() {
+    int rows = 500_000;
+    int keys = 1_000;
+    var ids = range(0, rows).mapToLong(row -> (row * 7L) % keys).toArray();
+    var values = range(0, rows).mapToDouble(row -> row % 13).toArray();
+    var df = Dataframes.create(new LongColumn("id", ids), new DoubleColumn("value", values));
+
+    var grouped = df.groupBy("id").agg(Aggregation.count(), Aggregation.sum("value"),
+        Aggregation.max("value"));
+
+    var expectedSums = new double[keys];
+    var expectedCounts = new long[keys];
+    for (int row = 0; row < rows; row++) {
+      expectedSums[(int) ids[row]] += values[row];
+      expectedCounts[(int) ids[row]]++;
+    }
+    assertThat(grouped.getRowSize()).isEqualTo(keys);
+    for (int group = 0; group < keys; group++) {
+      int id = (int) grouped.<Long>get("id", group).longValue();
+      assertThat(id).isEqualTo((group * 7) % keys);
+      assertThat(grouped.<Long>get("count", group)).isEqualTo(expectedCounts[id]);
+      assertThat(grouped.getDouble("sum(value)", group)).isEqualTo(expectedSums[id]);
+      assertThat(grouped.getDouble("max(value)", group)).isEqualTo(12.0);
+    }
+  }
+
+  @Test
+  public void must_hash_join_dataframes() {
+    var customers = Dataframes.create(
+        new LongColumn("id", new long[]{1, 2, 3, 4}),
+        new Column<>("name", "ann", "bob", "cid", "dan")
+    );
+    var cities = Dataframes.create(
+        new LongColumn("id", new long[]{2, 4, 5}),
+        new Column<>("city", "paris", "lyon", "nice"),
+        new Column<>("name", "b", "d", "e")
+    );
+
+    var inner = customers.join(cities, "id");
+    assertThat(inner.<Long>get("id")).containsExactly(2L, 4L);
+    assertThat(inner.<String>get("city")).containsExactly("paris", "lyon");
+    assertThat(inner.<String>get("name_right")).containsExactly("b", "d");
+    assertThat(inner.getColumn("id")).isInstanceOf(LongColumn.class);
+
+    var left = customers.join(cities, "id", "id", JoinType.LEFT);
+    assertThat(left.<Long>get("id")).containsExactly(1L, 2L, 3L, 4L);
+    assertThat(left.<String>get("city")).containsExactly(null, "paris", null, "lyon");
+
+    var right = customers.join(cities, "id", "id", JoinType.RIGHT);
+    assertThat(right.<Long>get("id")).containsExactly(2L, 4L, 5L);
+    assertThat(right.<String>get("name")).containsExactly("bob", "dan", null);
+
+    var outer = cities.join(customers, "id", "id", JoinType.OUTER);
+    assertThat(outer.<Long>get("id")).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    assertThat(outer.getRowSize()).isEqualTo(5);
+  }
+
+  @Test
+  public void must_hash_join_on_object_keys_with_duplicates() {
+    var orders = Dataframes.create(
+        new Column<>("customer", "a", "b", "a", null, "c"),
+        new DoubleColumn("amount", new double[]{1, 2, 3, 4, 5})
+    );
+    var segments = Dataframes.create(
+        new Column<>("code", "a", "b", "b", null),
+        new Column<>("segment", "gold", "silver", "bronze", "none")
+    );
+
+    var joined = orders.join(segments, "customer", "code", JoinType.INNER);
+
+    assertThat(joined.<String>get("customer")).containsExactly("a", "b", "b", "a");
+    assertThat(joined.<String>get("segment")).containsExactly("gold", "silver", "bronze", "gold");
+    assertThat(joined.<Double>get("amount")).containsExactly(1.0, 2.0, 2.0, 3.0);
+  }
+
+  @Test
+  public void must_keep_left_row_order_whichever_side_is_hashed() {
+    var small = Dataframes.create(
+        new LongColumn("id", new long[]{3, 1, 2}),
+        new Column<>("name", "cid", "ann", "bob")
+    );
+    var large = Dataframes.create(
+        new LongColumn("id", new long[]{2, 1, 5, 1, 3}),
+        new LongColumn("order", new long[]{10, 11, 12, 13, 14})
+    );
+
+    var inner = small.join(large, "id");
+    assertThat(inner.<Long>get("id")).containsExactly(3L, 1L, 1L, 2L);
+    assertThat(inner.<Long>get("order")).containsExactly(14L, 11L, 13L, 10L);
+
+    var outer = small.join(large, "id", "id", JoinType.OUTER);
+    assertThat(outer.<Long>get("id")).containsExactly(3L, 1L, 1L, 2L, 5L);
+    assertThat(outer.<String>get("name")).containsExactly("cid", "ann", "ann", "bob", null);
+  }
+
+  @Test
+  public void must_join_numeric_keys_of_different_boxed_types() {
+    var left = Dataframes.create(
+        new LongColumn("id", new long[]{1, 2, 3}),
+        new Column<>("name", "ann", "bob", "cid")
+    );
+    var right = Dataframes.create(
+        new Column<Object>("key", 2.0D, 3, 1L, "x", 2.5D),
+        new Column<>("city", "paris", "lyon", "nice", "rome", "oslo")
+    );
+
+    var joined = left.join(right, "id", "key", JoinType.LEFT);
+
+    assertThat(joined.<String>get("city")).containsExactly("nice", "paris", "lyon");
+  }
+
+  @Test
+  public void must_join_chunked_long_keys_above_double_precision() {
+    long id = 1L << 53;
+    var left = Dataframes.create(
+        new ChunkedColumn<>("id", List.of(
+            new LongColumn("id", new long[]{id}), new LongColumn("id", new long[]{id + 1}))),
+        new Column<>("name", "ann", "bob")
+    );
+    var right = Dataframes.create(
+        new LongColumn("id", new long[]{id + 1}),
+        new Column<>("city", "paris")
+    );
+
+    var joined = left.join(right, "id", "id", JoinType.INNER);
+
+    assertThat(joined.getRowSize()).isEqualTo(1);
+    assertThat(joined.<String>get("name")).containsExactly("bob");
+  }
+
+  @Test
+  public void must_join_large_dataframes_in_parallel() {
+    int rows = 300_000;
+    var facts = Dataframes.create(
+        new LongColumn("key", range(0, rows).mapToLong(row -> row % 50_000).toArray()),
+        new DoubleColumn("value", range(0, rows).mapToDouble(row -> row).toArray())
+    );
+    var lookup = Dataframes.create(
+        new LongColumn("key", range(0, 40_000).mapToLong(row -> row).toArray()),
+        new DoubleColumn("weight", range(0, 40_000).mapToDouble(row -> row * 2.0).toArray())
+    );
+
+    var joined = facts.join(lookup, "key", "key", JoinType.LEFT);
+
+    assertThat(joined.getRowSize()).isEqualTo(rows);
+    for (int row = 0; row < rows; row += 997) {
+      assertThat(joined.getDouble("value", row)).isEqualTo(row);
+      long key = row % 50_000;
+      assertThat(joined.<Double>get("weight", row)).isEqualTo(key < 40_000 ? key * 2.0 : null);
+    }
+  }
+
+  @Test
+  public void must_sort_by_several_columns_through_a_permutation_view() {
+    var df = Dataframes.create(
+        new Column<>("name", "b", "a", null, "c", "a"),
+        new LongColumn("rank", new long[]{2, 2, 1, 1, 3}),
+        new DoubleColumn("score", new double[]{0.5, -1.0, 3.0, Double.NaN, -0.0})
+    );
+
+    var byRankThenName = df.sortBy(new String[]{"rank", "name"}, false, true);
+    assertThat(byRankThenName.<String>get("name")).containsExactly("a", "a", "b", "c", null);
+    assertThat(byRankThenName.<Long>get("rank")).containsExactly(3L, 2L, 2L, 1L, 1L);
+    assertThat(byRankThenName.getColumn("score")).isInstanceOf(IndexedColumn.class);
+
+    assertThat(df.sortBy("score").<Double>get("score"))
+        .containsExactly(-1.0, -0.0, 0.5, 3.0, Double.NaN);
+    assertThat(df.sortBy(new String[]{"name"}, false).<String>get("name"))
+        .containsExactly("c", "b", "a", "a", null);
+    assertThrows(IllegalArgumentException.class,
+        () -> df.sortBy(new String[]{"name", "rank"}, true));
+  }
+
+  @Test
+  public void must_argsort_large_columns_stably() {
+    var random = new Random(11L);
+    int rows = 300_000;
+    var values = range(0, rows).mapToDouble(row -> random.nextInt(1_000) - 500.5).toArray();
+    var longs = range(0, rows).mapToLong(row -> random.nextLong()).toArray();
+
+    var order = ArgSort.argsort(values, true);
+    var longOrder = ArgSort.argsort(longs, false);
+
+    for (int i = 1; i < rows; i++) {
+      assertThat(values[order[i - 1]]).isLessThanOrEqualTo(values[order[i]]);
+      if (values[order[i - 1]] == values[order[i]]) {
+        assertThat(order[i - 1]).isLessThan(order[i]);
+      }
+      assertThat(longs[longOrder[i - 1]]).isGreaterThanOrEqualTo(longs[longOrder[i]]);
+    }
+  }
+
+  @Test
+  public void must_sort_chunked_long_columns_above_double_precision() {
+    long id = 1L << 53;
+    var df = Dataframes.create(
+        new ChunkedColumn<>("id", List.of(
+            new LongColumn("id", new long[]{id + 1}), new LongColumn("id", new long[]{id}))),
+        new Column<>("name", "bob", "ann")
+    );
+
+    assertThat(df.sortBy("id").<Long>get("id")).containsExactly(id, id + 1);
+    assertThat(df.filter("name", (String name) -> true).sortBy("id").<String>get("name"))
+        .containsExactly("ann", "bob");
+  }
+
+  @Test
+  public void must_build_dataframe_record_by_record() {
+    var builder = Dataframes.builder()
+        .addColumn("id", ColumnType.LONG)
+        .addColumn("value", ColumnType.DOUBLE)
+        .addColumn("label", ColumnType.STRING)
+        .addCategoricalColumn("segment");
+    int value = builder.indexOf("value");
+    int rows = ColumnBuilder.CHUNK_SIZE + 10;
+    for (int row = 0; row < rows; row++) {
+      builder.appendLong("id", row)
+          .appendDouble(value, row / 2.0)
+          .appendString("label", row % 2 == 0 ? "even" : null)
+          .appendString("segment", row % 3 == 0 ? "a" : "b");
+    }
+
+    var df = builder.build();
+
+    assertThat(df.getRowSize()).isEqualTo(rows);
+    assertThat(df.<Long>get("id", rows - 1)).isEqualTo(rows - 1L);
+    assertThat(df.getDouble("value", 3)).isEqualTo(1.5);
+    assertThat(df.<String>get("label", 1)).isNull();
+    assertThat(df.getColumn("value").isPrimitive()).isTrue();
+    assertThat(df.getColumn("segment")).isInstanceOf(CategoricalColumn.class);
+    assertThrows(IllegalArgumentException.class, () -> builder.appendDouble("id", 1.0));
+    assertThrows(IllegalArgumentException.class, () -> builder.appendLong("unknown", 1L));
+    assertThrows(IllegalArgumentException.class, () -> builder.addColumn("id", ColumnType.LONG));
+    assertThrows(IllegalArgumentException.class, () -> builder.appendLong("id", 1L).build());
+  }
+
+  @Test
+  public void must_compute_and_cache_column_statistics() {
+    int rows = 100_000;
+    var values = range(0, rows).mapToDouble(row -> (row % 100) * 0.5).toArray();
+    var df = Dataframes.create(
+        new DoubleColumn("x", values),
+        new Column<>("y", 1L, null, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L)
+            .select(range(0, rows).map(row -> row % 10).toArray()),
+        new Column<>("name", range(0, rows).mapToObj(row -> "n" + row).collect(toList()))
+    );
+
+    var stats = df.getColumn("x").stats();
+    double mean = stream(values).average().orElseThrow();
+    double variance = stream(values).map(v -> (v - mean) * (v - mean)).sum()
+        / (rows - 1);
+    assertThat(stats.count()).isEqualTo(rows);
+    assertThat(stats.mean()).isCloseTo(mean, within(1e-9));
+    assertThat(stats.variance()).isCloseTo(variance, within(1e-9));
+    assertThat(stats.min()).isEqualTo(0.0);
+    assertThat(stats.max()).isEqualTo(49.5);
+    assertThat(df.getColumn("x").stats()).isSameAs(stats);
+
+    var described = df.describe();
+    assertThat(described.<String>get("statistic"))
+        .containsExactly("count", "mean", "std", "min", "max");
+    assertThat(described.getColumnSize()).isEqualTo(3);
+    assertThat(described.getDouble("y", 0)).isEqualTo(90_000.0);
+    assertThat(described.getDouble("y", 3)).isEqualTo(1.0);
+  }
+
+  @Test
+  public void must_standardize_matrix_with_cached_statistics() {
+    var df = Dataframes.create(
+        new DoubleColumn("x", new double[]{1, 2, 3, 4}),
+        new LongColumn("y", new long[]{10, 10, 20, 20})
+    );
+
+    var standardized = df.toStandardizedMatrix();
+
+    assertThat(standardized.getColumn(0).sumNumber().doubleValue()).isCloseTo(0.0, within(1e-9));
+    assertThat(standardized.getColumn(1).std(0).getDouble(0)).isCloseTo(1.0, within(1e-4));
+    assertThat(df.toMatrix().getDouble(0, 0)).isEqualTo(1.0);
+  }
+
+  @Test
+  public void must_approximate_quantiles_with_mergeable_sketches() {
+    int rows = 1_000_000;
+    var random = new Random(5L);
+    var values = range(0, rows).mapToDouble(row -> random.nextGaussian()).toArray();
+    var column = new DoubleColumn("x", values);
+    var sorted = values.clone();
+    Arrays.sort(sorted);
+
+    var sketch = column.sketch();
+
+    assertThat(sketch.count()).isEqualTo(rows);
+    assertThat(sketch.getRetainedItems()).isLessThan(2_000);
+    for (double rank : new double[]{0.01, 0.1, 0.5, 0.9, 0.99}) {
+      double estimate = sketch.quantile(rank);
+      int estimatedRank = Arrays.binarySearch(sorted, estimate);
+      assertThat(Math.abs(estimatedRank / (double) rows - rank)).isLessThan(0.02);
+    }
+    assertThat(sketch.quantile(0)).isEqualTo(sorted[0]);
+    assertThat(sketch.quantile(1)).isEqualTo(sorted[rows - 1]);
+    assertThat(column.quantile(0.5)).isEqualTo(sketch.quantile(0.5));
+
+    var edges = sketch.binEdges(4);
+    assertThat(edges).hasSize(5);
+    assertThat(edges).isSorted();
+
+    var left = QuantileSketch.of(new double[]{1, 2, 3});
+    var right = QuantileSketch.of(new double[]{4, 5});
+    var merged = left.merge(right);
+    assertThat(merged.count()).isEqualTo(5);
+    assertThat(merged.quantile(0.5)).isEqualTo(3.0);
+    assertThat(left.count()).isEqualTo(3);
+    assertThrows(IllegalArgumentException.class, () -> merged.quantile(1.5));
+  }
 }
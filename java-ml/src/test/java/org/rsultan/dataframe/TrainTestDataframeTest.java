@@ -9,6 +9,7 @@ import static org.junit.jupiter.params.provider.Arguments.of;
 import static org.rsultan.utils.TestUtils.getResourceFileName;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -117,6 +118,91 @@ public class TrainTestDataframeTest {
     assertTrainTest(expectedRows, expectedCols, dfSplit, expectedTrainSize);
   }
 
+  @Test
+  public void must_shuffle_and_split_through_shared_permutation_views() {
+    var source = new DoubleColumn("x", range(0, 100).mapToDouble(i -> i).toArray());
+    var dataframe = Dataframes.trainTest(source, new Column<>("label",
+        range(0, 100).mapToObj(i -> "label" + i).collect(toList())));
+
+    var shuffled = dataframe.shuffle(42L);
+    var dfSplit = shuffled.split();
+
+    var shuffledColumn = (IndexedColumn<?>) shuffled.getColumn("x");
+    var trainColumn = (IndexedColumn<?>) dfSplit.train().getColumn("x");
+    var testColumn = (IndexedColumn<?>) dfSplit.test().getColumn("x");
+    assertThat(shuffledColumn.getParent()).isSameAs(source);
+    assertThat(trainColumn.getIndices()).isSameAs(shuffledColumn.getIndices());
+    assertThat(testColumn.getIndices()).isSameAs(shuffledColumn.getIndices());
+    assertThat(dataframe.shuffle(42L).getData()).isEqualTo(shuffled.getData());
+    assertThat(shuffled.getData()).isNotEqualTo(dataframe.getData());
+    assertThat(shuffled.<String>get("label", 10))
+        .isEqualTo("label" + (int) shuffled.getDouble("x", 10));
+    assertThat(testColumn.getDouble(0)).isEqualTo(shuffled.getDouble("x", 75));
+    assertThat(stream(shuffled.toVector("x").toDoubleVector()).sorted().toArray())
+        .isEqualTo(range(0, 100).mapToDouble(i -> i).toArray());
+  }
+
+  @Test
+  public void must_build_k_folds_as_disjoint_views() {
+    var source = new DoubleColumn("x", range(0, 10).mapToDouble(i -> i).toArray());
+    var folds = Dataframes.trainTest(source).kFold(3);
+
+    assertThat(folds.size()).isEqualTo(3);
+    assertThat(folds.stream().mapToInt(fold -> fold.test().getRowSize()).toArray())
+        .isEqualTo(new int[]{3, 3, 4});
+    assertThat(folds.get(1).test().toVector("x").toDoubleVector())
+        .isEqualTo(new double[]{3, 4, 5});
+    assertThat(folds.get(1).train().toVector("x").toDoubleVector())
+        .isEqualTo(new double[]{0, 1, 2, 6, 7, 8, 9});
+    var trainColumn = (IndexedColumn<?>) folds.get(1).train().getColumn("x");
+    var testColumn = (IndexedColumn<?>) folds.get(1).test().getColumn("x");
+    assertThat(trainColumn.getParent()).isSameAs(source);
+    assertThat(testColumn.getIndices()).isSameAs(trainColumn.getIndices());
+    assertThrows(IllegalArgumentException.class, () -> Dataframes.trainTest(source).kFold(1));
+    assertThrows(IllegalArgumentException.class, () -> Dataframes.trainTest(source).kFold(11));
+  }
+
+  @Test
+  public void must_build_stratified_k_folds() {
+    var labels = range(0, 12).mapToObj(i -> i < 9 ? "a" : "b").collect(toList());
+    var dataframe = Dataframes.trainTest(
+        new DoubleColumn("x", range(0, 12).mapToDouble(i -> i).toArray()),
+        new Column<>("label", labels)
+    ).shuffle(7L);
+
+    var folds = dataframe.stratifiedKFold(3, "label");
+
+    var allTests = new ArrayList<Double>();
+    for (var fold : folds) {
+      var testLabels = fold.test().<String>get("label");
+      assertThat(testLabels.stream().filter("a"::equals).count()).isEqualTo(3L);
+      assertThat(testLabels.stream().filter("b"::equals).count()).isEqualTo(1L);
+      assertThat(fold.train().getRowSize()).isEqualTo(8);
+      fold.test().<Double>get("x").forEach(allTests::add);
+    }
+    assertThat(allTests.stream().sorted().collect(toList()))
+        .isEqualTo(range(0, 12).mapToObj(i -> (double) i).collect(toList()));
+  }
+
+  @Test
+  public void must_build_reproducible_repeated_holdouts() {
+    var dataframe = Dataframes.trainTest(
+        new DoubleColumn("x", range(0, 20).mapToDouble(i -> i).toArray())
+    ).setSplitValue(0.8);
+
+    var holdouts = dataframe.repeatedHoldout(4, 13L);
+    var again = dataframe.repeatedHoldout(4, 13L);
+
+    assertThat(holdouts.size()).isEqualTo(4);
+    for (int i = 0; i < holdouts.size(); i++) {
+      assertThat(holdouts.get(i).train().getRowSize()).isEqualTo(16);
+      assertThat(holdouts.get(i).test().getRowSize()).isEqualTo(4);
+      assertThat(holdouts.get(i).test().getData()).isEqualTo(again.get(i).test().getData());
+    }
+    assertThat(holdouts.get(0).test().getData()).isNotEqualTo(holdouts.get(1).test().getData());
+    assertThrows(IllegalArgumentException.class, () -> dataframe.repeatedHoldout(0, 13L));
+  }
+
   @ParameterizedTest
   @MethodSource("params_that_must_throw_IllegalArgumentException_when_split_value_is_wrong")
   public void must_throw_IllegalArgumentException_when_split_value_is_wrong(double splitValue) {
@@ -0,0 +1,151 @@
+package org.rsultan.dataframe.columnar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.nd4j.linalg.api.buffer.DataType.DOUBLE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nd4j.linalg.factory.Nd4j;
+import org.rsultan.dataframe.ChunkedColumn;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.Row;
+
+public class ColumnarFormatTest {
+
+  static {
+    Nd4j.setDefaultDataTypes(DOUBLE, DOUBLE);
+  }
+
+  private Path file;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    file = Files.createTempFile("dataframe", ".rsdf");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void must_save_and_open_dataframe() throws IOException {
+    var df = Dataframes.create(
+        new Column<>("doubles", 1.5D, -2.0D, 3.25D),
+        new Column<>("longs", 1L, 2L, -3L),
+        new Column<>("booleans", true, false, true),
+        new Column<>("strings", "a", null, "a")
+    );
+
+    df.save(file.toString());
+    var opened = Dataframes.open(file.toString());
+
+    assertThat(opened.getColumn("doubles")).isInstanceOf(MappedDoubleColumn.class);
+    assertThat(opened.getColumn("longs")).isInstanceOf(MappedLongColumn.class);
+    assertThat(opened.getColumn("booleans")).isInstanceOf(MappedBooleanColumn.class);
+    assertThat(opened.getColumn("strings")).isInstanceOf(MappedStringColumn.class);
+    assertThat(opened.getData()).isEqualTo(df.getData());
+    assertThat(opened.toMatrix("doubles", "longs", "booleans"))
+        .isEqualTo(df.toMatrix("doubles", "longs", "booleans"));
+  }
+
+  @Test
+  public void must_serialize_mapped_columns() throws Exception {
+    var df = Dataframes.create(
+        new Column<>("doubles", 1.5D, -2.0D, 3.25D),
+        new Column<>("longs", 1L, 2L, -3L),
+        new Column<>("booleans", true, false, true),
+        new Column<>("strings", "a", null, "a")
+    );
+    df.save(file.toString());
+    var opened = Dataframes.open(file.toString());
+
+    for (var name : new String[]{"doubles", "longs", "booleans", "strings"}) {
+      var column = opened.getColumn(name);
+      var copy = (Column<?>) deserialize(serialize(column));
+
+      assertThat(copy.columnName()).isEqualTo(name);
+      assertThat(copy.values()).isEqualTo(column.values());
+      assertThat(deserialize(serialize(column.values()))).isEqualTo(column.values());
+    }
+  }
+
+  @Test
+  public void must_store_blocks_with_statistics() throws IOException {
+    int rows = 150_000;
+    var values = IntStream.range(0, rows).mapToDouble(i -> i).toArray();
+    var labels = IntStream.range(0, rows).mapToObj(i -> "label" + i % 3)
+        .collect(Collectors.toList());
+    var df = Dataframes.create(
+        new Column<>("x", IntStream.range(0, rows).mapToObj(i -> values[i])
+            .collect(Collectors.toList())),
+        new Column<>("label", labels)
+    );
+
+    df.filter("x", (Double x) -> x >= 0).save(file.toString());
+    var metadata = ColumnarReader.readMetadata(file.toString());
+    var opened = Dataframes.open(file.toString());
+
+    assertThat(metadata).hasSize(2);
+    assertThat(metadata.get(0).type()).isEqualTo(StorageType.DOUBLE);
+    assertThat(metadata.get(0).rows()).isEqualTo(rows);
+    assertThat(metadata.get(0).blocks()).hasSize(3);
+    assertThat(metadata.get(0).blocks().get(1).min()).isEqualTo(65_536.0D);
+    assertThat(metadata.get(0).blocks().get(1).max()).isEqualTo(131_071.0D);
+    assertThat(metadata.get(1).type()).isEqualTo(StorageType.STRING);
+    assertThat(opened.getColumn("x")).isInstanceOf(ChunkedColumn.class);
+    assertThat(opened.getDouble("x", 140_000)).isEqualTo(140_000.0D);
+    assertThat(opened.<String>get("label", 140_000)).isEqualTo("label2");
+    assertThat(opened.filter("label", "label0"::equals).getRowSize()).isEqualTo(rows / 3);
+  }
+
+  @Test
+  public void must_save_empty_dataframe() throws IOException {
+    Dataframes.create(new Column<>("x", new Double[0])).save(file.toString());
+
+    var opened = Dataframes.open(file.toString());
+
+    assertThat(opened.getColumnSize()).isEqualTo(1);
+    assertThat(opened.getRowSize()).isZero();
+  }
+
+  @Test
+  public void must_throw_exception_when_column_mixes_types() {
+    var df = Dataframes.create(new String[]{"c1"}, new Row(1L), new Row("a"));
+
+    assertThrows(IllegalArgumentException.class, () -> df.save(file.toString()));
+  }
+
+  @Test
+  public void must_throw_exception_when_file_is_not_columnar() throws IOException {
+    Files.writeString(file, "a,b,c\n1,2,3\n");
+
+    assertThrows(IllegalArgumentException.class, () -> Dataframes.open(file.toString()));
+  }
+
+  private static byte[] serialize(Object value) throws IOException {
+    var bytes = new ByteArrayOutputStream();
+    try (var output = new ObjectOutputStream(bytes)) {
+      output.writeObject(value);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static Object deserialize(byte[] bytes) throws Exception {
+    try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return input.readObject();
+    }
+  }
+}
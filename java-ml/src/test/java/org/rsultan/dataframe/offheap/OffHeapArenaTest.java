@@ -0,0 +1,161 @@
+package org.rsultan.dataframe.offheap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.nd4j.linalg.api.buffer.DataType.DOUBLE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.nd4j.linalg.factory.Nd4j;
+import org.rsultan.dataframe.Column;
+import org.rsultan.dataframe.Dataframe;
+import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.DoubleColumn;
+import org.rsultan.dataframe.LongColumn;
+
+public class OffHeapArenaTest {
+
+  static {
+    Nd4j.setDefaultDataTypes(DOUBLE, DOUBLE);
+  }
+
+  private final Dataframe dataframe = Dataframes.create(
+      new Column<>("x", 1.0D, 2.0D, 3.0D, 4.0D),
+      new Column<>("y", 10L, 20L, 30L, 40L),
+      new Column<>("label", "a", "b", "a", "b")
+  );
+
+  @Test
+  public void must_move_numeric_columns_off_heap() {
+    try (var arena = new OffHeapArena()) {
+      var offHeap = arena.copyOf(dataframe);
+
+      assertThat(offHeap.getColumn("x")).isInstanceOf(OffHeapDoubleColumn.class);
+      assertThat(offHeap.getColumn("y")).isInstanceOf(OffHeapLongColumn.class);
+      assertThat(offHeap.getColumn("label")).isSameAs(dataframe.getColumn("label"));
+      assertThat(offHeap.getData()).isEqualTo(dataframe.getData());
+      assertThat(arena.allocatedBytes()).isEqualTo(64L);
+    }
+  }
+
+  @Test
+  public void must_copy_off_heap_columns_to_matrix() {
+    try (var arena = new OffHeapArena()) {
+      var offHeap = arena.copyOf(dataframe).map("z", (Double x) -> x * 2, "x");
+      var filtered = arena.copyOf(offHeap.filter("label", "a"::equals));
+
+      assertThat(offHeap.toMatrix("x", "y")).isEqualTo(dataframe.toMatrix("x", "y"));
+      assertThat(offHeap.toMatrix('f', "x", "y")).isEqualTo(dataframe.toMatrix('f', "x", "y"));
+      assertThat(offHeap.toVector("x")).isEqualTo(dataframe.toVector("x"));
+      assertThat(filtered.getColumn("z")).isInstanceOf(OffHeapDoubleColumn.class);
+      assertThat(filtered.toMatrix("x", "z"))
+          .isEqualTo(Nd4j.create(new double[][]{{1.0D, 2.0D}, {3.0D, 6.0D}}));
+    }
+  }
+
+  @Test
+  public void must_copy_large_off_heap_columns_to_row_major_matrix() {
+    int rows = 50_000;
+    var large = Dataframes.create(
+        new DoubleColumn("x", IntStream.range(0, rows).mapToDouble(row -> row).toArray()),
+        new DoubleColumn("y", IntStream.range(0, rows).mapToDouble(row -> -row).toArray())
+    );
+    try (var arena = new OffHeapArena()) {
+      var matrix = arena.copyOf(large).toMatrix("x", "y");
+
+      assertThat(matrix).isEqualTo(large.toMatrix("x", "y"));
+      assertThat(matrix.getDouble(rows - 1, 1)).isEqualTo(1.0D - rows);
+    }
+  }
+
+  @Test
+  public void must_serialize_off_heap_columns_as_heap_columns() throws Exception {
+    try (var arena = new OffHeapArena()) {
+      var offHeap = arena.copyOf(dataframe);
+
+      for (var name : new String[]{"x", "y"}) {
+        var column = offHeap.getColumn(name);
+        var copy = (Column<?>) deserialize(serialize(column));
+
+        assertThat(copy).isInstanceOfAny(DoubleColumn.class, LongColumn.class);
+        assertThat(copy.columnName()).isEqualTo(name);
+        assertThat(copy.values()).isEqualTo(dataframe.getColumn(name).values());
+        assertThat(deserialize(serialize(column.values()))).isEqualTo(column.values());
+      }
+    }
+  }
+
+  @Test
+  public void must_reject_access_after_close() {
+    var arena = new OffHeapArena();
+    var offHeap = arena.copyOf(dataframe);
+    arena.close();
+
+    assertThat(arena.isClosed()).isTrue();
+    assertThat(arena.allocatedBytes()).isZero();
+    assertThrows(IllegalStateException.class, () -> offHeap.getDouble("x", 0));
+    assertThrows(IllegalStateException.class, () -> offHeap.toMatrix("x"));
+    assertThrows(IllegalStateException.class, () -> arena.copyOf(dataframe));
+  }
+
+  @Test
+  public void must_copy_long_columns_without_losing_precision() {
+    long large = (1L << 53) + 1;
+    try (var arena = new OffHeapArena()) {
+      var column = (OffHeapLongColumn) arena.copyOf(
+          new LongColumn("l", new long[]{large, -large, 0L}));
+
+      assertThat(column.getLong(0)).isEqualTo(large);
+      assertThat(column.getLong(1)).isEqualTo(-large);
+    }
+  }
+
+  @Test
+  public void must_not_free_memory_while_columns_are_read() throws Exception {
+    var arena = new OffHeapArena();
+    var column = arena.copyOf(new DoubleColumn("x", new double[1 << 16]));
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var readers = IntStream.range(0, 4).mapToObj(idx -> executor.submit(() -> {
+        var target = new double[column.size()];
+        try {
+          while (true) {
+            column.copyDoubles(0, column.size(), target, 0, 1);
+            assertThat(target[target.length - 1]).isZero();
+          }
+        } catch (IllegalStateException e) {
+          return e.getMessage();
+        }
+      })).collect(Collectors.toList());
+      Thread.sleep(50);
+      arena.close();
+
+      for (var reader : readers) {
+        assertThat(reader.get()).isEqualTo("Off-heap arena is closed");
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static byte[] serialize(Object value) throws IOException {
+    var bytes = new ByteArrayOutputStream();
+    try (var output = new ObjectOutputStream(bytes)) {
+      output.writeObject(value);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static Object deserialize(byte[] bytes) throws Exception {
+    try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return input.readObject();
+    }
+  }
+}
@@ -0,0 +1,273 @@
+package org.rsultan.dataframe.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.rsultan.dataframe.reader.ColumnType.DOUBLE;
+import static org.rsultan.dataframe.reader.ColumnType.LONG;
+import static org.rsultan.dataframe.reader.ColumnType.STRING;
+import static org.rsultan.utils.TestUtils.getResourceFileName;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.rsultan.dataframe.CategoricalColumn;
+import org.rsultan.dataframe.ChunkedColumn;
+import org.rsultan.dataframe.Dataframes;
+import org.rsultan.dataframe.DoubleColumn;
+import org.rsultan.dataframe.LongColumn;
+
+public class CSVReaderTest {
+
+  private Path file;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    file = Files.createTempFile("csv-reader", ".csv");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void must_infer_schema_and_store_primitive_columns() throws IOException {
+    var columns = new CSVReader(getResourceFileName("org/rsultan/utils/example.csv")).readColumns();
+
+    assertThat(columns[0]).isInstanceOf(LongColumn.class);
+    assertThat(columns[1]).isInstanceOf(DoubleColumn.class);
+    assertThat((List<Object>) columns[4].values()).containsExactly("a", "b", "c", "d", "e", "f");
+  }
+
+  @Test
+  public void must_use_declared_schema() throws IOException {
+    Files.writeString(file, "a,b,c\n1,2,3\n4,5,6\n");
+
+    var df = new CSVReader(file.toString()).setSchema(DOUBLE, LONG, STRING).read();
+
+    assertThat(df.get("a")).containsExactly(1.0D, 4.0D);
+    assertThat(df.get("b")).containsExactly(2L, 5L);
+    assertThat(df.get("c")).containsExactly("3", "6");
+  }
+
+  @Test
+  public void must_reject_values_not_matching_declared_schema() throws IOException {
+    Files.writeString(file, "a,b,c\n1,2,3\n4,5.5,6\n");
+
+    var exception = assertThrows(IllegalArgumentException.class,
+        () -> new CSVReader(file.toString()).setSchema(DOUBLE, LONG, STRING).read());
+    assertThat(exception.getMessage()).isEqualTo("Line 3, column b: '5.5' is not a LONG value");
+
+    Files.writeString(file, "a,b,c\n1,2,3\nx,5,6\n");
+    exception = assertThrows(IllegalArgumentException.class,
+        () -> new CSVReader(file.toString()).setSchema(DOUBLE, LONG, STRING).read());
+    assertThat(exception.getMessage()).isEqualTo("Line 3, column a: 'x' is not a DOUBLE value");
+  }
+
+  @Test
+  public void must_promote_column_when_sample_is_too_small() throws IOException {
+    Files.writeString(file, "a,b\n1,1\n2.5,2\n3,x\n");
+
+    var df = new CSVReader(file.toString()).setSampleSize(1).read();
+
+    assertThat(df.get("a")).containsExactly(1.0D, 2.5D, 3.0D);
+    assertThat(df.get("b")).containsExactly(1L, 2L, "x");
+  }
+
+  @Test
+  public void must_parse_doubles_like_the_jdk() throws IOException {
+    var random = new Random(42);
+    var values = IntStream.range(0, 1000)
+        .mapToObj(i -> String.format("%.6f", (random.nextDouble() - 0.5) * 1e6))
+        .collect(Collectors.toList());
+    Files.writeString(file, "x\n" + String.join("\n", values) + "\n123456789.123456789\n");
+
+    var df = new CSVReader(file.toString()).read();
+
+    IntStream.range(0, values.size()).forEach(idx ->
+        assertThat(df.getDouble("x", idx)).isEqualTo(Double.parseDouble(values.get(idx))));
+    assertThat(df.getDouble("x", values.size())).isEqualTo(123456789.123456789D);
+  }
+
+  @Test
+  public void must_keep_quoted_separators_and_newlines() throws IOException {
+    Files.writeString(file, "id;text\r\n1;\"a;b\"\r\n2;\"multi\nline \"\"quoted\"\" \"\r\n");
+
+    var df = new CSVReader(file.toString()).setSeparator(";").read();
+
+    assertThat(df.get("id")).containsExactly(1L, 2L);
+    assertThat(df.get("text")).containsExactly("a;b", "multi\nline \"quoted\" ");
+  }
+
+  @Test
+  public void must_store_large_columns_in_chunks() throws IOException {
+    int rows = 200_000;
+    Files.writeString(file, "x\n" + IntStream.range(0, rows).mapToObj(String::valueOf)
+        .collect(Collectors.joining("\n")));
+
+    var df = new CSVReader(file.toString()).read();
+
+    assertThat(df.getColumn("x")).isInstanceOf(ChunkedColumn.class);
+    assertThat(df.getRowSize()).isEqualTo(rows);
+    assertThat(df.getDouble("x", 131_073)).isEqualTo(131_073.0D);
+    assertThat(df.toMatrix().getDouble(rows - 1, 0)).isEqualTo(rows - 1.0D);
+  }
+
+  @Test
+  public void must_read_byte_ranges_in_parallel() throws IOException {
+    int rows = 100_000;
+    Files.writeString(file, "id,value,label\n" + IntStream.range(0, rows)
+        .mapToObj(i -> i + "," + (i % 7 == 0 ? i : i + 0.5) + ",label" + i % 3)
+        .collect(Collectors.joining("\n")));
+
+    var sequential = new CSVReader(file.toString()).read();
+    var parallel = Dataframes.csv(file.toString(), ",", "\"", true, 8);
+
+    assertThat(parallel.getColumn("id")).isInstanceOf(ChunkedColumn.class);
+    assertThat(parallel.getColumn("value").isPrimitive()).isTrue();
+    assertThat(parallel.getRowSize()).isEqualTo(rows);
+    assertThat(parallel.get("id")).isEqualTo(sequential.get("id"));
+    assertThat(parallel.get("value")).isEqualTo(sequential.get("value"));
+    assertThat(parallel.get("label")).isEqualTo(sequential.get("label"));
+  }
+
+  @Test
+  public void must_keep_quoted_newlines_across_byte_ranges() throws IOException {
+    var text = "\"" + "line\n".repeat(20_000) + "\"";
+    Files.writeString(file, "id,text\n" + IntStream.range(0, 40)
+        .mapToObj(i -> i + "," + text)
+        .collect(Collectors.joining("\n")));
+
+    var df = new CSVReader(file.toString()).setParallelism(16).read();
+
+    assertThat(df.get("id")).isEqualTo(LongStream.range(0, 40).boxed().collect(Collectors.toList()));
+    assertThat(df.get("text")).containsOnly("line\n".repeat(20_000));
+  }
+
+  @Test
+  public void must_reread_only_ranges_sharing_a_quoted_newline() throws IOException {
+    var multiline = "\"" + "line\n".repeat(200_000) + "\"";
+    var content = "id,text\n" + IntStream.range(0, 200_000)
+        .mapToObj(i -> i + "," + (i % 50_000 == 25_000 ? multiline : "value" + i))
+        .collect(Collectors.joining("\n"));
+    Files.writeString(file, content + "\n1");
+
+    var exception = assertThrows(IllegalArgumentException.class,
+        () -> new CSVReader(file.toString()).setParallelism(8).read());
+    Files.writeString(file, content + "\n1,last");
+    var parallel = new CSVReader(file.toString()).setParallelism(8).read();
+    var sequential = new CSVReader(file.toString()).read();
+
+    assertThat(exception.getMessage())
+        .isEqualTo("Line " + (200_002 + 4 * 200_000) + " has 1 values instead of 2");
+    assertThat(parallel.getRowSize()).isEqualTo(200_001);
+    assertThat(parallel.get("id")).isEqualTo(sequential.get("id"));
+    assertThat(parallel.get("text")).isEqualTo(sequential.get("text"));
+  }
+
+  @Test
+  public void must_cut_oversized_ranges_on_line_starts() throws IOException {
+    var content = "id,text\n" + IntStream.range(0, 5_000)
+        .mapToObj(i -> i + ",value" + i)
+        .collect(Collectors.joining("\n"));
+    Files.writeString(file, content);
+
+    var ranges = MappedFileRanges.split(file, 1, 1_000);
+
+    assertThat(ranges.size()).isGreaterThan(content.length() / 1_000);
+    var text = new StringBuilder();
+    for (var range : ranges) {
+      assertThat(range.remaining()).isLessThanOrEqualTo(1_000);
+      var bytes = new byte[range.remaining()];
+      range.duplicate().get(bytes);
+      text.append(new String(bytes, StandardCharsets.UTF_8));
+      assertThat(text.charAt(text.length() - 1) == '\n' || text.length() == content.length())
+          .isTrue();
+    }
+    assertThat(text.toString()).isEqualTo(content);
+  }
+
+  @Test
+  public void must_report_absolute_line_of_invalid_record_read_in_parallel() throws IOException {
+    Files.writeString(file, "a,b\n" + IntStream.range(0, 100_000)
+        .mapToObj(i -> i == 90_000 ? "1" : i + "," + i)
+        .collect(Collectors.joining("\n")));
+
+    var exception = assertThrows(IllegalArgumentException.class,
+        () -> new CSVReader(file.toString()).setParallelism(8).read());
+
+    assertThat(exception.getMessage()).isEqualTo("Line 90002 has 1 values instead of 2");
+  }
+
+  @Test
+  public void must_build_categorical_columns_at_ingest() throws IOException {
+    int rows = 100_000;
+    Files.writeString(file, "id,color\n" + IntStream.range(0, rows)
+        .mapToObj(i -> i + "," + List.of("red", "green", "blue").get(i % 3))
+        .collect(Collectors.joining("\n")));
+
+    var df = new CSVReader(file.toString()).setCategorical("color").setParallelism(4).read();
+
+    var color = (CategoricalColumn<Object>) df.getColumn("color");
+    assertThat(color.cardinality()).isEqualTo(3);
+    assertThat(df.<String>get("color", 99_999)).isEqualTo("red");
+    assertThat(df.oneHotEncode("color").get("green").stream().filter(Boolean.TRUE::equals))
+        .hasSize(rows / 3);
+  }
+
+  @Test
+  public void must_only_load_selected_columns() throws IOException {
+    var df = Dataframes.csv(getResourceFileName("org/rsultan/utils/example.csv"),
+        new String[]{"x3", "y"});
+
+    assertThat(df.getColumnSize()).isEqualTo(2);
+    assertThat(df.getColumns()[0].columnName()).isEqualTo("x3");
+    assertThat(df.get("y")).containsExactly(1L, 2L, 3L, 4L, 5L, -6L);
+  }
+
+  @Test
+  public void must_drop_rejected_rows_while_parsing() throws IOException {
+    int rows = 100_000;
+    var header = IntStream.range(0, 300).mapToObj(i -> "c" + i).collect(Collectors.joining(","));
+    Files.writeString(file, header + "\n" + IntStream.range(0, rows)
+        .mapToObj(i -> IntStream.range(0, 300).mapToObj(c -> String.valueOf(i + c))
+            .collect(Collectors.joining(",")))
+        .collect(Collectors.joining("\n")));
+
+    var df = new CSVReader(file.toString())
+        .setColumns("c299", "c0")
+        .setFilter("c1", (Long value) -> value % 10 == 0)
+        .setParallelism(4)
+        .read();
+
+    assertThat(df.getColumnSize()).isEqualTo(2);
+    assertThat(df.getRowSize()).isEqualTo(rows / 10);
+    assertThat(df.<Long>get("c0", 0)).isEqualTo(9L);
+    assertThat(df.<Long>get("c299", 1)).isEqualTo(318L);
+  }
+
+  @Test
+  public void must_throw_exception_when_projected_column_is_unknown() {
+    assertThrows(IllegalArgumentException.class,
+        () -> Dataframes.csv(getResourceFileName("org/rsultan/utils/example.csv"),
+            new String[]{"unknown"}));
+  }
+
+  @Test
+  public void must_throw_exception_when_row_has_wrong_size() throws IOException {
+    Files.writeString(file, "a,b\n1,2\n3\n");
+
+    assertThrows(IllegalArgumentException.class, () -> new CSVReader(file.toString()).read());
+    assertThrows(IllegalArgumentException.class,
+        () -> new CSVReader(file.toString()).setParallelism(4).read());
+  }
+}